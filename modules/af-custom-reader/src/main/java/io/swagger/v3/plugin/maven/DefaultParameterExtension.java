@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.oas.models.Components;
@@ -36,6 +37,18 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                                                boolean includeRequestBody,
                                                JsonView jsonViewAnnotation,
                                                Iterator<OpenAPIExtension> chain) {
+        return extractParameters(annotations, type, typesToSkip, components, includeRequestBody, jsonViewAnnotation, ModelConverters.getInstance(), chain);
+    }
+
+    @Override
+    public ResolvedParameter extractParameters(List<Annotation> annotations,
+                                               Type type,
+                                               Set<Type> typesToSkip,
+                                               Components components,
+                                               boolean includeRequestBody,
+                                               JsonView jsonViewAnnotation,
+                                               ModelConverters modelConverters,
+                                               Iterator<OpenAPIExtension> chain) {
         if (shouldIgnoreType(type, typesToSkip)) {
             return new ResolvedParameter();
         }
@@ -56,7 +69,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
             } else {
                 List<Parameter> formParameters = new ArrayList<>();
                 List<Parameter> parameters = new ArrayList<>();
-                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, components, includeRequestBody, jsonViewAnnotation)) {
+                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, components, includeRequestBody, jsonViewAnnotation, modelConverters)) {
                     ResolvedParameter extractParametersResult = new ResolvedParameter();
                     extractParametersResult.parameters.addAll(parameters);
                     extractParametersResult.formParameters.addAll(formParameters);
@@ -77,7 +90,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     components,
                     new String[0],
                     new String[0],
-                    jsonViewAnnotation);
+                    jsonViewAnnotation,
+                    modelConverters);
             if (unknownParameter != null) {
                 if (StringUtils.isNotBlank(unknownParameter.getIn()) && !"form".equals(unknownParameter.getIn())) {
                     extractParametersResult.parameters.add(unknownParameter);
@@ -97,7 +111,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     components,
                     new String[0],
                     new String[0],
-                    jsonViewAnnotation);
+                    jsonViewAnnotation,
+                    modelConverters);
             if (processedParameter != null) {
                 extractParametersResult.parameters.add(processedParameter);
             }
@@ -115,7 +130,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
      */
 
     private boolean handleAdditionalAnnotation(List<Parameter> parameters, List<Parameter> formParameters, Annotation annotation,
-                                               final Type type, Set<Type> typesToSkip, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+                                               final Type type, Set<Type> typesToSkip, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation,
+                                               ModelConverters modelConverters) {
         boolean processed = false;
         // Use Jackson's logic for processing Beans
         final BeanDescription beanDesc = mapper.getSerializationConfig().introspect(constructType(type));
@@ -181,6 +197,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     components,
                     includeRequestBody,
                     jsonViewAnnotation,
+                    modelConverters,
                     extensions);
 
             List<Parameter> extractedParameters =
@@ -194,7 +211,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                         components,
                         new String[0],
                         new String[0],
-                        jsonViewAnnotation);
+                        jsonViewAnnotation,
+                        modelConverters);
                 if (processedParam != null) {
                     parameters.add(processedParam);
                 }
@@ -211,7 +229,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                         components,
                         new String[0],
                         new String[0],
-                        jsonViewAnnotation);
+                        jsonViewAnnotation,
+                        modelConverters);
                 if (processedParam != null) {
                     formParameters.add(processedParam);
                 }
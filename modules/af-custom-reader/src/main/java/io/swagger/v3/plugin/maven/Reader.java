@@ -11,6 +11,7 @@ import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.OperationIdIndex;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.PathUtils;
 import io.swagger.v3.core.util.ReflectionUtils;
@@ -76,6 +77,8 @@ public class Reader implements OpenApiReader {
     private Components components;
     private Paths paths;
     private Set<Tag> openApiTags;
+    private final OperationIdIndex operationIds = new OperationIdIndex();
+    private ModelConverters modelConverters = ModelConverters.getInstance();
 
     public Reader() {
         this.openAPI = new OpenAPI();
@@ -130,13 +133,24 @@ public class Reader implements OpenApiReader {
         });
         sortedClasses.addAll(classes);
 
-        for (Class<?> cls : sortedClasses) {
-            read(cls, resolveApplicationPath(), null, false, null, null,
-                    new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        // share resolved types across all operations of this pass
+        modelConverters.beginResolutionScope();
+        try {
+            for (Class<?> cls : sortedClasses) {
+                read(cls, resolveApplicationPath(), null, false, null, null,
+                        new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+            }
+        } finally {
+            modelConverters.endResolutionScope();
         }
         return openAPI;
     }
 
+    @Override
+    public void setModelConverters(ModelConverters modelConverters) {
+        this.modelConverters = modelConverters == null ? ModelConverters.getInstance() : modelConverters;
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         if (openApiConfiguration != null) {
@@ -327,10 +341,10 @@ public class Reader implements OpenApiReader {
         final List<Parameter> globalParameters = new ArrayList<>();
 
         // look for constructor-level annotated properties
-        globalParameters.addAll(ReaderUtils.collectConstructorParameters(cls, components, null));
+        globalParameters.addAll(ReaderUtils.collectConstructorParameters(cls, components, null, modelConverters));
 
         // look for field-level annotated properties
-        globalParameters.addAll(ReaderUtils.collectFieldParameters(cls, components, null));
+        globalParameters.addAll(ReaderUtils.collectFieldParameters(cls, components, null, modelConverters));
 
         // iterate class methods
         Method methods[] = cls.getMethods();
@@ -539,6 +553,7 @@ public class Reader implements OpenApiReader {
                     if (StringUtils.isBlank(httpMethod)) {
                         continue;
                     }
+                    operationIds.beforeUpdate(openAPI.getPaths(), operationPath, pathItemObject);
                     setPathItemOperation(pathItemObject, httpMethod, operation);
 
                     paths.addPathItem(operationPath, pathItemObject);
@@ -547,6 +562,7 @@ public class Reader implements OpenApiReader {
                     }
 
                     openAPI.setPaths(this.paths);
+                    operationIds.afterUpdate(openAPI.getPaths(), pathItemObject);
 
                 }
             }
@@ -608,7 +624,7 @@ public class Reader implements OpenApiReader {
 
         io.swagger.v3.oas.annotations.parameters.RequestBody requestBodyAnnotation = getRequestBody(Arrays.asList(paramAnnotations));
         if (requestBodyAnnotation != null) {
-            Optional<RequestBody> optionalRequestBody = OperationParser.getRequestBody(requestBodyAnnotation, components, jsonViewAnnotation);
+            Optional<RequestBody> optionalRequestBody = OperationParser.getRequestBody(requestBodyAnnotation, components, jsonViewAnnotation, modelConverters);
             if (optionalRequestBody.isPresent()) {
                 RequestBody requestBody = optionalRequestBody.get();
                 if (StringUtils.isBlank(requestBody.get$ref()) &&
@@ -833,7 +849,7 @@ public class Reader implements OpenApiReader {
 
         // RequestBody in Method
         if (apiRequestBody != null && operation.getRequestBody() == null) {
-            OperationParser.getRequestBody(apiRequestBody, components, jsonViewAnnotation).ifPresent(
+            OperationParser.getRequestBody(apiRequestBody, components, jsonViewAnnotation, modelConverters).ifPresent(
                     operation::setRequestBody);
         }
 
@@ -847,7 +863,8 @@ public class Reader implements OpenApiReader {
             OperationParser.getApiResponses(
                     classResponses,
                     components,
-                    jsonViewAnnotation
+                    jsonViewAnnotation,
+                    modelConverters
             ).ifPresent(responses -> {
                 if (operation.getResponses() == null) {
                     operation.setResponses(responses);
@@ -866,7 +883,8 @@ public class Reader implements OpenApiReader {
             OperationParser.getApiResponses(
                     apiResponses.toArray(new io.swagger.v3.oas.annotations.responses.ApiResponse[apiResponses.size()]),
                     components,
-                    jsonViewAnnotation
+                    jsonViewAnnotation,
+                    modelConverters
             ).ifPresent(responses -> {
                 if (operation.getResponses() == null) {
                     operation.setResponses(responses);
@@ -916,7 +934,7 @@ public class Reader implements OpenApiReader {
 
         final Class<?> subResource = getSubResourceWithJaxRsSubresourceLocatorSpecs(method);
         if (!shouldIgnoreClass(returnType.getTypeName()) && !method.getGenericReturnType().equals(subResource)) {
-            ResolvedSchema resolvedSchema = ModelConverters.getInstance().resolveAsResolvedSchema(new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation));
+            ResolvedSchema resolvedSchema = modelConverters.resolveAsResolvedSchema(new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation));
             if (resolvedSchema.schema != null) {
                 Schema returnTypeSchema = resolvedSchema.schema;
                 Content content = new Content();
@@ -979,7 +997,7 @@ public class Reader implements OpenApiReader {
         }
         ignore = ignore || rawClassName.startsWith("javax.ws.rs.");
         ignore = ignore || rawClassName.equalsIgnoreCase("void");
-        ignore = ignore || ModelConverters.getInstance().isRegisteredAsSkippedClass(rawClassName);
+        ignore = ignore || modelConverters.isRegisteredAsSkippedClass(rawClassName);
         return ignore;
     }
 
@@ -1074,7 +1092,7 @@ public class Reader implements OpenApiReader {
             AnnotationsUtils.getExternalDocumentation(apiOperation.externalDocs()).ifPresent(operation::setExternalDocs);
         }
 
-        OperationParser.getApiResponses(apiOperation.responses(), components, jsonViewAnnotation).ifPresent(responses -> {
+        OperationParser.getApiResponses(apiOperation.responses(), components, jsonViewAnnotation, modelConverters).ifPresent(responses -> {
             if (operation.getResponses() == null) {
                 operation.setResponses(responses);
             } else {
@@ -1098,7 +1116,7 @@ public class Reader implements OpenApiReader {
 
         // RequestBody in Operation
         if (apiOperation != null && apiOperation.requestBody() != null && operation.getRequestBody() == null) {
-            OperationParser.getRequestBody(apiOperation.requestBody(), components, jsonViewAnnotation).ifPresent(
+            OperationParser.getRequestBody(apiOperation.requestBody(), components, jsonViewAnnotation, modelConverters).ifPresent(
                     requestBodyObject -> operation.setRequestBody(requestBodyObject));
         }
 
@@ -1114,33 +1132,7 @@ public class Reader implements OpenApiReader {
     }
 
     protected String getOperationId(String operationId) {
-        boolean operationIdUsed = existOperationId(operationId);
-        String operationIdToFind = null;
-        int counter = 0;
-        while (operationIdUsed) {
-            operationIdToFind = String.format("%s_%d", operationId, ++counter);
-            operationIdUsed = existOperationId(operationIdToFind);
-        }
-        if (operationIdToFind != null) {
-            operationId = operationIdToFind;
-        }
-        return operationId;
-    }
-
-    private boolean existOperationId(String operationId) {
-        if (openAPI == null) {
-            return false;
-        }
-        if (openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
-            return false;
-        }
-        for (PathItem path : openAPI.getPaths().values()) {
-            Set<String> pathOperationIds = extractOperationIdFromPathItem(path);
-            if (pathOperationIds.contains(operationId)) {
-                return true;
-            }
-        }
-        return false;
+        return operationIds.getUniqueOperationId(openAPI.getPaths(), operationId);
     }
 
     protected Optional<List<Parameter>> getParametersListFromAnnotation(io.swagger.v3.oas.annotations.Parameter[] parameters, Operation operation, JsonView jsonViewAnnotation) {
@@ -1169,36 +1161,10 @@ public class Reader implements OpenApiReader {
         final OpenAPIExtension extension = chain.next();
         LOGGER.debug("trying extension {}", extension);
 
-        final ResolvedParameter extractParametersResult = extension.extractParameters(annotations, type, typesToSkip, components, true, jsonViewAnnotation, chain);
+        final ResolvedParameter extractParametersResult = extension.extractParameters(annotations, type, typesToSkip, components, true, jsonViewAnnotation, modelConverters, chain);
         return extractParametersResult;
     }
 
-    private Set<String> extractOperationIdFromPathItem(PathItem path) {
-        Set<String> ids = new HashSet<>();
-        if (path.getGet() != null && StringUtils.isNotBlank(path.getGet().getOperationId())) {
-            ids.add(path.getGet().getOperationId());
-        }
-        if (path.getPost() != null && StringUtils.isNotBlank(path.getPost().getOperationId())) {
-            ids.add(path.getPost().getOperationId());
-        }
-        if (path.getPut() != null && StringUtils.isNotBlank(path.getPut().getOperationId())) {
-            ids.add(path.getPut().getOperationId());
-        }
-        if (path.getDelete() != null && StringUtils.isNotBlank(path.getDelete().getOperationId())) {
-            ids.add(path.getDelete().getOperationId());
-        }
-        if (path.getOptions() != null && StringUtils.isNotBlank(path.getOptions().getOperationId())) {
-            ids.add(path.getOptions().getOperationId());
-        }
-        if (path.getHead() != null && StringUtils.isNotBlank(path.getHead().getOperationId())) {
-            ids.add(path.getHead().getOperationId());
-        }
-        if (path.getPatch() != null && StringUtils.isNotBlank(path.getPatch().getOperationId())) {
-            ids.add(path.getPatch().getOperationId());
-        }
-        return ids;
-    }
-
     private boolean isEmptyComponents(Components components) {
         if (components == null) {
             return true;
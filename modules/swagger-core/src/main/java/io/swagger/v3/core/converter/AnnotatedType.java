@@ -5,9 +5,7 @@ import io.swagger.v3.oas.models.media.Schema;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -24,6 +22,8 @@ public class AnnotatedType {
     private boolean skipSchemaName;
     private boolean skipJsonIdentity;
     private String propertyName;
+    // cached hash code, 0 when not computed yet; reset when type or ctxAnnotations change
+    private int hash;
 
     public AnnotatedType() {
     }
@@ -142,6 +142,7 @@ public class AnnotatedType {
 
     public void setCtxAnnotations(Annotation[] ctxAnnotations) {
         this.ctxAnnotations = ctxAnnotations;
+        this.hash = 0;
     }
 
     public AnnotatedType ctxAnnotations(Annotation[] ctxAnnotations) {
@@ -155,6 +156,7 @@ public class AnnotatedType {
 
     public void setType(Type type) {
         this.type = type;
+        this.hash = 0;
     }
 
     public AnnotatedType type(Type type) {
@@ -207,6 +209,10 @@ public class AnnotatedType {
         }
         AnnotatedType that = (AnnotatedType) o;
 
+        if (hash != 0 && that.hash != 0 && hash != that.hash) {
+            return false;
+        }
+
         if ((type == null && that.type != null) || (type != null && that.type == null)) {
             return false;
         }
@@ -218,28 +224,35 @@ public class AnnotatedType {
     }
 
 
+    /**
+     * The hash code is computed once and kept until the type or the context annotations are set again; the context
+     * annotations array must not be modified in place once the instance is used as a key.
+     */
     @Override
     public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = computeHashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    private int computeHashCode() {
         if (ctxAnnotations == null || ctxAnnotations.length == 0) {
             return Objects.hash(type, "fixed");
         }
-        List<Annotation> meaningfulAnnotations = new ArrayList<>();
-
-        boolean hasDifference = false;
+        // same as Arrays.hashCode of the annotations not coming from sun/jdk packages
+        int annotationsHash = 1;
         for (Annotation a: ctxAnnotations) {
-            if(!a.annotationType().getName().startsWith("sun") && !a.annotationType().getName().startsWith("jdk")) {
-                meaningfulAnnotations.add(a);
-            } else {
-                hasDifference = true;
+            String annotationName = a.annotationType().getName();
+            if (!annotationName.startsWith("sun") && !annotationName.startsWith("jdk")) {
+                annotationsHash = 31 * annotationsHash + a.hashCode();
             }
         }
         int result = 1;
         result = 31 * result + (type == null ? 0 : Objects.hash(type, "fixed"));
-        if (hasDifference) {
-            result = 31 * result + (meaningfulAnnotations == null ? 0 : Arrays.hashCode(meaningfulAnnotations.toArray(new Annotation[meaningfulAnnotations.size()])));
-        } else {
-            result = 31 * result + (ctxAnnotations == null ? 0 : Arrays.hashCode(ctxAnnotations));
-        }
+        result = 31 * result + annotationsHash;
         return result;
     }
 }
@@ -3,52 +3,132 @@ package io.swagger.v3.core.converter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.PrimitiveType;
+import io.swagger.v3.core.util.SharedExecutor;
 import io.swagger.v3.oas.models.media.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 public class ModelConverters {
     private static final ModelConverters SINGLETON = new ModelConverters();
     static Logger LOGGER = LoggerFactory.getLogger(ModelConverters.class);
+    private final ModelConverters parent;
     private final List<ModelConverter> converters;
     private final Set<String> skippedPackages = new HashSet<String>();
     private final Set<String> skippedClasses = new HashSet<String>();
+    private final ThreadLocal<ResolutionScope> resolutionScope = new ThreadLocal<>();
+    // bumped on each change, tells whether the chain computed last is still current
+    private volatile int modifications;
+    private volatile ChainStamp chainStamp;
+
+    private static final int SHARED_CACHE_SIZE = 1000;
+    private static volatile boolean sharedCacheEnabled;
+    private static volatile int sharedCacheGeneration;
+    // shared by the registries delegating to this one, and dropped with them
+    private final SharedCache sharedCache;
 
     public ModelConverters() {
+        parent = null;
+        sharedCache = new SharedCache();
         converters = new CopyOnWriteArrayList<>();
         converters.add(new ModelResolver(Json.mapper()));
     }
 
+    /**
+     * Creates a registry delegating to the given one, e.g. to add converters for one context only, without growing
+     * the chain shared by all of them. Its converters come first, followed by the converters the parent has at the
+     * time of each resolution; packages and classes skipped by the parent are skipped as well. Converters can only be
+     * removed from the registry they were added to.
+     *
+     * @since 2.0.11
+     */
+    public ModelConverters(ModelConverters parent) {
+        this.parent = parent;
+        sharedCache = parent.sharedCache;
+        converters = new CopyOnWriteArrayList<>();
+    }
+
     public static ModelConverters getInstance() {
         return SINGLETON;
     }
 
+    /**
+     * Enables or disables the cache of resolved schemas, shared by a registry and the registries delegating to it as
+     * long as they have the same converters and skipped packages and classes; disabling it clears it. Disabled by
+     * default. The cache is held by the registry, so that it never outlives the converters and types it references.
+     * <p>
+     * Results are handed out as deep copies, so callers can still customize them. Changes to the chain and to the
+     * {@link PrimitiveType} settings are accounted for; converters must however resolve a given type the same way as
+     * long as they are part of a chain, e.g. not change their ObjectMapper configuration.
+     *
+     * @since 2.0.11
+     */
+    public static void setSharedCacheEnabled(boolean enabled) {
+        sharedCacheEnabled = enabled;
+        if (!enabled) {
+            clearSharedCache();
+        }
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static boolean isSharedCacheEnabled() {
+        return sharedCacheEnabled;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static void clearSharedCache() {
+        // registries clear their cache on their next resolution
+        sharedCacheGeneration++;
+    }
+
     public void addConverter(ModelConverter converter) {
         converters.add(0, converter);
+        modifications++;
     }
 
     public void removeConverter(ModelConverter converter) {
         converters.remove(converter);
+        modifications++;
     }
 
     public void addPackageToSkip(String pkg) {
         this.skippedPackages.add(pkg);
+        modifications++;
     }
 
     public void addClassToSkip(String cls) {
         LOGGER.warn("skipping class " + cls);
         this.skippedClasses.add(cls);
+        modifications++;
     }
 
     public Map<String, Schema> read(Type type) {
@@ -58,12 +138,10 @@ public class ModelConverters {
     public Map<String, Schema> read(AnnotatedType type) {
         Map<String, Schema> modelMap = new HashMap<String, Schema>();
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-            Schema resolve = context.resolve(type);
-            for (Entry<String, Schema> entry : context.getDefinedModels()
+            ResolvedSchema resolvedSchema = resolve(type);
+            for (Entry<String, Schema> entry : resolvedSchema.referencedSchemas
                     .entrySet()) {
-                if (entry.getValue().equals(resolve)) {
+                if (entry.getValue().equals(resolvedSchema.schema)) {
                     modelMap.put(entry.getKey(), entry.getValue());
                 }
             }
@@ -77,46 +155,278 @@ public class ModelConverters {
 
     public Map<String, Schema> readAll(AnnotatedType type) {
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-
             LOGGER.debug("ModelConverters readAll from " + type);
-            context.resolve(type);
-            return context.getDefinedModels();
+            return resolve(type).referencedSchemas;
         }
         return new HashMap<String, Schema>();
     }
 
+    /**
+     * Resolves the given types with a single context, so that the types they share are resolved only once.
+     *
+     * @return the schemas defined while resolving the types
+     * @since 2.0.11
+     */
+    public Map<String, Schema> readAll(Collection<AnnotatedType> types) {
+        return resolveAll(types).referencedSchemas;
+    }
+
+    /**
+     * Resolves the given types with a single context, so that the types they share are resolved only once.
+     *
+     * @return the root schema of each type and all of the schemas defined while resolving them
+     * @since 2.0.11
+     */
+    public ResolvedSchemas resolveAll(Collection<AnnotatedType> types) {
+        return resolveAll(types, 1);
+    }
+
+    /**
+     * Resolves the given types like {@link #resolveAll(Collection, int, Executor)}, on the {@link SharedExecutor}.
+     *
+     * @return the root schema of each type and all of the schemas defined while resolving them
+     * @since 2.0.11
+     */
+    public ResolvedSchemas resolveAll(Collection<AnnotatedType> types, int parallelism) {
+        return resolveAll(types, parallelism, SharedExecutor.getInstance());
+    }
+
+    /**
+     * Resolves the given types, split in up to parallelism consecutive groups each resolved with its own context, on
+     * the given executor, which is not shut down, and on the calling thread for the groups it has not started yet. Types shared by
+     * several groups are resolved once per group; when groups define different schemas with the same name, the schema
+     * of the first group wins, as it does within a single context.
+     *
+     * @return the root schema of each type and all of the schemas defined while resolving them
+     * @since 2.0.11
+     */
+    public ResolvedSchemas resolveAll(Collection<AnnotatedType> types, int parallelism, Executor executor) {
+        final List<AnnotatedType> typeList = new ArrayList<>(types);
+        final int groups = Math.max(1, Math.min(parallelism, typeList.size()));
+        if (groups == 1) {
+            return resolveGroup(typeList);
+        }
+
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final List<FutureTask<ResolvedSchemas>> results = new ArrayList<>();
+        for (int i = 0; i < groups; i++) {
+            final List<AnnotatedType> group = typeList.subList(i * typeList.size() / groups, (i + 1) * typeList.size() / groups);
+            FutureTask<ResolvedSchemas> result = new FutureTask<>(() -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader previousClassLoader = thread.getContextClassLoader();
+                thread.setContextClassLoader(contextClassLoader);
+                try {
+                    return resolveGroup(group);
+                } finally {
+                    thread.setContextClassLoader(previousClassLoader);
+                }
+            });
+            results.add(result);
+            if (i > 0) {
+                try {
+                    executor.execute(result);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("resolving group {} on the calling thread", i);
+                }
+            }
+        }
+        // run the groups not started yet on this thread, running tasks are left alone
+        for (FutureTask<ResolvedSchemas> result : results) {
+            result.run();
+        }
+
+        ResolvedSchemas resolvedSchemas = new ResolvedSchemas();
+        resolvedSchemas.schemas = new ArrayList<>(typeList.size());
+        resolvedSchemas.referencedSchemas = new TreeMap<>();
+        Throwable failure = null;
+        boolean interrupted = false;
+        // wait for all of the groups, so that none is still running once this returns or throws
+        for (FutureTask<ResolvedSchemas> result : results) {
+            while (true) {
+                try {
+                    ResolvedSchemas groupSchemas = result.get();
+                    if (failure == null) {
+                        resolvedSchemas.schemas.addAll(groupSchemas.schemas);
+                        for (Entry<String, Schema> entry : groupSchemas.referencedSchemas.entrySet()) {
+                            resolvedSchemas.referencedSchemas.putIfAbsent(entry.getKey(), entry.getValue());
+                        }
+                    }
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        return resolvedSchemas;
+    }
+
+    private ResolvedSchemas resolveGroup(List<AnnotatedType> types) {
+        ModelConverterContextImpl context = new ModelConverterContextImpl(converters());
+        ResolvedSchemas resolvedSchemas = new ResolvedSchemas();
+        resolvedSchemas.schemas = new ArrayList<>(types.size());
+        for (AnnotatedType type : types) {
+            if (shouldProcess(type.getType())) {
+                LOGGER.debug("ModelConverters resolveAll from " + type);
+                resolvedSchemas.schemas.add(context.resolve(type));
+            } else {
+                resolvedSchemas.schemas.add(null);
+            }
+        }
+        resolvedSchemas.referencedSchemas = new TreeMap<>(context.getDefinedModels());
+        return resolvedSchemas;
+    }
+
     public ResolvedSchema readAllAsResolvedSchema(Type type) {
         return readAllAsResolvedSchema(new AnnotatedType().type(type));
     }
     public ResolvedSchema readAllAsResolvedSchema(AnnotatedType type) {
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-
-            ResolvedSchema resolvedSchema = new ResolvedSchema();
-            resolvedSchema.schema = context.resolve(type);
-            resolvedSchema.referencedSchemas = context.getDefinedModels();
-
-            return resolvedSchema;
+            return resolveInScope(type);
         }
         return null;
     }
 
     public ResolvedSchema resolveAsResolvedSchema(AnnotatedType type) {
+        return resolveInScope(type);
+    }
+
+    /**
+     * Opens a resolution scope bound to the current thread. Until the matching {@link #endResolutionScope()},
+     * resolving again a type with the same annotations and flags (e.g. the same DTO used as return type or parameter
+     * by several operations) reuses the schemas referenced by the first resolution instead of walking the whole type
+     * graph again; the returned schemas and map are deep copies, so callers can still customize them.
+     *
+     * Scopes can be nested, memoized results are discarded when the outermost scope ends.
+     *
+     * @since 2.0.11
+     */
+    public void beginResolutionScope() {
+        ResolutionScope scope = resolutionScope.get();
+        if (scope == null) {
+            scope = new ResolutionScope();
+            resolutionScope.set(scope);
+        }
+        scope.depth++;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void endResolutionScope() {
+        ResolutionScope scope = resolutionScope.get();
+        if (scope != null && --scope.depth <= 0) {
+            resolutionScope.remove();
+        }
+    }
+
+    private ResolvedSchema resolveInScope(AnnotatedType type) {
+        ResolutionScope scope = resolutionScope.get();
+        ResolutionKey key = scope == null ? null : ResolutionKey.of(type);
+        if (key != null) {
+            ResolvedSchema memoized = scope.resolved.get(key);
+            if (memoized != null) {
+                return deepCopyOf(memoized);
+            }
+        }
+        ResolvedSchema resolvedSchema = resolve(type);
+
+        if (key != null) {
+            // keep an untouched copy, callers are free to customize the returned schemas
+            scope.resolved.put(key, deepCopyOf(resolvedSchema));
+        }
+        return resolvedSchema;
+    }
+
+    /**
+     * Resolves the given type with a new context, or copies the result of a previous resolution from the shared cache
+     * when enabled.
+     */
+    private ResolvedSchema resolve(AnnotatedType type) {
+        SharedKey key = null;
+        if (sharedCacheEnabled) {
+            ResolutionKey resolutionKey = ResolutionKey.of(type);
+            key = resolutionKey == null ? null : new SharedKey(chainStamp(), PrimitiveType.getClassificationsVersion(), resolutionKey);
+        }
+        if (key != null) {
+            ResolvedSchema cached = sharedCache.get(key);
+            if (cached != null) {
+                return deepCopyOf(cached);
+            }
+        }
         ModelConverterContextImpl context = new ModelConverterContextImpl(
-                converters);
+                converters());
 
         ResolvedSchema resolvedSchema = new ResolvedSchema();
         resolvedSchema.schema = context.resolve(type);
         resolvedSchema.referencedSchemas = context.getDefinedModels();
 
+        if (key != null) {
+            sharedCache.put(key, deepCopyOf(resolvedSchema));
+        }
         return resolvedSchema;
     }
 
+    /**
+     * @return the chain as of the last change to this registry or its ancestors, computed again only after one
+     */
+    private ChainStamp chainStamp() {
+        ChainStamp parentStamp = parent == null ? null : parent.chainStamp();
+        ChainStamp stamp = chainStamp;
+        int current = modifications;
+        if (stamp == null || stamp.modifications != current || stamp.parent != parentStamp) {
+            stamp = new ChainStamp(this, current, parentStamp);
+            chainStamp = stamp;
+        }
+        return stamp;
+    }
+
+    /**
+     * @return the converters of this registry followed by the current ones of its parent
+     */
+    private List<ModelConverter> converters() {
+        if (parent == null) {
+            return converters;
+        }
+        return chainStamp().converters;
+    }
+
+    /**
+     * Copies the root and referenced schemas together, so that the copies reference each other as the originals do.
+     */
+    private static ResolvedSchema deepCopyOf(ResolvedSchema resolvedSchema) {
+        Map<Schema, Schema> copies = new IdentityHashMap<>();
+        ResolvedSchema copy = new ResolvedSchema();
+        if (resolvedSchema.schema != null) {
+            copy.schema = resolvedSchema.schema.copy(copies);
+        }
+        if (resolvedSchema.referencedSchemas != null) {
+            copy.referencedSchemas = new LinkedHashMap<>();
+            for (Entry<String, Schema> entry : resolvedSchema.referencedSchemas.entrySet()) {
+                copy.referencedSchemas.put(entry.getKey(), entry.getValue() == null ? null : entry.getValue().copy(copies));
+            }
+        }
+        return copy;
+    }
+
     public boolean isRegisteredAsSkippedClass(String className) {
-        return skippedClasses.contains(className);
+        return skippedClasses.contains(className) || (parent != null && parent.isRegisteredAsSkippedClass(className));
     }
 
     private boolean shouldProcess(Type type) {
@@ -124,13 +434,196 @@ public class ModelConverters {
         if (cls.isPrimitive()) {
             return false;
         }
-        String className = cls.getName();
+        return !isSkipped(cls.getName());
+    }
+
+    private boolean isSkipped(String className) {
         for (String packageName : skippedPackages) {
             if (className.startsWith(packageName)) {
+                return true;
+            }
+        }
+        return skippedClasses.contains(className) || (parent != null && parent.isSkipped(className));
+    }
+
+    private static class ResolutionScope {
+        private int depth;
+        private final Map<ResolutionKey, ResolvedSchema> resolved = new HashMap<>();
+    }
+
+    /**
+     * Identifies a root resolution request: unlike {@link AnnotatedType#equals(Object)} it also considers the flags
+     * affecting the resolved schema.
+     */
+    private static final class ResolutionKey {
+        private final Type type;
+        private final Annotation[] ctxAnnotations;
+        private final Annotation jsonView;
+        private final String name;
+        private final String propertyName;
+        private final int flags;
+        private final int hash;
+
+        private ResolutionKey(AnnotatedType type) {
+            this.type = type.getType();
+            this.ctxAnnotations = type.getCtxAnnotations();
+            this.jsonView = type.getJsonViewAnnotation();
+            this.name = type.getName();
+            this.propertyName = type.getPropertyName();
+            this.flags = (type.isResolveAsRef() ? 1 : 0)
+                    | (type.isSkipOverride() ? 2 : 0)
+                    | (type.isSchemaProperty() ? 4 : 0)
+                    | (type.isSkipSchemaName() ? 8 : 0)
+                    | (type.isSkipJsonIdentity() ? 16 : 0);
+            this.hash = 31 * Objects.hash(this.type, jsonView, name, propertyName, flags) + Arrays.hashCode(ctxAnnotations);
+        }
+
+        /**
+         * @return null if the type carries a parent schema or an unwrapping handler, whose outcome can't be memoized
+         */
+        static ResolutionKey of(AnnotatedType type) {
+            if (type == null || type.getType() == null || type.getParent() != null || type.getJsonUnwrappedHandler() != null) {
+                return null;
+            }
+            return new ResolutionKey(type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResolutionKey)) {
+                return false;
+            }
+            ResolutionKey that = (ResolutionKey) o;
+            return hash == that.hash &&
+                    flags == that.flags &&
+                    Objects.equals(type, that.type) &&
+                    Objects.equals(jsonView, that.jsonView) &&
+                    Objects.equals(name, that.name) &&
+                    Objects.equals(propertyName, that.propertyName) &&
+                    Arrays.equals(ctxAnnotations, that.ctxAnnotations);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Converters, in order, and skipped packages and classes of a registry followed by those of its ancestors:
+     * registries sharing them resolve types the same way. Converters are compared by identity.
+     */
+    private static final class ChainStamp {
+        private final List<ModelConverter> converters;
+        private final Set<String> skippedPackages;
+        private final Set<String> skippedClasses;
+        // state of the registry and stamp of its parent this one was computed with, not part of equality
+        private final int modifications;
+        private final ChainStamp parent;
+        private final int hash;
+
+        private ChainStamp(ModelConverters modelConverters, int modifications, ChainStamp parent) {
+            this.modifications = modifications;
+            this.parent = parent;
+            List<ModelConverter> converters = new ArrayList<>(modelConverters.converters);
+            Set<String> skippedPackages = new HashSet<>(modelConverters.skippedPackages);
+            Set<String> skippedClasses = new HashSet<>(modelConverters.skippedClasses);
+            if (parent != null) {
+                converters.addAll(parent.converters);
+                skippedPackages.addAll(parent.skippedPackages);
+                skippedClasses.addAll(parent.skippedClasses);
+            }
+            this.converters = Collections.unmodifiableList(converters);
+            this.skippedPackages = skippedPackages;
+            this.skippedClasses = skippedClasses;
+            int h = Objects.hash(this.skippedPackages, this.skippedClasses);
+            for (ModelConverter converter : this.converters) {
+                h = 31 * h + System.identityHashCode(converter);
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ChainStamp)) {
+                return false;
+            }
+            ChainStamp that = (ChainStamp) o;
+            if (hash != that.hash || converters.size() != that.converters.size()) {
                 return false;
             }
+            for (int i = 0; i < converters.size(); i++) {
+                if (converters.get(i) != that.converters.get(i)) {
+                    return false;
+                }
+            }
+            return skippedPackages.equals(that.skippedPackages) && skippedClasses.equals(that.skippedClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Resolved schemas of a registry tree, read without locking. Beyond its size the cache starts over, rather than
+     * tracking the use of each entry.
+     */
+    private static final class SharedCache {
+        private final Map<SharedKey, ResolvedSchema> resolved = new ConcurrentHashMap<>();
+        private volatile int generation = sharedCacheGeneration;
+
+        ResolvedSchema get(SharedKey key) {
+            if (generation != sharedCacheGeneration) {
+                generation = sharedCacheGeneration;
+                resolved.clear();
+                return null;
+            }
+            return resolved.get(key);
+        }
+
+        void put(SharedKey key, ResolvedSchema resolvedSchema) {
+            if (resolved.size() >= SHARED_CACHE_SIZE) {
+                resolved.clear();
+            }
+            resolved.put(key, resolvedSchema);
+        }
+    }
+
+    private static final class SharedKey {
+        private final ChainStamp chain;
+        private final int classificationsVersion;
+        private final ResolutionKey resolution;
+
+        private SharedKey(ChainStamp chain, int classificationsVersion, ResolutionKey resolution) {
+            this.chain = chain;
+            this.classificationsVersion = classificationsVersion;
+            this.resolution = resolution;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SharedKey)) {
+                return false;
+            }
+            SharedKey that = (SharedKey) o;
+            return classificationsVersion == that.classificationsVersion && resolution.equals(that.resolution) && chain.equals(that.chain);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * chain.hashCode() + classificationsVersion) + resolution.hashCode();
         }
-        return !skippedClasses.contains(className);
     }
 
     static {
@@ -0,0 +1,22 @@
+package io.swagger.v3.core.converter;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of resolving several types together, see {@link ModelConverters#resolveAll(java.util.Collection)}.
+ *
+ * @since 2.0.11
+ */
+public class ResolvedSchemas {
+    /**
+     * The root schema of each requested type, in the order of the request; null for the types not processed.
+     */
+    public List<Schema> schemas;
+    /**
+     * The schemas defined while resolving all of the types.
+     */
+    public Map<String, Schema> referencedSchemas;
+}
@@ -74,4 +74,18 @@ public interface OpenAPISpecFilter {
             Map<String, List<String>> headers);
 
     boolean isRemovingUnreferencedDefinitions();
+
+    /**
+     * Returns a key identifying the request inputs this filter depends on: requests with equal keys get the same
+     * filtered spec, which can then be cached and shared. Returns null, the default, when each request must be
+     * filtered on its own.
+     *
+     * @since 2.0.11
+     */
+    default String getCacheKey(
+            Map<String, List<String>> params,
+            Map<String, String> cookies,
+            Map<String, List<String>> headers) {
+        return null;
+    }
 }
\ No newline at end of file
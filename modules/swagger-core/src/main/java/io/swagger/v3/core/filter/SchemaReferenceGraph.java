@@ -0,0 +1,219 @@
+package io.swagger.v3.core.filter;
+
+import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the references between the component schemas of an OpenAPI, and of the component schemas referenced by
+ * each operation. Built in a single pass over the spec; reachability is then a single traversal of the index.
+ *
+ * @since 2.0.11
+ */
+public class SchemaReferenceGraph {
+
+    private final Map<String, Set<String>> references;
+    private final Map<String, Set<String>> operationRoots;
+    private final Set<String> roots;
+
+    private SchemaReferenceGraph(Map<String, Set<String>> references, Map<String, Set<String>> operationRoots, Set<String> roots) {
+        this.references = references;
+        this.operationRoots = operationRoots;
+        this.roots = roots;
+    }
+
+    public static SchemaReferenceGraph of(OpenAPI openAPI) {
+        Map<String, Set<String>> references = new HashMap<>();
+        Map<String, Set<String>> operationRoots = new LinkedHashMap<>();
+        Set<String> roots = new HashSet<>();
+
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Map.Entry<String, Schema> entry : openAPI.getComponents().getSchemas().entrySet()) {
+                Set<String> refs = new HashSet<>();
+                addSchemaRefs(entry.getValue(), refs);
+                references.put(entry.getKey(), simpleNames(refs));
+            }
+        }
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+                addPathItemRoots(entry.getKey(), entry.getValue(), operationRoots, roots);
+            }
+        }
+        return new SchemaReferenceGraph(references, operationRoots, roots);
+    }
+
+    /**
+     * @return the names of the component schemas directly referenced by the given component schema
+     */
+    public Set<String> getReferences(String schemaName) {
+        Set<String> refs = references.get(schemaName);
+        return refs == null ? Collections.<String>emptySet() : Collections.unmodifiableSet(refs);
+    }
+
+    /**
+     * @return the names of the component schemas directly referenced by each operation, keyed by "METHOD path"
+     */
+    public Map<String, Set<String>> getOperationRoots() {
+        return Collections.unmodifiableMap(operationRoots);
+    }
+
+    /**
+     * @return the names of the component schemas directly referenced by any path
+     */
+    public Set<String> getRoots() {
+        return Collections.unmodifiableSet(roots);
+    }
+
+    /**
+     * @return the names of the component schemas reachable from any path
+     */
+    public Set<String> getReachableSchemas() {
+        return getReachableSchemas(roots);
+    }
+
+    /**
+     * @return the names of the component schemas reachable from the given ones, including them
+     */
+    public Set<String> getReachableSchemas(Collection<String> from) {
+        Set<String> reachable = new HashSet<>(from);
+        Deque<String> pending = new ArrayDeque<>(from);
+        while (!pending.isEmpty()) {
+            Set<String> refs = references.get(pending.poll());
+            if (refs == null) {
+                continue;
+            }
+            for (String ref : refs) {
+                if (reachable.add(ref)) {
+                    pending.add(ref);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    static void addSchemaRefs(Schema schema, Set<String> refs) {
+        if (schema == null) {
+            return;
+        }
+        if (!StringUtils.isBlank(schema.get$ref())) {
+            refs.add(schema.get$ref());
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Object property : schema.getProperties().values()) {
+                addSchemaRefs((Schema) property, refs);
+            }
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            addSchemaRefs((Schema) schema.getAdditionalProperties(), refs);
+        }
+        if (schema instanceof ArraySchema) {
+            addSchemaRefs(((ArraySchema) schema).getItems(), refs);
+        } else if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            addSchemaRefs(composedSchema.getAllOf(), refs);
+            addSchemaRefs(composedSchema.getAnyOf(), refs);
+            addSchemaRefs(composedSchema.getOneOf(), refs);
+        }
+    }
+
+    private static void addSchemaRefs(List<Schema> schemas, Set<String> refs) {
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                addSchemaRefs(schema, refs);
+            }
+        }
+    }
+
+    private static void addContentRefs(Content content, Set<String> refs) {
+        if (content != null) {
+            for (MediaType mediaType : content.values()) {
+                addSchemaRefs(mediaType.getSchema(), refs);
+            }
+        }
+    }
+
+    private static void addParameterRefs(List<Parameter> parameters, Set<String> refs) {
+        if (parameters != null) {
+            for (Parameter parameter : parameters) {
+                addSchemaRefs(parameter.getSchema(), refs);
+                addContentRefs(parameter.getContent(), refs);
+            }
+        }
+    }
+
+    private static void addPathItemRoots(String path, PathItem pathItem, Map<String, Set<String>> operationRoots, Set<String> roots) {
+        Set<String> pathRefs = new HashSet<>();
+        addParameterRefs(pathItem.getParameters(), pathRefs);
+        Set<String> pathRoots = simpleNames(pathRefs);
+        roots.addAll(pathRoots);
+
+        for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
+            Set<String> refs = new HashSet<>();
+            addOperationRefs(entry.getValue(), refs);
+            Set<String> opRoots = simpleNames(refs);
+            opRoots.addAll(pathRoots);
+            roots.addAll(opRoots);
+            operationRoots.put(entry.getKey() + " " + path, opRoots);
+        }
+    }
+
+    private static void addOperationRefs(Operation operation, Set<String> refs) {
+        if (operation.getRequestBody() != null) {
+            addContentRefs(operation.getRequestBody().getContent(), refs);
+        }
+        if (operation.getResponses() != null) {
+            for (ApiResponse response : operation.getResponses().values()) {
+                if (response.getHeaders() != null) {
+                    for (Header header : response.getHeaders().values()) {
+                        addSchemaRefs(header.getSchema(), refs);
+                        addContentRefs(header.getContent(), refs);
+                    }
+                }
+                addContentRefs(response.getContent(), refs);
+            }
+        }
+        addParameterRefs(operation.getParameters(), refs);
+        if (operation.getCallbacks() != null) {
+            for (Callback callback : operation.getCallbacks().values()) {
+                for (PathItem callbackPathItem : callback.values()) {
+                    addParameterRefs(callbackPathItem.getParameters(), refs);
+                    for (Operation callbackOperation : callbackPathItem.readOperations()) {
+                        addOperationRefs(callbackOperation, refs);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> simpleNames(Set<String> refs) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String ref : refs) {
+            names.add((String) RefUtils.extractSimpleName(ref).getLeft());
+        }
+        return names;
+    }
+}
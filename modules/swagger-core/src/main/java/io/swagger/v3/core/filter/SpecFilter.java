@@ -1,28 +1,19 @@
 package io.swagger.v3.core.filter;
 
 import io.swagger.v3.core.model.ApiDescription;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.RefUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
-import io.swagger.v3.oas.models.callbacks.Callback;
-import io.swagger.v3.oas.models.headers.Header;
-import io.swagger.v3.oas.models.media.ArraySchema;
-import io.swagger.v3.oas.models.media.ComposedSchema;
-import io.swagger.v3.oas.models.media.Content;
-import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.tags.Tag;
-import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,7 +24,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 public class SpecFilter {
 
@@ -156,7 +146,7 @@ public class SpecFilter {
             Optional<Operation> filteredOperation = filter.filterOperation(operation, description, params, cookies, headers);
             if (filteredOperation.isPresent()) {
                 List<Parameter> filteredParameters = new ArrayList<>();
-                Operation filteredOperationGet = filteredOperation.get();
+                Operation filteredOperationGet = copyOperation(filteredOperation.get());
                 List<Parameter> parameters = filteredOperationGet.getParameters();
                 if (parameters != null) {
                     for (Parameter parameter : parameters) {
@@ -168,16 +158,18 @@ public class SpecFilter {
                 }
                 filteredOperationGet.setParameters(filteredParameters);
 
-                RequestBody requestBody = filteredOperation.get().getRequestBody();
+                RequestBody requestBody = filteredOperationGet.getRequestBody();
                 if (requestBody != null) {
                     RequestBody filteredRequestBody = filterRequestBody(filter, operation, requestBody, resourcePath, key, params, cookies, headers);
                     filteredOperationGet.setRequestBody(filteredRequestBody);
 
                 }
 
-                ApiResponses responses = filteredOperation.get().getResponses();
-                ApiResponses clonedResponses = responses;
+                ApiResponses responses = filteredOperationGet.getResponses();
                 if (responses != null) {
+                    ApiResponses clonedResponses = new ApiResponses();
+                    clonedResponses.putAll(responses);
+                    clonedResponses.setExtensions(responses.getExtensions());
                     responses.forEach((responseKey, response) -> {
                         ApiResponse filteredResponse = filterResponse(filter, operation, response, resourcePath, key, params, cookies, headers);
                         if (filteredResponse != null) {
@@ -193,6 +185,28 @@ public class SpecFilter {
         return null;
     }
 
+    /**
+     * Copies the operation before its parameters and responses are replaced, so that the filtered spec never
+     * modifies the one it is filtered from, which can be shared or frozen.
+     */
+    private static Operation copyOperation(Operation operation) {
+        Operation copy = new Operation();
+        copy.setTags(operation.getTags());
+        copy.setSummary(operation.getSummary());
+        copy.setDescription(operation.getDescription());
+        copy.setExternalDocs(operation.getExternalDocs());
+        copy.setOperationId(operation.getOperationId());
+        copy.setParameters(operation.getParameters());
+        copy.setRequestBody(operation.getRequestBody());
+        copy.setResponses(operation.getResponses());
+        copy.setCallbacks(operation.getCallbacks());
+        copy.setDeprecated(operation.getDeprecated());
+        copy.setSecurity(operation.getSecurity());
+        copy.setServers(operation.getServers());
+        copy.setExtensions(operation.getExtensions());
+        return copy;
+    }
+
     protected PathItem filterPathItem(OpenAPISpecFilter filter, PathItem pathItem, String resourcePath, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         ApiDescription description = new ApiDescription(resourcePath, null);
         Optional<PathItem> filteredPathItem = filter.filterPathItem(pathItem, description, params, cookies, headers);
@@ -263,120 +277,17 @@ public class SpecFilter {
                     }
                 }
 
-                try {
-                    // TODO solve this, and generally handle clone and passing references
-                    Schema clonedModel = Json.mapper().readValue(Json.pretty(definition), Schema.class);
-                    if (clonedModel.getProperties() != null) {
-                        clonedModel.getProperties().clear();
-                    }
-                    if (!clonedProperties.isEmpty()) {
-                        clonedModel.setProperties(clonedProperties);
-                    }
-                    clonedComponentsSchema.put(key, clonedModel);
-
-                } catch (IOException e) {
-                    continue;
-                }
-            }
-        }
-        return clonedComponentsSchema;
-    }
-
-    private void addSchemaRef(Schema schema, Set<String> referencedDefinitions) {
-
-        if (schema == null) {
-            return;
-        }
-        if (!StringUtils.isBlank(schema.get$ref())) {
-            referencedDefinitions.add(schema.get$ref());
-            return;
-        }
-
-        if (schema.getProperties() != null) {
-            for (Object propName : schema.getProperties().keySet()) {
-                Schema property = (Schema) schema.getProperties().get((String) propName);
-                addSchemaRef(property, referencedDefinitions);
-            }
-        }
-
-        if (schema.getAdditionalProperties() != null && (schema.getAdditionalProperties() instanceof Schema)) {
-            addSchemaRef((Schema)schema.getAdditionalProperties(), referencedDefinitions);
-        }
-
-        if (schema instanceof ArraySchema &&
-                ((ArraySchema) schema).getItems() != null) {
-            addSchemaRef(((ArraySchema) schema).getItems(), referencedDefinitions);
-        } else if (schema instanceof ComposedSchema) {
-            ComposedSchema composedSchema = (ComposedSchema) schema;
-            if (composedSchema.getAllOf() != null) {
-                for (Schema ref : composedSchema.getAllOf()) {
-                    addSchemaRef(ref, referencedDefinitions);
-                }
-            }
-            if (composedSchema.getAnyOf() != null) {
-                for (Schema ref : composedSchema.getAnyOf()) {
-                    addSchemaRef(ref, referencedDefinitions);
+                Schema clonedModel = definition.copy();
+                if (clonedModel.getProperties() != null) {
+                    clonedModel.getProperties().clear();
                 }
-            }
-            if (composedSchema.getOneOf() != null) {
-                for (Schema ref : composedSchema.getOneOf()) {
-                    addSchemaRef(ref, referencedDefinitions);
-                }
-            }
-        }
-    }
-
-    private void addContentSchemaRef(Content content, Set<String> referencedDefinitions) {
-        if (content != null) {
-            for (String keyBodyContent : content.keySet()) {
-                MediaType mediaType = content.get(keyBodyContent);
-                addSchemaRef(mediaType.getSchema(), referencedDefinitions);
-            }
-        }
-    }
-
-    private void addPathItemSchemaRef(PathItem pathItem, Set<String> referencedDefinitions) {
-        if (pathItem.getParameters() != null) {
-            for (Parameter parameter : pathItem.getParameters()) {
-                addSchemaRef(parameter.getSchema(), referencedDefinitions);
-                addContentSchemaRef(parameter.getContent(), referencedDefinitions);
-            }
-        }
-        Map<PathItem.HttpMethod, Operation> ops = pathItem.readOperationsMap();
-        for (PathItem.HttpMethod key : ops.keySet()) {
-            Operation op = ops.get(key);
-            if (op.getRequestBody() != null) {
-                addContentSchemaRef(op.getRequestBody().getContent(), referencedDefinitions);
-            }
-            if (op.getResponses() != null) {
-                for (String keyResponses : op.getResponses().keySet()) {
-                    ApiResponse response = op.getResponses().get(keyResponses);
-                    if (response.getHeaders() != null) {
-                        for (String keyHeaders : response.getHeaders().keySet()) {
-                            Header header = response.getHeaders().get(keyHeaders);
-                            addSchemaRef(header.getSchema(), referencedDefinitions);
-                            addContentSchemaRef(header.getContent(), referencedDefinitions);
-                        }
-                    }
-                    addContentSchemaRef(response.getContent(), referencedDefinitions);
-                }
-            }
-            if (op.getParameters() != null) {
-                for (Parameter parameter : op.getParameters()) {
-                    addSchemaRef(parameter.getSchema(), referencedDefinitions);
-                    addContentSchemaRef(parameter.getContent(), referencedDefinitions);
-                }
-            }
-            if (op.getCallbacks() != null) {
-                for (String keyCallback : op.getCallbacks().keySet()) {
-                    Callback callback = op.getCallbacks().get(keyCallback);
-                    for (String keyCallbackPathItem : callback.keySet()) {
-                        PathItem callbackPathItem = callback.get(keyCallbackPathItem);
-                        addPathItemSchemaRef(callbackPathItem, referencedDefinitions);
-                    }
+                if (!clonedProperties.isEmpty()) {
+                    clonedModel.setProperties(clonedProperties);
                 }
+                clonedComponentsSchema.put(key, clonedModel);
             }
         }
+        return clonedComponentsSchema;
     }
 
     protected OpenAPI removeBrokenReferenceDefinitions(OpenAPI openApi) {
@@ -384,22 +295,10 @@ public class SpecFilter {
         if (openApi == null || openApi.getComponents() == null || openApi.getComponents().getSchemas() == null) {
             return openApi;
         }
-        Set<String> referencedDefinitions = new TreeSet<>();
-
-        if (openApi.getPaths() != null) {
-            for (String resourcePath : openApi.getPaths().keySet()) {
-                PathItem pathItem = openApi.getPaths().get(resourcePath);
-                addPathItemSchemaRef(pathItem, referencedDefinitions);
-            }
-        }
-
-        referencedDefinitions.addAll(resolveAllNestedRefs(referencedDefinitions, referencedDefinitions, openApi));
         openApi.getComponents()
                 .getSchemas()
                 .keySet()
-                .retainAll(referencedDefinitions.stream()
-                        .map(s -> (String) RefUtils.extractSimpleName(s).getLeft())
-                        .collect(Collectors.toSet()));
+                .retainAll(SchemaReferenceGraph.of(openApi).getReachableSchemas());
         return openApi;
     }
 
@@ -424,7 +323,7 @@ public class SpecFilter {
         String simpleName = (String) RefUtils.extractSimpleName(ref).getLeft();
         Schema model = openAPI.getComponents().getSchemas().get(simpleName);
         if (model != null) {
-            addSchemaRef(model, nestedReferencedDefinitions);
+            SchemaReferenceGraph.addSchemaRefs(model, nestedReferencedDefinitions);
         }
     }
 }
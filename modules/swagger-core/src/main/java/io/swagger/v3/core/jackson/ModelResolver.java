@@ -12,10 +12,13 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerator;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
@@ -28,6 +31,7 @@ import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverterContext;
 import io.swagger.v3.core.util.AnnotationsUtils;
+import io.swagger.v3.core.util.ClassCache;
 import io.swagger.v3.core.util.Constants;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.PrimitiveType;
@@ -67,17 +71,22 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -90,6 +99,16 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
     public static boolean composedModelPropertiesAsSibling = System.getProperty(SET_PROPERTY_OF_COMPOSED_MODEL_AS_SIBLING) != null ? true : false;
 
+    private static final ClassCache<ClassAnnotations> CLASS_ANNOTATIONS = new ClassCache<ClassAnnotations>() {
+        @Override
+        protected ClassAnnotations computeValue(Class<?> type) {
+            return new ClassAnnotations(type);
+        }
+    };
+
+    private volatile BeanDescriptions serializationDescriptions;
+    private volatile BeanDescriptions deserializationDescriptions;
+
     public ModelResolver(ObjectMapper mapper) {
         super(mapper);
     }
@@ -101,6 +120,37 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         return _mapper;
     }
 
+    /**
+     * Returns the serialization bean description of the given type, introspected once per mapper configuration.
+     * The returned description is shared and must not be modified, including the list of its properties.
+     *
+     * @since 2.0.11
+     */
+    protected BeanDescription introspect(JavaType type) {
+        final SerializationConfig config = _mapper.getSerializationConfig();
+        BeanDescriptions descriptions = serializationDescriptions;
+        if (descriptions == null || !descriptions.isFor(config, _mapper.mixInCount())) {
+            descriptions = new BeanDescriptions(config, _mapper.mixInCount(), config::introspect);
+            serializationDescriptions = descriptions;
+        }
+        return descriptions.get(type);
+    }
+
+    /**
+     * Deserialization counterpart of {@link #introspect(JavaType)}.
+     *
+     * @since 2.0.11
+     */
+    protected BeanDescription introspectForDeserialization(JavaType type) {
+        final DeserializationConfig config = _mapper.getDeserializationConfig();
+        BeanDescriptions descriptions = deserializationDescriptions;
+        if (descriptions == null || !descriptions.isFor(config, _mapper.mixInCount())) {
+            descriptions = new BeanDescriptions(config, _mapper.mixInCount(), config::introspect);
+            deserializationDescriptions = descriptions;
+        }
+        return descriptions.get(type);
+    }
+
     @Override
     public Schema resolve(AnnotatedType annotatedType, ModelConverterContext context, Iterator<ModelConverter> next) {
 
@@ -138,7 +188,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
         final BeanDescription beanDesc;
         {
-            BeanDescription recurBeanDesc = _mapper.getSerializationConfig().introspect(type);
+            BeanDescription recurBeanDesc = introspect(type);
 
             HashSet<String> visited = new HashSet<>();
             JsonSerialize jsonSerialize = recurBeanDesc.getClassAnnotations().get(JsonSerialize.class);
@@ -147,9 +197,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                 if (visited.contains(asName)) break;
                 visited.add(asName);
 
-                recurBeanDesc = _mapper.getSerializationConfig().introspect(
-                        _mapper.constructType(jsonSerialize.as())
-                );
+                recurBeanDesc = introspect(_mapper.constructType(jsonSerialize.as()));
                 jsonSerialize = recurBeanDesc.getClassAnnotations().get(JsonSerialize.class);
             }
             beanDesc = recurBeanDesc;
@@ -278,12 +326,12 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         if (!annotatedType.isSkipJsonIdentity()) {
             JsonIdentityInfo jsonIdentityInfo = AnnotationsUtils.getAnnotation(JsonIdentityInfo.class, annotatedType.getCtxAnnotations());
             if (jsonIdentityInfo == null) {
-                jsonIdentityInfo = type.getRawClass().getAnnotation(JsonIdentityInfo.class);
+                jsonIdentityInfo = CLASS_ANNOTATIONS.get(type.getRawClass()).jsonIdentityInfo;
             }
             if (model == null && jsonIdentityInfo != null) {
                 JsonIdentityReference jsonIdentityReference = AnnotationsUtils.getAnnotation(JsonIdentityReference.class, annotatedType.getCtxAnnotations());
                 if (jsonIdentityReference == null) {
-                    jsonIdentityReference = type.getRawClass().getAnnotation(JsonIdentityReference.class);
+                    jsonIdentityReference = CLASS_ANNOTATIONS.get(type.getRawClass()).jsonIdentityReference;
                 }
                 model = GeneratorWrapper.processJsonIdentity(annotatedType, context, _mapper, jsonIdentityInfo, jsonIdentityReference);
                 if (model != null) {
@@ -367,7 +415,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
             JavaType valueType = type.getContentType();
             String pName = null;
             if (valueType != null) {
-                BeanDescription valueTypeBeanDesc = _mapper.getSerializationConfig().introspect(valueType);
+                BeanDescription valueTypeBeanDesc = introspect(valueType);
                 pName = _typeName(valueType, valueTypeBeanDesc);
             }
             Annotation[] schemaAnnotations = null;
@@ -513,7 +561,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         List<Schema> props = new ArrayList<Schema>();
         Map<String, Schema> modelProps = new LinkedHashMap<String, Schema>();
 
-        List<BeanPropertyDefinition> properties = beanDesc.findProperties();
+        List<BeanPropertyDefinition> properties = new ArrayList<>(beanDesc.findProperties());
         List<String> ignoredProps = getIgnoredProperties(beanDesc);
         properties.removeIf(p -> ignoredProps.contains(p.getName()));
         for (BeanPropertyDefinition propDef : properties) {
@@ -523,7 +571,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
             AnnotatedMember member = propDef.getPrimaryMember();
             if (member == null) {
-                final BeanDescription deserBeanDesc = _mapper.getDeserializationConfig().introspect(type);
+                final BeanDescription deserBeanDesc = introspectForDeserialization(type);
                 List<BeanPropertyDefinition> deserProperties = deserBeanDesc.findProperties();
                 for (BeanPropertyDefinition prop : deserProperties) {
                     if (StringUtils.isNotBlank(prop.getInternalName()) && prop.getInternalName().equals(propDef.getInternalName())) {
@@ -675,7 +723,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                             }
                         }
                     }
-                    final BeanDescription propBeanDesc = _mapper.getSerializationConfig().introspect(propType);
+                    final BeanDescription propBeanDesc = introspect(propType);
                     if (property != null && !propType.isContainerType()) {
                         if ("object".equals(property.getType())) {
                             // create a reference for the property
@@ -1311,7 +1359,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
     private void removeSuperSubTypes(List<NamedType> resultTypes, Class<?> superClass) {
         JavaType superType = _mapper.constructType(superClass);
-        BeanDescription superBean = _mapper.getSerializationConfig().introspect(superType);
+        BeanDescription superBean = introspect(superType);
         final List<NamedType> superTypes = _intr.findSubtypes(superBean.getClassInfo());
         if (superTypes != null) {
             resultTypes.removeAll(superTypes);
@@ -1442,7 +1490,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
 
         if (access == null) {
-            final BeanDescription beanDesc = _mapper.getDeserializationConfig().introspect(type);
+            final BeanDescription beanDesc = introspectForDeserialization(type);
             List<BeanPropertyDefinition> properties = beanDesc.findProperties();
             for (BeanPropertyDefinition prop : properties) {
                 if (StringUtils.isNotBlank(prop.getInternalName()) && prop.getInternalName().equals(propDef.getInternalName())) {
@@ -1659,7 +1707,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
     protected void resolveDiscriminatorProperty(JavaType type, ModelConverterContext context, Schema model) {
         // add JsonTypeInfo.property if not member of bean
-        JsonTypeInfo typeInfo = type.getRawClass().getDeclaredAnnotation(JsonTypeInfo.class);
+        JsonTypeInfo typeInfo = CLASS_ANNOTATIONS.get(type.getRawClass()).jsonTypeInfo;
         if (typeInfo != null) {
             String typeInfoProp = typeInfo.property();
             if (StringUtils.isNotBlank(typeInfoProp)) {
@@ -1686,7 +1734,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
 
         if (disc.isEmpty()) {
             // longer method would involve AnnotationIntrospector.findTypeResolver(...) but:
-            JsonTypeInfo typeInfo = type.getRawClass().getDeclaredAnnotation(JsonTypeInfo.class);
+            JsonTypeInfo typeInfo = CLASS_ANNOTATIONS.get(type.getRawClass()).jsonTypeInfo;
             if (typeInfo != null) {
                 disc = typeInfo.property();
             }
@@ -1789,7 +1837,7 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
                                 ((io.swagger.v3.oas.annotations.media.ArraySchema) resolvedSchemaOrArrayAnnotation).schema() :
                                 (io.swagger.v3.oas.annotations.media.Schema) resolvedSchemaOrArrayAnnotation;
 
-        final BeanDescription beanDesc = _mapper.getSerializationConfig().introspect(type);
+        final BeanDescription beanDesc = introspect(type);
         Annotated a = beanDesc.getClassInfo();
         Annotation[] annotations = annotatedType.getCtxAnnotations();
         resolveSchemaMembers(schema, a, annotations, schemaAnnotation);
@@ -2001,4 +2049,100 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
             }
         }
     }
+
+    /**
+     * Bean descriptions introspected with a given mapper configuration, kept per class of the type loaded by the most
+     * specific loader, e.g. List&lt;Pet&gt; with Pet and not with List, so that they never pin a class loader from a
+     * longer lived class.
+     */
+    private static final class BeanDescriptions {
+
+        private final MapperConfig<?> config;
+        private final int mixInCount;
+        private final Function<JavaType, BeanDescription> introspector;
+        private final ClassCache<Map<JavaType, BeanDescription>> descriptions = new ClassCache<Map<JavaType, BeanDescription>>() {
+            @Override
+            protected Map<JavaType, BeanDescription> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        BeanDescriptions(MapperConfig<?> config, int mixInCount, Function<JavaType, BeanDescription> introspector) {
+            this.config = config;
+            this.mixInCount = mixInCount;
+            this.introspector = introspector;
+        }
+
+        boolean isFor(MapperConfig<?> config, int mixInCount) {
+            return this.config == config && this.mixInCount == mixInCount;
+        }
+
+        BeanDescription get(JavaType type) {
+            Class<?> owner = owner(type);
+            if (owner == null) {
+                // made of classes from unrelated loaders, none of them can hold the description
+                return describe(type);
+            }
+            return descriptions.get(owner).computeIfAbsent(type, this::describe);
+        }
+
+        private BeanDescription describe(JavaType type) {
+            BeanDescription beanDesc = introspector.apply(type);
+            // collect the properties before sharing the description, as collection is lazy and not thread safe
+            beanDesc.findProperties();
+            return beanDesc;
+        }
+
+        /**
+         * @return the class of the type, or of one of its type parameters, loaded by a loader having the loaders of
+         * all the others as ancestors, or null if there is none
+         */
+        private static Class<?> owner(JavaType type) {
+            if (type.containedTypeCount() == 0 && !type.isArrayType()) {
+                return type.getRawClass();
+            }
+            Class<?> owner = null;
+            Set<JavaType> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            Deque<JavaType> pending = new ArrayDeque<>();
+            pending.push(type);
+            while (!pending.isEmpty()) {
+                JavaType t = pending.pop();
+                if (!visited.add(t)) {
+                    continue;
+                }
+                Class<?> cls = t.getRawClass();
+                if (owner == null || ReflectionUtils.isAncestorOrSelf(owner.getClassLoader(), cls.getClassLoader())) {
+                    owner = cls;
+                } else if (!ReflectionUtils.isAncestorOrSelf(cls.getClassLoader(), owner.getClassLoader())) {
+                    return null;
+                }
+                for (int i = 0; i < t.containedTypeCount(); i++) {
+                    pending.push(t.containedType(i));
+                }
+                if (t.getContentType() != null) {
+                    pending.push(t.getContentType());
+                }
+                if (t.getKeyType() != null) {
+                    pending.push(t.getKeyType());
+                }
+            }
+            return owner;
+        }
+    }
+
+    /**
+     * Jackson annotations read from the raw class of the resolved types.
+     */
+    private static final class ClassAnnotations {
+
+        final JsonIdentityInfo jsonIdentityInfo;
+        final JsonIdentityReference jsonIdentityReference;
+        final JsonTypeInfo jsonTypeInfo;
+
+        ClassAnnotations(Class<?> type) {
+            this.jsonIdentityInfo = type.getAnnotation(JsonIdentityInfo.class);
+            this.jsonIdentityReference = type.getAnnotation(JsonIdentityReference.class);
+            this.jsonTypeInfo = type.getDeclaredAnnotation(JsonTypeInfo.class);
+        }
+    }
 }
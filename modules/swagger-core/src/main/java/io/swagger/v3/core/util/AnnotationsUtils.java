@@ -38,6 +38,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -46,12 +48,21 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AnnotationsUtils {
 
     private static Logger LOGGER = LoggerFactory.getLogger(AnnotationsUtils.class);
+
+    private static final ClassCache<DeclaredSchemaAnnotations> DECLARED_SCHEMA_ANNOTATIONS = new ClassCache<DeclaredSchemaAnnotations>() {
+        @Override
+        protected DeclaredSchemaAnnotations computeValue(Class<?> type) {
+            return new DeclaredSchemaAnnotations(type);
+        }
+    };
     public static final String COMPONENTS_REF = "#/components/schemas/";
 
     public static boolean hasSchemaAnnotation(io.swagger.v3.oas.annotations.media.Schema schema) {
@@ -364,6 +375,13 @@ public abstract class AnnotationsUtils {
         return getArraySchema(arraySchema, null, jsonViewAnnotation);
     }
     public static Optional<ArraySchema> getArraySchema(io.swagger.v3.oas.annotations.media.ArraySchema arraySchema, Components components, JsonView jsonViewAnnotation) {
+        return getArraySchema(arraySchema, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<ArraySchema> getArraySchema(io.swagger.v3.oas.annotations.media.ArraySchema arraySchema, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (arraySchema == null || !hasArrayAnnotation(arraySchema)) {
             return Optional.empty();
         }
@@ -389,7 +407,7 @@ public abstract class AnnotationsUtils {
 
         if (arraySchema.schema() != null) {
             if (arraySchema.schema().implementation().equals(Void.class)) {
-                getSchemaFromAnnotation(arraySchema.schema(), components, jsonViewAnnotation).ifPresent(schema -> {
+                getSchemaFromAnnotation(arraySchema.schema(), components, jsonViewAnnotation, modelConverters).ifPresent(schema -> {
                     arraySchemaObject.setItems(schema);
                 });
             } // if present, schema implementation handled upstream
@@ -402,6 +420,13 @@ public abstract class AnnotationsUtils {
         return getSchemaFromAnnotation(schema, null, jsonViewAnnotation);
     }
     public static Optional<Schema> getSchemaFromAnnotation(io.swagger.v3.oas.annotations.media.Schema schema, Components components, JsonView jsonViewAnnotation) {
+        return getSchemaFromAnnotation(schema, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<Schema> getSchemaFromAnnotation(io.swagger.v3.oas.annotations.media.Schema schema, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (schema == null || !hasSchemaAnnotation(schema)) {
             return Optional.empty();
         }
@@ -513,27 +538,27 @@ public abstract class AnnotationsUtils {
 
         if (!schema.not().equals(Void.class)) {
             Class<?> schemaImplementation = schema.not();
-            Schema notSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation);
+            Schema notSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation, modelConverters);
             schemaObject.setNot(notSchemaObject);
         }
         if (schema.oneOf().length > 0) {
             Class<?>[] schemaImplementations = schema.oneOf();
             for (Class<?> schemaImplementation : schemaImplementations) {
-                Schema oneOfSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation);
+                Schema oneOfSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation, modelConverters);
                 ((ComposedSchema) schemaObject).addOneOfItem(oneOfSchemaObject);
             }
         }
         if (schema.anyOf().length > 0) {
             Class<?>[] schemaImplementations = schema.anyOf();
             for (Class<?> schemaImplementation : schemaImplementations) {
-                Schema anyOfSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation);
+                Schema anyOfSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation, modelConverters);
                 ((ComposedSchema) schemaObject).addAnyOfItem(anyOfSchemaObject);
             }
         }
         if (schema.allOf().length > 0) {
             Class<?>[] schemaImplementations = schema.allOf();
             for (Class<?> schemaImplementation : schemaImplementations) {
-                Schema allOfSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation);
+                Schema allOfSchemaObject = resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation, modelConverters);
                 ((ComposedSchema) schemaObject).addAllOfItem(allOfSchemaObject);
             }
         }
@@ -543,11 +568,18 @@ public abstract class AnnotationsUtils {
     }
 
     public static Schema resolveSchemaFromType(Class<?> schemaImplementation, Components components, JsonView jsonViewAnnotation) {
+        return resolveSchemaFromType(schemaImplementation, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Schema resolveSchemaFromType(Class<?> schemaImplementation, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         Schema schemaObject = new Schema();
         if (schemaImplementation.getName().startsWith("java.lang")) {
             schemaObject.setType(schemaImplementation.getSimpleName().toLowerCase());
         } else {
-            ResolvedSchema resolvedSchema = ModelConverters.getInstance().readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
+            ResolvedSchema resolvedSchema = modelConverters.readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
             Map<String, Schema> schemaMap;
             if (resolvedSchema != null) {
                 schemaMap = resolvedSchema.referencedSchemas;
@@ -893,13 +925,20 @@ public abstract class AnnotationsUtils {
     }
 
     public static Optional<Map<String, Header>> getHeaders(io.swagger.v3.oas.annotations.headers.Header[] annotationHeaders, JsonView jsonViewAnnotation) {
+        return getHeaders(annotationHeaders, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<Map<String, Header>> getHeaders(io.swagger.v3.oas.annotations.headers.Header[] annotationHeaders, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (annotationHeaders == null) {
             return Optional.empty();
         }
 
         Map<String, Header> headers = new HashMap<>();
         for (io.swagger.v3.oas.annotations.headers.Header header : annotationHeaders) {
-            getHeader(header, jsonViewAnnotation).ifPresent(headerResult -> headers.put(header.name(), headerResult));
+            getHeader(header, jsonViewAnnotation, modelConverters).ifPresent(headerResult -> headers.put(header.name(), headerResult));
         }
 
         if (headers.size() == 0) {
@@ -909,6 +948,13 @@ public abstract class AnnotationsUtils {
     }
 
     public static Optional<Header> getHeader(io.swagger.v3.oas.annotations.headers.Header header, JsonView jsonViewAnnotation) {
+        return getHeader(header, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<Header> getHeader(io.swagger.v3.oas.annotations.headers.Header header, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
 
         if (header == null) {
             return Optional.empty();
@@ -935,7 +981,7 @@ public abstract class AnnotationsUtils {
 
         if (header.schema() != null) {
             if (header.schema().implementation().equals(Void.class)) {
-                AnnotationsUtils.getSchemaFromAnnotation(header.schema(), jsonViewAnnotation).ifPresent(schema -> {
+                AnnotationsUtils.getSchemaFromAnnotation(header.schema(), null, jsonViewAnnotation, modelConverters).ifPresent(schema -> {
                     headerObject.setSchema(schema);
                     //schema inline no need to add to components
                     //components.addSchemas(schema.getType(), schema);
@@ -951,6 +997,13 @@ public abstract class AnnotationsUtils {
     }
 
     public static void addEncodingToMediaType(MediaType mediaType, io.swagger.v3.oas.annotations.media.Encoding encoding, JsonView jsonViewAnnotation) {
+        addEncodingToMediaType(mediaType, encoding, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static void addEncodingToMediaType(MediaType mediaType, io.swagger.v3.oas.annotations.media.Encoding encoding, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (encoding == null) {
             return;
         }
@@ -972,7 +1025,7 @@ public abstract class AnnotationsUtils {
             }
 
             if (encoding.headers() != null) {
-                getHeaders(encoding.headers(), jsonViewAnnotation).ifPresent(encodingObject::headers);
+                getHeaders(encoding.headers(), jsonViewAnnotation, modelConverters).ifPresent(encodingObject::headers);
             }
             if (encoding.extensions() != null && encoding.extensions().length > 0) {
                 Map<String, Object> extensions = AnnotationsUtils.getExtensions(encoding.extensions());
@@ -1039,6 +1092,13 @@ public abstract class AnnotationsUtils {
     }
 
     public static Optional<Content> getContent(io.swagger.v3.oas.annotations.media.Content[] annotationContents, String[] classTypes, String[] methodTypes, Schema schema, Components components, JsonView jsonViewAnnotation) {
+        return getContent(annotationContents, classTypes, methodTypes, schema, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<Content> getContent(io.swagger.v3.oas.annotations.media.Content[] annotationContents, String[] classTypes, String[] methodTypes, Schema schema, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (annotationContents == null || annotationContents.length == 0) {
             return Optional.empty();
         }
@@ -1049,7 +1109,7 @@ public abstract class AnnotationsUtils {
         for (io.swagger.v3.oas.annotations.media.Content annotationContent : annotationContents) {
             MediaType mediaType = new MediaType();
             if (components != null) {
-                getSchema(annotationContent, components, jsonViewAnnotation).ifPresent(mediaType::setSchema);
+                getSchema(annotationContent, components, jsonViewAnnotation, modelConverters).ifPresent(mediaType::setSchema);
             } else {
                 mediaType.setSchema(schema);
             }
@@ -1073,7 +1133,7 @@ public abstract class AnnotationsUtils {
 
             io.swagger.v3.oas.annotations.media.Encoding[] encodings = annotationContent.encoding();
             for (io.swagger.v3.oas.annotations.media.Encoding encoding : encodings) {
-                addEncodingToMediaType(mediaType, encoding, jsonViewAnnotation);
+                addEncodingToMediaType(mediaType, encoding, jsonViewAnnotation, modelConverters);
             }
             if (StringUtils.isNotBlank(annotationContent.mediaType())) {
                 content.addMediaType(annotationContent.mediaType(), mediaType);
@@ -1089,6 +1149,13 @@ public abstract class AnnotationsUtils {
     }
 
     public static Optional<? extends Schema> getSchema(io.swagger.v3.oas.annotations.media.Content annotationContent, Components components, JsonView jsonViewAnnotation) {
+        return getSchema(annotationContent, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<? extends Schema> getSchema(io.swagger.v3.oas.annotations.media.Content annotationContent, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         Class<?> schemaImplementation = annotationContent.schema().implementation();
         boolean isArray = false;
         if (schemaImplementation == Void.class) {
@@ -1097,7 +1164,7 @@ public abstract class AnnotationsUtils {
                 isArray = true;
             }
         }
-        return getSchema(annotationContent.schema(), annotationContent.array(), isArray, schemaImplementation, components, jsonViewAnnotation);
+        return getSchema(annotationContent.schema(), annotationContent.array(), isArray, schemaImplementation, components, jsonViewAnnotation, modelConverters);
     }
 
     public static Optional<? extends Schema> getSchema(io.swagger.v3.oas.annotations.media.Schema schemaAnnotation,
@@ -1106,13 +1173,26 @@ public abstract class AnnotationsUtils {
                                                        Class<?> schemaImplementation,
                                                        Components components,
                                                        JsonView jsonViewAnnotation) {
+        return getSchema(schemaAnnotation, arrayAnnotation, isArray, schemaImplementation, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<? extends Schema> getSchema(io.swagger.v3.oas.annotations.media.Schema schemaAnnotation,
+                                                       io.swagger.v3.oas.annotations.media.ArraySchema arrayAnnotation,
+                                                       boolean isArray,
+                                                       Class<?> schemaImplementation,
+                                                       Components components,
+                                                       JsonView jsonViewAnnotation,
+                                                       ModelConverters modelConverters) {
         Map<String, Schema> schemaMap;
         if (schemaImplementation != Void.class) {
             Schema schemaObject = new Schema();
             if (schemaImplementation.getName().startsWith("java.lang")) {
                 schemaObject.setType(schemaImplementation.getSimpleName().toLowerCase());
             } else {
-                ResolvedSchema resolvedSchema = ModelConverters.getInstance().readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
+                ResolvedSchema resolvedSchema = modelConverters.readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
                 if (resolvedSchema != null) {
                     schemaMap = resolvedSchema.referencedSchemas;
                     schemaMap.forEach((key, schema) -> {
@@ -1130,7 +1210,7 @@ public abstract class AnnotationsUtils {
                 schemaObject.setType("string");
             }
             if (isArray) {
-                Optional<ArraySchema> arraySchema = AnnotationsUtils.getArraySchema(arrayAnnotation, components, jsonViewAnnotation);
+                Optional<ArraySchema> arraySchema = AnnotationsUtils.getArraySchema(arrayAnnotation, components, jsonViewAnnotation, modelConverters);
                 if (arraySchema.isPresent()) {
                     arraySchema.get().setItems(schemaObject);
                     return arraySchema;
@@ -1142,7 +1222,7 @@ public abstract class AnnotationsUtils {
             }
 
         } else {
-            Optional<Schema> schemaFromAnnotation = AnnotationsUtils.getSchemaFromAnnotation(schemaAnnotation, components, jsonViewAnnotation);
+            Optional<Schema> schemaFromAnnotation = AnnotationsUtils.getSchemaFromAnnotation(schemaAnnotation, components, jsonViewAnnotation, modelConverters);
             if (schemaFromAnnotation.isPresent()) {
                 if (StringUtils.isBlank(schemaFromAnnotation.get().get$ref()) && StringUtils.isBlank(schemaFromAnnotation.get().getType()) && !(schemaFromAnnotation.get() instanceof ComposedSchema)) {
                     // default to string
@@ -1150,7 +1230,7 @@ public abstract class AnnotationsUtils {
                 }
                 return Optional.of(schemaFromAnnotation.get());
             } else {
-                Optional<ArraySchema> arraySchemaFromAnnotation = AnnotationsUtils.getArraySchema(arrayAnnotation, components, jsonViewAnnotation);
+                Optional<ArraySchema> arraySchemaFromAnnotation = AnnotationsUtils.getArraySchema(arrayAnnotation, components, jsonViewAnnotation, modelConverters);
                 if (arraySchemaFromAnnotation.isPresent()) {
                     if (arraySchemaFromAnnotation.get().getItems() != null && StringUtils.isBlank(arraySchemaFromAnnotation.get().getItems().get$ref()) && StringUtils.isBlank(arraySchemaFromAnnotation.get().getItems().getType())) {
                         // default to string
@@ -1221,14 +1301,8 @@ public abstract class AnnotationsUtils {
         if (cls == null) {
             return null;
         }
-        io.swagger.v3.oas.annotations.media.Schema mp = null;
-        io.swagger.v3.oas.annotations.media.ArraySchema as = cls.getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.ArraySchema.class);
-        if (as != null) {
-            mp = as.schema();
-        } else {
-            mp = cls.getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.Schema.class);
-        }
-        return mp;
+        DeclaredSchemaAnnotations declared = DECLARED_SCHEMA_ANNOTATIONS.get(cls);
+        return declared.arraySchema != null ? declared.arraySchema.schema() : declared.schema;
     }
 
     public static Map<String, Object> getExtensions(Extension... extensions) {
@@ -1341,6 +1415,8 @@ public abstract class AnnotationsUtils {
             field.setAccessible(true);
             Map<Class<? extends Annotation>, Annotation> annotations = (Map<Class<? extends Annotation>, Annotation>) field.get(clazz);
             annotations.put(io.swagger.v3.oas.annotations.media.Schema.class, newAnnotation);
+            DECLARED_SCHEMA_ANNOTATIONS.remove(clazz);
+            ReflectionUtils.invalidateAnnotations();
         } catch (NoSuchFieldException e) {
             //
         } catch (IllegalAccessException e) {
@@ -1351,29 +1427,25 @@ public abstract class AnnotationsUtils {
 
     /*
      * returns null if no annotations, otherwise either ArraySchema or Schema
+     *
+     * The result is memoized per raw class and context Schema/ArraySchema annotation values.
      */
     public static Annotation mergeSchemaAnnotations(
             Annotation[] ctxAnnotations, JavaType type) {
-        // get type array and schema
-        io.swagger.v3.oas.annotations.media.Schema tS = type.getRawClass().getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.Schema.class);
-        if (!hasSchemaAnnotation(tS)) {
-            tS = null;
-        }
-        io.swagger.v3.oas.annotations.media.ArraySchema tA = type.getRawClass().getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.ArraySchema.class);
-        if (!hasArrayAnnotation(tA)) {
-            tA = null;
-        }
+        return DECLARED_SCHEMA_ANNOTATIONS.get(type.getRawClass())
+                .merge(getSchemaAnnotation(ctxAnnotations), getArraySchemaAnnotation(ctxAnnotations));
+    }
 
-        io.swagger.v3.oas.annotations.media.Schema tAs = tA == null ? null : tA.schema();
-        if (!hasSchemaAnnotation(tAs)) {
-            tAs = null;
-        }
+    private static Annotation mergeSchemaAnnotations(
+            io.swagger.v3.oas.annotations.media.Schema tS,
+            io.swagger.v3.oas.annotations.media.ArraySchema tA,
+            io.swagger.v3.oas.annotations.media.Schema tAs,
+            io.swagger.v3.oas.annotations.media.Schema cS,
+            io.swagger.v3.oas.annotations.media.ArraySchema cA) {
         // get ctx array and schema
-        io.swagger.v3.oas.annotations.media.Schema cS = getSchemaAnnotation(ctxAnnotations);
         if (!hasSchemaAnnotation(cS)) {
             cS = null;
         }
-        io.swagger.v3.oas.annotations.media.ArraySchema cA = getArraySchemaAnnotation(ctxAnnotations);
         if (!hasArrayAnnotation(cA)) {
             cA = null;
         }
@@ -1441,303 +1513,229 @@ public abstract class AnnotationsUtils {
         } else if (!hasSchemaAnnotation(patch)) {
             return master;
         }
+        // attribute values are computed once, as the merged annotation is memoized and read repeatedly
+        final Class<?> implementation = !master.implementation().equals(Void.class) || patch.implementation().equals(Void.class) ? master.implementation() : patch.implementation();
+        final Class<?> not = !master.not().equals(Void.class) || patch.not().equals(Void.class) ? master.not() : patch.not();
+        final Class<?>[] oneOf = master.oneOf().length > 0 || patch.oneOf().length == 0 ? master.oneOf() : patch.oneOf();
+        final Class<?>[] anyOf = master.anyOf().length > 0 || patch.anyOf().length == 0 ? master.anyOf() : patch.anyOf();
+        final Class<?>[] allOf = master.allOf().length > 0 || patch.allOf().length == 0 ? master.allOf() : patch.allOf();
+        final String name = StringUtils.isNotBlank(master.name()) || StringUtils.isBlank(patch.name()) ? master.name() : patch.name();
+        final String title = StringUtils.isNotBlank(master.title()) || StringUtils.isBlank(patch.title()) ? master.title() : patch.title();
+        final double multipleOf = master.multipleOf() != 0 || patch.multipleOf() == 0 ? master.multipleOf() : patch.multipleOf();
+        final String maximum = StringUtils.isNotBlank(master.maximum()) || StringUtils.isBlank(patch.maximum()) ? master.maximum() : patch.maximum();
+        final boolean exclusiveMaximum = master.exclusiveMaximum() || !patch.exclusiveMaximum() ? master.exclusiveMaximum() : patch.exclusiveMaximum();
+        final String minimum = StringUtils.isNotBlank(master.minimum()) || StringUtils.isBlank(patch.minimum()) ? master.minimum() : patch.minimum();
+        final boolean exclusiveMinimum = master.exclusiveMinimum() || !patch.exclusiveMinimum() ? master.exclusiveMinimum() : patch.exclusiveMinimum();
+        final int maxLength = (master.maxLength() != Integer.MAX_VALUE && master.maxLength() > 0) || (patch.maxLength() == Integer.MAX_VALUE || patch.maxLength() == 0) ? master.maxLength() : patch.maxLength();
+        final int minLength = master.minLength() != 0 || patch.minLength() == 0 ? master.minLength() : patch.minLength();
+        final String pattern = StringUtils.isNotBlank(master.pattern()) || StringUtils.isBlank(patch.pattern()) ? master.pattern() : patch.pattern();
+        final int maxProperties = master.maxProperties() != 0 || patch.maxProperties() == 0 ? master.maxProperties() : patch.maxProperties();
+        final int minProperties = master.minProperties() != 0 || patch.minProperties() == 0 ? master.minProperties() : patch.minProperties();
+        final String[] requiredProperties = master.requiredProperties().length > 0 || patch.requiredProperties().length == 0 ? master.requiredProperties() : patch.requiredProperties();
+        final boolean required = master.required() || !patch.required() ? master.required() : patch.required();
+        final String description = StringUtils.isNotBlank(master.description()) || StringUtils.isBlank(patch.description()) ? master.description() : patch.description();
+        final String format = StringUtils.isNotBlank(master.format()) || StringUtils.isBlank(patch.format()) ? master.format() : patch.format();
+        final String ref = StringUtils.isNotBlank(master.ref()) || StringUtils.isBlank(patch.ref()) ? master.ref() : patch.ref();
+        final boolean nullable = master.nullable() || !patch.nullable() ? master.nullable() : patch.nullable();
+        final boolean readOnly = master.readOnly() || !patch.readOnly() ? master.readOnly() : patch.readOnly();
+        final boolean writeOnly = master.writeOnly() || !patch.writeOnly() ? master.writeOnly() : patch.writeOnly();
+        final io.swagger.v3.oas.annotations.media.Schema.AccessMode accessMode = !master.accessMode().equals(io.swagger.v3.oas.annotations.media.Schema.AccessMode.AUTO) || patch.accessMode().equals(io.swagger.v3.oas.annotations.media.Schema.AccessMode.AUTO) ? master.accessMode() : patch.accessMode();
+        final String example = StringUtils.isNotBlank(master.example()) || StringUtils.isBlank(patch.example()) ? master.example() : patch.example();
+        final io.swagger.v3.oas.annotations.ExternalDocumentation externalDocs = getExternalDocumentation(master.externalDocs()).isPresent() || !getExternalDocumentation(patch.externalDocs()).isPresent() ? master.externalDocs() : patch.externalDocs();
+        final boolean deprecated = master.deprecated() || !patch.deprecated() ? master.deprecated() : patch.deprecated();
+        final String type = StringUtils.isNotBlank(master.type()) || StringUtils.isBlank(patch.type()) ? master.type() : patch.type();
+        final String[] allowableValues = master.requiredProperties().length > 0 || patch.requiredProperties().length == 0 ? master.requiredProperties() : patch.requiredProperties();
+        final String defaultValue = StringUtils.isNotBlank(master.defaultValue()) || StringUtils.isBlank(patch.defaultValue()) ? master.defaultValue() : patch.defaultValue();
+        final String discriminatorProperty = StringUtils.isNotBlank(master.defaultValue()) || StringUtils.isBlank(patch.defaultValue()) ? master.defaultValue() : patch.defaultValue();
+        final DiscriminatorMapping[] discriminatorMapping = master.discriminatorMapping().length > 0 || patch.discriminatorMapping().length == 0 ? master.discriminatorMapping() : patch.discriminatorMapping();
+        final boolean hidden = master.hidden() || !patch.hidden() ? master.hidden() : patch.hidden();
+        final Class<?>[] subTypes = master.subTypes().length > 0 || patch.subTypes().length == 0 ? master.subTypes() : patch.subTypes();
+        final Extension[] extensions = master.extensions().length > 0 || patch.extensions().length == 0 ? master.extensions() : patch.extensions();
+
         Annotation schema = new io.swagger.v3.oas.annotations.media.Schema() {
             @Override
             public Class<?> implementation() {
-                if (!master.implementation().equals(Void.class) || patch.implementation().equals(Void.class)) {
-                    return master.implementation();
-                }
-                return patch.implementation();
+                return implementation;
             }
 
             @Override
             public Class<?> not() {
-                if (!master.not().equals(Void.class) || patch.not().equals(Void.class)) {
-                    return master.not();
-                }
-                return patch.not();
+                return not;
             }
 
             @Override
             public Class<?>[] oneOf() {
-                if (master.oneOf().length > 0 || patch.oneOf().length == 0) {
-                    return master.oneOf();
-                }
-                return patch.oneOf();
+                return oneOf;
             }
 
             @Override
             public Class<?>[] anyOf() {
-                if (master.anyOf().length > 0 || patch.anyOf().length == 0) {
-                    return master.anyOf();
-                }
-                return patch.anyOf();
+                return anyOf;
             }
 
             @Override
             public Class<?>[] allOf() {
-                if (master.allOf().length > 0 || patch.allOf().length == 0) {
-                    return master.allOf();
-                }
-                return patch.allOf();
+                return allOf;
             }
 
             @Override
             public String name() {
-                if (StringUtils.isNotBlank(master.name()) || StringUtils.isBlank(patch.name())) {
-                    return master.name();
-                }
-                return patch.name();
+                return name;
             }
 
             @Override
             public String title() {
-                if (StringUtils.isNotBlank(master.title()) || StringUtils.isBlank(patch.title())) {
-                    return master.title();
-                }
-                return patch.title();
+                return title;
             }
 
             @Override
             public double multipleOf() {
-                if (master.multipleOf() != 0 || patch.multipleOf() == 0) {
-                    return master.multipleOf();
-                }
-                return patch.multipleOf();
-
+                return multipleOf;
             }
 
             @Override
             public String maximum() {
-                if (StringUtils.isNotBlank(master.maximum()) || StringUtils.isBlank(patch.maximum())) {
-                    return master.maximum();
-                }
-                return patch.maximum();
+                return maximum;
             }
 
             @Override
             public boolean exclusiveMaximum() {
-                if (master.exclusiveMaximum() || !patch.exclusiveMaximum()) {
-                    return master.exclusiveMaximum();
-                }
-                return patch.exclusiveMaximum();
+                return exclusiveMaximum;
             }
 
             @Override
             public String minimum() {
-                if (StringUtils.isNotBlank(master.minimum()) || StringUtils.isBlank(patch.minimum())) {
-                    return master.minimum();
-                }
-                return patch.minimum();
+                return minimum;
             }
 
             @Override
             public boolean exclusiveMinimum() {
-                if (master.exclusiveMinimum() || !patch.exclusiveMinimum()) {
-                    return master.exclusiveMinimum();
-                }
-                return patch.exclusiveMinimum();
+                return exclusiveMinimum;
             }
 
             @Override
             public int maxLength() {
-                if ((   master.maxLength() != Integer.MAX_VALUE && master.maxLength() > 0) ||
-                        (patch.maxLength() == Integer.MAX_VALUE || patch.maxLength() == 0)   ) {
-                    return master.maxLength();
-                }
-                return patch.maxLength();
+                return maxLength;
             }
 
             @Override
             public int minLength() {
-                if (master.minLength() != 0 || patch.minLength() == 0) {
-                    return master.minLength();
-                }
-                return patch.minLength();
+                return minLength;
             }
 
             @Override
             public String pattern() {
-                if (StringUtils.isNotBlank(master.pattern()) || StringUtils.isBlank(patch.pattern())) {
-                    return master.pattern();
-                }
-                return patch.pattern();
+                return pattern;
             }
 
             @Override
             public int maxProperties() {
-                if (master.maxProperties() != 0 || patch.maxProperties() == 0) {
-                    return master.maxProperties();
-                }
-                return patch.maxProperties();
+                return maxProperties;
             }
 
             @Override
             public int minProperties() {
-                if (master.minProperties() != 0 || patch.minProperties() == 0) {
-                    return master.minProperties();
-                }
-                return patch.minProperties();
+                return minProperties;
             }
 
             @Override
             public String[] requiredProperties() {
-                if (master.requiredProperties().length > 0 || patch.requiredProperties().length == 0) {
-                    return master.requiredProperties();
-                }
-                return patch.requiredProperties();
+                return requiredProperties;
             }
 
             @Override
             public boolean required() {
-                if (master.required() || !patch.required()) {
-                    return master.required();
-                }
-                return patch.required();
+                return required;
             }
 
             @Override
             public String description() {
-                if (StringUtils.isNotBlank(master.description()) || StringUtils.isBlank(patch.description())) {
-                    return master.description();
-                }
-                return patch.description();
+                return description;
             }
 
             @Override
             public String format() {
-                if (StringUtils.isNotBlank(master.format()) || StringUtils.isBlank(patch.format())) {
-                    return master.format();
-                }
-                return patch.format();
+                return format;
             }
 
             @Override
             public String ref() {
-                if (StringUtils.isNotBlank(master.ref()) || StringUtils.isBlank(patch.ref())) {
-                    return master.ref();
-                }
-                return patch.ref();
+                return ref;
             }
 
             @Override
             public boolean nullable() {
-                if (master.nullable() || !patch.nullable()) {
-                    return master.nullable();
-                }
-                return patch.nullable();
+                return nullable;
             }
 
             @Override
             public boolean readOnly() {
-                if (master.readOnly() || !patch.readOnly()) {
-                    return master.readOnly();
-                }
-                return patch.readOnly();
+                return readOnly;
             }
 
             @Override
             public boolean writeOnly() {
-                if (master.writeOnly() || !patch.writeOnly()) {
-                    return master.writeOnly();
-                }
-                return patch.writeOnly();
+                return writeOnly;
             }
 
             @Override
             public AccessMode accessMode() {
-                if (!master.accessMode().equals(AccessMode.AUTO) || patch.accessMode().equals(AccessMode.AUTO)) {
-                    return master.accessMode();
-                }
-                return patch.accessMode();
+                return accessMode;
             }
 
             @Override
             public String example() {
-                if (StringUtils.isNotBlank(master.example()) || StringUtils.isBlank(patch.example())) {
-                    return master.example();
-                }
-                return patch.example();
+                return example;
             }
 
             @Override
             public io.swagger.v3.oas.annotations.ExternalDocumentation externalDocs() {
-                if (getExternalDocumentation(master.externalDocs()).isPresent() || !getExternalDocumentation(patch.externalDocs()).isPresent()) {
-                    return master.externalDocs();
-                }
-                return patch.externalDocs();
+                return externalDocs;
             }
 
             @Override
             public boolean deprecated() {
-                if (master.deprecated() || !patch.deprecated()) {
-                    return master.deprecated();
-                }
-                return patch.deprecated();
+                return deprecated;
             }
 
             @Override
             public String type() {
-                if (StringUtils.isNotBlank(master.type()) || StringUtils.isBlank(patch.type())) {
-                    return master.type();
-                }
-                return patch.type();
+                return type;
             }
 
             @Override
             public String[] allowableValues() {
-                if (master.requiredProperties().length > 0 || patch.requiredProperties().length == 0) {
-                    return master.requiredProperties();
-                }
-                return patch.requiredProperties();
+                return allowableValues;
             }
 
             @Override
             public String defaultValue() {
-                if (StringUtils.isNotBlank(master.defaultValue()) || StringUtils.isBlank(patch.defaultValue())) {
-                    return master.defaultValue();
-                }
-                return patch.defaultValue();
+                return defaultValue;
             }
 
             @Override
             public String discriminatorProperty() {
-                if (StringUtils.isNotBlank(master.defaultValue()) || StringUtils.isBlank(patch.defaultValue())) {
-                    return master.defaultValue();
-                }
-                return patch.defaultValue();
+                return discriminatorProperty;
             }
 
             @Override
             public DiscriminatorMapping[] discriminatorMapping() {
-                if (master.discriminatorMapping().length > 0 || patch.discriminatorMapping().length == 0) {
-                    return master.discriminatorMapping();
-                }
-                return patch.discriminatorMapping();
+                return discriminatorMapping;
             }
 
             @Override
             public boolean hidden() {
-                if (master.hidden() || !patch.hidden()) {
-                    return master.hidden();
-                }
-                return patch.hidden();
+                return hidden;
             }
 
             @Override
             public Class<?>[] subTypes() {
-                if (master.subTypes().length > 0 || patch.subTypes().length == 0) {
-                    return master.subTypes();
-                }
-                return patch.subTypes();
+                return subTypes;
             }
 
             @Override
             public Extension[] extensions() {
-                if (master.extensions().length > 0 || patch.extensions().length == 0) {
-                    return master.extensions();
-                }
-                return patch.extensions();
+                return extensions;
             }
 
             @Override
@@ -1759,6 +1757,15 @@ public abstract class AnnotationsUtils {
         } else if (!hasArrayAnnotation(patch)) {
             return master;
         }
+        final io.swagger.v3.oas.annotations.media.Schema schema =
+                hasSchemaAnnotation(patch.schema()) ? mergeSchemaAnnotations(master.schema(), patch.schema()) : master.schema();
+        final io.swagger.v3.oas.annotations.media.Schema arraySchema =
+                hasSchemaAnnotation(patch.arraySchema()) ? mergeSchemaAnnotations(master.arraySchema(), patch.arraySchema()) : master.arraySchema();
+        final int maxItems = master.maxItems() != 0 || patch.maxItems() == 0 ? master.maxItems() : patch.maxItems();
+        final int minItems = master.maxItems() != 0 || patch.maxItems() == 0 ? master.maxItems() : patch.maxItems();
+        final boolean uniqueItems = master.uniqueItems() || !patch.uniqueItems() ? master.uniqueItems() : patch.uniqueItems();
+        final Extension[] extensions = master.extensions().length > 0 || patch.extensions().length == 0 ? master.extensions() : patch.extensions();
+
         Annotation newArraySchema = new io.swagger.v3.oas.annotations.media.ArraySchema() {
 
             @Override
@@ -1768,62 +1775,32 @@ public abstract class AnnotationsUtils {
 
             @Override
             public io.swagger.v3.oas.annotations.media.Schema schema() {
-                io.swagger.v3.oas.annotations.media.Schema patchSchema = patch.schema();
-                if (!hasSchemaAnnotation(patchSchema)) {
-                    patchSchema = null;
-                }
-
-                if (patchSchema == null) {
-                    return master.schema();
-                } else {
-                    return mergeSchemaAnnotations(master.schema(), patch.schema());
-                }
+                return schema;
             }
 
             @Override
             public io.swagger.v3.oas.annotations.media.Schema arraySchema() {
-                io.swagger.v3.oas.annotations.media.Schema patchSchema = patch.arraySchema();
-                if (!hasSchemaAnnotation(patchSchema)) {
-                    patchSchema = null;
-                }
-
-                if (patchSchema == null) {
-                    return master.arraySchema();
-                } else {
-                    return mergeSchemaAnnotations(master.arraySchema(), patch.arraySchema());
-                }
+                return arraySchema;
             }
 
             @Override
             public int maxItems() {
-                if (master.maxItems() != 0 || patch.maxItems() == 0) {
-                    return master.maxItems();
-                }
-                return patch.maxItems();
+                return maxItems;
             }
 
             @Override
             public int minItems() {
-                if (master.maxItems() != 0 || patch.maxItems() == 0) {
-                    return master.maxItems();
-                }
-                return patch.maxItems();
+                return minItems;
             }
 
             @Override
             public boolean uniqueItems() {
-                if (master.uniqueItems() || !patch.uniqueItems()) {
-                    return master.uniqueItems();
-                }
-                return patch.uniqueItems();
+                return uniqueItems;
             }
 
             @Override
             public Extension[] extensions() {
-                if (master.extensions().length > 0 || patch.extensions().length == 0) {
-                    return master.extensions();
-                }
-                return patch.extensions();
+                return extensions;
             }
         };
 
@@ -1879,4 +1856,117 @@ public abstract class AnnotationsUtils {
 
         return (io.swagger.v3.oas.annotations.media.ArraySchema)newArraySchema;
     }
+
+    /**
+     * Schema and ArraySchema annotations declared on a class, with the merges of them and context annotations.
+     */
+    private static final class DeclaredSchemaAnnotations {
+
+        final io.swagger.v3.oas.annotations.media.Schema schema;
+        final io.swagger.v3.oas.annotations.media.ArraySchema arraySchema;
+        private final ClassLoader loader;
+        private final io.swagger.v3.oas.annotations.media.Schema tS;
+        private final io.swagger.v3.oas.annotations.media.ArraySchema tA;
+        private final io.swagger.v3.oas.annotations.media.Schema tAs;
+        private final Annotation merged;
+        private final Map<MergeKey, Optional<Annotation>> mergedWithCtx = new ConcurrentHashMap<>();
+
+        DeclaredSchemaAnnotations(Class<?> type) {
+            schema = type.getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.Schema.class);
+            arraySchema = type.getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.ArraySchema.class);
+            loader = type.getClassLoader();
+            tS = hasSchemaAnnotation(schema) ? schema : null;
+            tA = hasArrayAnnotation(arraySchema) ? arraySchema : null;
+            tAs = tA != null && hasSchemaAnnotation(tA.schema()) ? tA.schema() : null;
+            merged = mergeSchemaAnnotations(tS, tA, tAs, null, null);
+        }
+
+        Annotation merge(io.swagger.v3.oas.annotations.media.Schema cS, io.swagger.v3.oas.annotations.media.ArraySchema cA) {
+            if (cS == null && cA == null) {
+                return merged;
+            }
+            if (tS == null && tA == null) {
+                // nothing to merge, the result is one of the context annotations
+                return mergeSchemaAnnotations(null, null, null, cS, cA);
+            }
+            MergeKey key = new MergeKey(cS, cA);
+            Optional<Annotation> result = mergedWithCtx.get(key);
+            if (result == null) {
+                result = Optional.ofNullable(mergeSchemaAnnotations(tS, tA, tAs, cS, cA));
+                if (isCacheable(cS) && isCacheable(cA)) {
+                    mergedWithCtx.putIfAbsent(key, result);
+                }
+            }
+            return result.orElse(null);
+        }
+
+        /**
+         * Only annotations read from class files are kept: their number is bounded and they are equal by value, unlike
+         * synthesized ones. They must not reference classes of loaders not visible from the class either, which they
+         * would keep from being collected.
+         */
+        private boolean isCacheable(Annotation annotation) {
+            return annotation == null || Proxy.isProxyClass(annotation.getClass()) && isVisible(annotation);
+        }
+
+        private boolean isVisible(Object value) {
+            if (value instanceof Class) {
+                return ReflectionUtils.isAncestorOrSelf(((Class<?>) value).getClassLoader(), loader);
+            }
+            if (value instanceof Object[]) {
+                for (Object element : (Object[]) value) {
+                    if (!isVisible(element)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (value instanceof Annotation) {
+                Annotation annotation = (Annotation) value;
+                if (!isVisible(annotation.annotationType())) {
+                    return false;
+                }
+                for (Method member : annotation.annotationType().getDeclaredMethods()) {
+                    try {
+                        if (!isVisible(member.invoke(annotation))) {
+                            return false;
+                        }
+                    } catch (ReflectiveOperationException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Context Schema and ArraySchema annotations, compared by value.
+     */
+    private static final class MergeKey {
+
+        private final Annotation schema;
+        private final Annotation arraySchema;
+        private final int hashCode;
+
+        MergeKey(Annotation schema, Annotation arraySchema) {
+            this.schema = schema;
+            this.arraySchema = arraySchema;
+            this.hashCode = 31 * Objects.hashCode(schema) + Objects.hashCode(arraySchema);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof MergeKey)) {
+                return false;
+            }
+            MergeKey other = (MergeKey) o;
+            return hashCode == other.hashCode && Objects.equals(schema, other.schema) && Objects.equals(arraySchema, other.arraySchema);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package io.swagger.v3.core.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Values computed once per class. The values of the classes living as long as this one, e.g. JDK classes, are kept by
+ * the cache; the others are attached to their class, so that a value never keeps the class loader of a redeployed
+ * application from being collected through a longer lived class.
+ *
+ * @since 2.0.11
+ */
+public abstract class ClassCache<V> {
+
+    private final Map<Class<?>, V> local = new ConcurrentHashMap<>();
+    private final ClassValue<V> attached = new ClassValue<V>() {
+        @Override
+        protected V computeValue(Class<?> type) {
+            return ClassCache.this.computeValue(type);
+        }
+    };
+
+    protected abstract V computeValue(Class<?> type);
+
+    public V get(Class<?> type) {
+        V value = local.get(type);
+        if (value != null) {
+            return value;
+        }
+        if (isLocal(type)) {
+            return local.computeIfAbsent(type, this::computeValue);
+        }
+        return attached.get(type);
+    }
+
+    public void remove(Class<?> type) {
+        local.remove(type);
+        attached.remove(type);
+    }
+
+    static boolean isLocal(Class<?> type) {
+        return ReflectionUtils.isAncestorOrSelf(type.getClassLoader(), ClassCache.class.getClassLoader());
+    }
+}
@@ -0,0 +1,190 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.FreezableLinkedHashMap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Freezes the collections of a model tree in place, so that a spec can be shared between threads and reused as a
+ * whole or in parts by filtered specs without the filters and listeners adding or removing entries.
+ * <p>
+ * The collection fields of the given tree are replaced by unmodifiable views and the map based models (e.g.
+ * {@link io.swagger.v3.oas.models.Paths}) reject any change, so only trees owned by the caller, e.g. the spec just
+ * read by a context, should be frozen. This is not a deeply immutable copy: the models stay plain beans, their scalar
+ * properties are not guarded and must not be set on a frozen tree, and their hash codes are computed on each call.
+ *
+ * @since 2.0.11
+ */
+public final class OpenAPIFreezer {
+
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+
+    private static final Set<Class<?>> UNMODIFIABLE_TYPES = new HashSet<>(Arrays.asList(
+            Collections.unmodifiableCollection(new ArrayList<>()).getClass(),
+            Collections.unmodifiableList(new ArrayList<>()).getClass(),
+            Collections.unmodifiableList(new LinkedList<>()).getClass(),
+            Collections.unmodifiableSet(new HashSet<>()).getClass(),
+            Collections.unmodifiableMap(new HashMap<>()).getClass()));
+
+    private static final ClassValue<Boolean> MODEL_TYPES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (type.isEnum()) {
+                return false;
+            }
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                if (c.getName().startsWith(MODELS_PACKAGE)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    private static final ClassValue<List<Field>> MODEL_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class && c != FreezableLinkedHashMap.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+    };
+
+    private OpenAPIFreezer() {
+    }
+
+    /**
+     * Freezes in place the given model object and everything reachable from it.
+     *
+     * @return the given model object
+     */
+    public static <T> T freeze(T model) {
+        if (model == null) {
+            return null;
+        }
+        if (!(model instanceof FreezableLinkedHashMap) && !MODEL_TYPES.get(model.getClass())) {
+            throw new IllegalArgumentException(model.getClass().getName() + " is not a model type");
+        }
+        freeze(model, new IdentityHashMap<>());
+        return model;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object value, Map<Object, Object> frozen) {
+        if (value == null) {
+            return null;
+        }
+        Object result = frozen.get(value);
+        if (result != null) {
+            return result;
+        }
+        if (value instanceof FreezableLinkedHashMap) {
+            FreezableLinkedHashMap<Object, Object> map = (FreezableLinkedHashMap<Object, Object>) value;
+            frozen.put(value, value);
+            if (map.isFrozen()) {
+                freezeAll(map.values(), frozen);
+            } else {
+                map.replaceAll((k, v) -> freeze(v, frozen));
+                map.freeze();
+            }
+            freezeFields(value, frozen);
+            return value;
+        }
+        if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            result = UNMODIFIABLE_TYPES.contains(value.getClass()) ? value : Collections.unmodifiableList(list);
+            frozen.put(value, result);
+            List<Object> elements = freezeAll(list, frozen);
+            if (elements != null) {
+                result = Collections.unmodifiableList(elements);
+                frozen.put(value, result);
+            }
+            return result;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            result = UNMODIFIABLE_TYPES.contains(value.getClass()) ? value : Collections.unmodifiableMap(map);
+            frozen.put(value, result);
+            Map<Object, Object> entries = null;
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                Object frozenValue = freeze(entry.getValue(), frozen);
+                if (frozenValue != entry.getValue() && entries == null) {
+                    entries = new LinkedHashMap<>(map);
+                }
+                if (entries != null) {
+                    entries.put(entry.getKey(), frozenValue);
+                }
+            }
+            if (entries != null) {
+                result = Collections.unmodifiableMap(entries);
+                frozen.put(value, result);
+            }
+            return result;
+        }
+        if (value instanceof Set) {
+            result = UNMODIFIABLE_TYPES.contains(value.getClass()) ? value : Collections.unmodifiableSet((Set<Object>) value);
+            frozen.put(value, result);
+            freezeAll((Set<Object>) value, frozen);
+            return result;
+        }
+        if (MODEL_TYPES.get(value.getClass())) {
+            frozen.put(value, value);
+            freezeFields(value, frozen);
+        }
+        return value;
+    }
+
+    /**
+     * @return the frozen elements, or null if freezing left all of them unchanged
+     */
+    private static List<Object> freezeAll(Collection<Object> values, Map<Object, Object> frozen) {
+        List<Object> elements = null;
+        int i = 0;
+        for (Object element : values) {
+            Object frozenElement = freeze(element, frozen);
+            if (frozenElement != element && elements == null) {
+                elements = new ArrayList<>(values);
+            }
+            if (elements != null) {
+                elements.set(i, frozenElement);
+            }
+            i++;
+        }
+        return elements;
+    }
+
+    private static void freezeFields(Object model, Map<Object, Object> frozen) {
+        try {
+            for (Field field : MODEL_FIELDS.get(model.getClass())) {
+                Object value = field.get(model);
+                Object frozenValue = freeze(value, frozen);
+                if (frozenValue != value && field.getType().isInstance(frozenValue)) {
+                    field.set(model, frozenValue);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("cannot freeze " + model.getClass().getName(), e);
+        }
+    }
+}
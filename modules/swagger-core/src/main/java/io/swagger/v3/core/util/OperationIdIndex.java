@@ -0,0 +1,137 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the operation ids used by the paths of an OpenAPI, which readers keep up to date as they add operations
+ * so that finding a unique operation id does not scan all paths for each candidate.
+ * <p>
+ * The index is rebuilt when the indexed Paths object is replaced or its number of path items changes behind the
+ * reader's back; operation ids changed in place on operations already added are not seen.
+ *
+ * @since 2.0.11
+ */
+public class OperationIdIndex {
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<String, Integer> nextSuffixes = new HashMap<>();
+    private final List<String> updating = new ArrayList<>();
+    private Paths indexedPaths;
+    private int indexedSize;
+
+    /**
+     * @return the given operation id if no operation of the given paths uses it, otherwise the first unused
+     * "operationId_N" one
+     */
+    public String getUniqueOperationId(Paths paths, String operationId) {
+        sync(paths);
+        if (!counts.containsKey(operationId)) {
+            return operationId;
+        }
+        int counter = nextSuffixes.getOrDefault(operationId, 0);
+        String operationIdToFind;
+        do {
+            operationIdToFind = String.format("%s_%d", operationId, ++counter);
+        } while (counts.containsKey(operationIdToFind));
+        // the suffixes below counter are used, and stay so as long as no operation id is removed
+        nextSuffixes.put(operationId, counter - 1);
+        return operationIdToFind;
+    }
+
+    /**
+     * To be called before changing the operations of the given path item, which is either the one of the given path
+     * or about to be added to the paths for it.
+     */
+    public void beforeUpdate(Paths paths, String path, PathItem pathItem) {
+        sync(paths);
+        updating.clear();
+        if (paths != null && paths.get(path) == pathItem) {
+            for (String operationId : getOperationIds(pathItem)) {
+                remove(operationId);
+                updating.add(operationId);
+            }
+        }
+    }
+
+    /**
+     * To be called after changing the operations of the given path item and adding it to the given paths.
+     */
+    public void afterUpdate(Paths paths, PathItem pathItem) {
+        if (paths != indexedPaths) {
+            invalidate();
+            return;
+        }
+        for (String operationId : getOperationIds(pathItem)) {
+            counts.merge(operationId, 1, Integer::sum);
+        }
+        for (String operationId : updating) {
+            if (!counts.containsKey(operationId)) {
+                nextSuffixes.clear();
+                break;
+            }
+        }
+        updating.clear();
+        indexedSize = paths == null ? 0 : paths.size();
+    }
+
+    public void invalidate() {
+        indexedPaths = null;
+        indexedSize = -1;
+        counts.clear();
+        nextSuffixes.clear();
+        updating.clear();
+    }
+
+    private void sync(Paths paths) {
+        int size = paths == null ? 0 : paths.size();
+        if (paths == indexedPaths && size == indexedSize) {
+            return;
+        }
+        invalidate();
+        indexedPaths = paths;
+        indexedSize = size;
+        if (paths != null) {
+            for (PathItem pathItem : paths.values()) {
+                for (String operationId : getOperationIds(pathItem)) {
+                    counts.merge(operationId, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    private void remove(String operationId) {
+        Integer count = counts.get(operationId);
+        if (count == null) {
+            return;
+        }
+        if (count <= 1) {
+            counts.remove(operationId);
+        } else {
+            counts.put(operationId, count - 1);
+        }
+    }
+
+    private static List<String> getOperationIds(PathItem pathItem) {
+        List<String> ids = new ArrayList<>();
+        if (pathItem == null) {
+            return ids;
+        }
+        // trace operations are not considered, as when scanning the paths
+        for (Operation operation : Arrays.asList(pathItem.getGet(), pathItem.getPost(), pathItem.getPut(),
+                pathItem.getDelete(), pathItem.getOptions(), pathItem.getHead(), pathItem.getPatch())) {
+            if (operation != null && StringUtils.isNotBlank(operation.getOperationId())) {
+                ids.add(operation.getOperationId());
+            }
+        }
+        return ids;
+    }
+}
@@ -36,6 +36,21 @@ public class ParameterProcessor {
             String[] classTypes,
             String[] methodTypes,
             JsonView jsonViewAnnotation) {
+        return applyAnnotations(parameter, type, annotations, components, classTypes, methodTypes, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Parameter applyAnnotations(
+            Parameter parameter,
+            Type type,
+            List<Annotation> annotations,
+            Components components,
+            String[] classTypes,
+            String[] methodTypes,
+            JsonView jsonViewAnnotation,
+            ModelConverters modelConverters) {
 
         final AnnotationsHelper helper = new AnnotationsHelper(annotations, type);
         if (helper.isContext()) {
@@ -59,7 +74,7 @@ public class ParameterProcessor {
                 .skipOverride(true)
                 .jsonViewAnnotation(jsonViewAnnotation)
                 .ctxAnnotations(reworkedAnnotations.toArray(new Annotation[reworkedAnnotations.size()]));
-        ResolvedSchema resolvedSchema = ModelConverters.getInstance().resolveAsResolvedSchema(annotatedType);
+        ResolvedSchema resolvedSchema = modelConverters.resolveAsResolvedSchema(annotatedType);
 
         if (resolvedSchema.schema != null) {
             parameter.setSchema(resolvedSchema.schema);
@@ -131,7 +146,7 @@ public class ParameterProcessor {
                     }
                 }
 
-                Optional<Content> content = AnnotationsUtils.getContent(p.content(), classTypes, methodTypes, parameter.getSchema(), null, jsonViewAnnotation);
+                Optional<Content> content = AnnotationsUtils.getContent(p.content(), classTypes, methodTypes, parameter.getSchema(), null, jsonViewAnnotation, modelConverters);
                 if (content.isPresent()) {
                     parameter.setContent(content.get());
                     parameter.setSchema(null);
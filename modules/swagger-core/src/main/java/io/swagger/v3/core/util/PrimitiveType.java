@@ -1,5 +1,6 @@
 package io.swagger.v3.core.util;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.oas.models.media.BinarySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -15,12 +16,16 @@ import io.swagger.v3.oas.models.media.UUIDSchema;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The <code>PrimitiveType</code> enumeration defines a mapping of limited set
@@ -155,29 +160,35 @@ public enum PrimitiveType {
      */
     private static final Map<String, PrimitiveType> EXTERNAL_CLASSES;
 
+    /**
+     * Classification of each class, replaced whenever the custom classes or system types settings below change.
+     */
+    private static volatile ClassValue<Classification> classifications = newClassifications();
+    private static final AtomicInteger classificationsVersion = new AtomicInteger();
+
     /**
      * Allows to exclude specific classes from KEY_CLASSES mappings to primitive
      * Joda lib.
      */
-    private static Set<String> customExcludedClasses = new ConcurrentHashMap<String, String>().newKeySet();
+    private static Set<String> customExcludedClasses = new ClassificationSet();
 
     /**
      * Adds support for custom mapping of classes to primitive types
      */
-    private static Map<String, PrimitiveType> customClasses = new ConcurrentHashMap<String, PrimitiveType>();
+    private static Map<String, PrimitiveType> customClasses = new ClassificationMap();
 
     /**
      * class qualified names prefixes to be considered as "system" types
      */
-    private static Set<String> systemPrefixes = new ConcurrentHashMap<String, Boolean>().newKeySet();
+    private static Set<String> systemPrefixes = new ClassificationSet();
     /**
      * class qualified names NOT to be considered as "system" types
      */
-    private static Set<String> nonSystemTypes = new ConcurrentHashMap<String, Boolean>().newKeySet();
+    private static Set<String> nonSystemTypes = new ClassificationSet();
     /**
      * package names NOT to be considered as "system" types
      */
-    private static Set<String> nonSystemTypePackages = new ConcurrentHashMap<String, Boolean>().newKeySet();
+    private static Set<String> nonSystemTypePackages = new ClassificationSet();
 
     /**
      * Alternative names for primitive types that have to be supported for
@@ -321,7 +332,26 @@ public enum PrimitiveType {
     }
 
     public static PrimitiveType fromType(Type type) {
-        final Class<?> raw = TypeFactory.defaultInstance().constructType(type).getRawClass();
+        final Class<?> raw;
+        if (type instanceof Class) {
+            raw = (Class<?>) type;
+        } else if (type instanceof JavaType) {
+            raw = ((JavaType) type).getRawClass();
+        } else {
+            raw = TypeFactory.defaultInstance().constructType(type).getRawClass();
+        }
+        return classifications.get(raw).primitiveType;
+    }
+
+    /**
+     * @return true if the class name starts with one of the {@link #systemPrefixes()} and the class is not excluded by
+     * {@link #nonSystemTypes()} or {@link #nonSystemTypePackages()}
+     */
+    static boolean isSystemClass(Class<?> cls) {
+        return classifications.get(cls).systemClass;
+    }
+
+    private static PrimitiveType classify(Class<?> raw) {
         final PrimitiveType key = KEY_CLASSES.get(raw);
         if (key != null) {
             if (!customExcludedClasses.contains(raw.getName())) {
@@ -390,12 +420,199 @@ public enum PrimitiveType {
 
     public abstract Schema createProperty();
 
+    private static boolean isSystemClassName(Class<?> cls) {
+        for (String systemPrefix : systemPrefixes) {
+            if (cls.getName().startsWith(systemPrefix)) {
+                if (!nonSystemTypes.contains(cls.getName()) &&
+                        !nonSystemTypePackages.contains(cls.getPackage().getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ClassValue<Classification> newClassifications() {
+        return new ClassValue<Classification>() {
+            @Override
+            protected Classification computeValue(Class<?> type) {
+                return new Classification(classify(type), isSystemClassName(type));
+            }
+        };
+    }
+
+    private static void invalidateClassifications() {
+        classifications = newClassifications();
+        classificationsVersion.incrementAndGet();
+    }
+
+    /**
+     * @return a number changing whenever the custom classes or system types settings change, e.g. to tell whether
+     * types resolved before are still resolved the same way
+     * @since 2.0.11
+     */
+    public static int getClassificationsVersion() {
+        return classificationsVersion.get();
+    }
+
     private static <K> void addKeys(Map<K, PrimitiveType> map, PrimitiveType type, K... keys) {
         for (K key : keys) {
             map.put(key, type);
         }
     }
 
+    private static final class Classification {
+        private final PrimitiveType primitiveType;
+        private final boolean systemClass;
+
+        private Classification(PrimitiveType primitiveType, boolean systemClass) {
+            this.primitiveType = primitiveType;
+            this.systemClass = systemClass;
+        }
+    }
+
+    /**
+     * Concurrent set invalidating the classifications when modified.
+     */
+    private static final class ClassificationSet extends AbstractSet<String> {
+        private final Set<String> values = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean add(String value) {
+            boolean added = values.add(value);
+            if (added) {
+                invalidateClassifications();
+            }
+            return added;
+        }
+
+        @Override
+        public boolean remove(Object value) {
+            boolean removed = values.remove(value);
+            if (removed) {
+                invalidateClassifications();
+            }
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+            invalidateClassifications();
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return values.contains(value);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new InvalidatingIterator<>(values.iterator());
+        }
+    }
+
+    /**
+     * Concurrent map invalidating the classifications when modified.
+     */
+    private static final class ClassificationMap extends AbstractMap<String, PrimitiveType> {
+        private final Map<String, PrimitiveType> values = new ConcurrentHashMap<>();
+
+        @Override
+        public PrimitiveType put(String key, PrimitiveType value) {
+            PrimitiveType previous = values.put(key, value);
+            invalidateClassifications();
+            return previous;
+        }
+
+        @Override
+        public PrimitiveType remove(Object key) {
+            PrimitiveType previous = values.remove(key);
+            if (previous != null) {
+                invalidateClassifications();
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+            invalidateClassifications();
+        }
+
+        @Override
+        public PrimitiveType get(Object key) {
+            return values.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Set<Entry<String, PrimitiveType>> entrySet() {
+            return new AbstractSet<Entry<String, PrimitiveType>>() {
+                @Override
+                public Iterator<Entry<String, PrimitiveType>> iterator() {
+                    final Iterator<Entry<String, PrimitiveType>> entries = values.entrySet().iterator();
+                    return new InvalidatingIterator<Entry<String, PrimitiveType>>(entries) {
+                        @Override
+                        public Entry<String, PrimitiveType> next() {
+                            final Entry<String, PrimitiveType> entry = super.next();
+                            return new SimpleEntry<String, PrimitiveType>(entry) {
+                                @Override
+                                public PrimitiveType setValue(PrimitiveType value) {
+                                    super.setValue(value);
+                                    return put(entry.getKey(), value);
+                                }
+                            };
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.size();
+                }
+            };
+        }
+    }
+
+    private static class InvalidatingIterator<E> implements Iterator<E> {
+        private final Iterator<E> iterator;
+
+        private InvalidatingIterator(Iterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            invalidateClassifications();
+        }
+    }
+
     private static class DateStub {
         private DateStub() {
         }
@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -15,13 +16,26 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ReflectionUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(ReflectionUtils.class);
 
+    private static volatile ClassValue<AnnotationIndex> annotationIndex = newAnnotationIndex();
+
+    private static final ClassValue<MethodIndex> METHOD_INDEX = new ClassValue<MethodIndex>() {
+        @Override
+        protected MethodIndex computeValue(Class<?> type) {
+            return new MethodIndex(type);
+        }
+    };
+
     public static Type typeFromString(String type) {
         final PrimitiveType primitive = PrimitiveType.fromName(type);
         if (primitive != null) {
@@ -58,6 +72,10 @@ public class ReflectionUtils {
      * @return true if the method is overridden method
      */
     public static boolean isOverriddenMethod(Method methodToFind, Class<?> cls) {
+        return METHOD_INDEX.get(cls).overridden.computeIfAbsent(methodToFind, m -> computeIsOverriddenMethod(m, cls));
+    }
+
+    private static boolean computeIsOverriddenMethod(Method methodToFind, Class<?> cls) {
         Set<Class<?>> superClasses = new HashSet<>();
         for (Class c : cls.getInterfaces()) {
             superClasses.add(c);
@@ -69,8 +87,8 @@ public class ReflectionUtils {
 
         for (Class<?> superClass : superClasses) {
             if (superClass != null && !(superClass.equals(Object.class))) {
-                for (Method method : superClass.getMethods()) {
-                    if (method.getName().equals(methodToFind.getName()) && method.getReturnType().isAssignableFrom(methodToFind.getReturnType())
+                for (Method method : METHOD_INDEX.get(superClass).getMethods(methodToFind.getName())) {
+                    if (method.getReturnType().isAssignableFrom(methodToFind.getReturnType())
                             && Arrays.equals(method.getParameterTypes(), methodToFind.getParameterTypes()) && !Arrays.equals(method.getGenericParameterTypes(), methodToFind.getGenericParameterTypes())) {
                         return true;
                     }
@@ -91,6 +109,12 @@ public class ReflectionUtils {
      * @return overridden method from superclass
      */
     public static Method getOverriddenMethod(Method method) {
+        return METHOD_INDEX.get(method.getDeclaringClass()).overriddenMethods
+                .computeIfAbsent(method, m -> Optional.ofNullable(computeOverriddenMethod(m)))
+                .orElse(null);
+    }
+
+    private static Method computeOverriddenMethod(Method method) {
         Class<?> declaringClass = method.getDeclaringClass();
         Class<?> superClass = declaringClass.getSuperclass();
         Method result = null;
@@ -122,8 +146,8 @@ public class ReflectionUtils {
         String methodToSearch = methodToFind.getName();
         Class<?>[] soughtForParameterType = methodToFind.getParameterTypes();
         Type[] soughtForGenericParameterType = methodToFind.getGenericParameterTypes();
-        for (Method method : cls.getMethods()) {
-            if (method.getName().equals(methodToSearch) && method.getReturnType().isAssignableFrom(methodToFind.getReturnType())) {
+        for (Method method : METHOD_INDEX.get(cls).getMethods(methodToSearch)) {
+            if (method.getReturnType().isAssignableFrom(methodToFind.getReturnType())) {
                 Class<?>[] srcParameterTypes = method.getParameterTypes();
                 Type[] srcGenericParameterTypes = method.getGenericParameterTypes();
                 if (soughtForParameterType.length == srcParameterTypes.length &&
@@ -203,6 +227,17 @@ public class ReflectionUtils {
      * @return annotation if it is found
      */
     public static <A extends Annotation> A getAnnotation(Method method, Class<A> annotationClass) {
+        Map<AnnotationKey, Optional<Annotation>> annotations = annotationIndex.get(method.getDeclaringClass()).methodAnnotations;
+        AnnotationKey key = new AnnotationKey(method, annotationClass);
+        Optional<Annotation> annotation = annotations.get(key);
+        if (annotation == null) {
+            annotation = Optional.ofNullable(computeAnnotation(method, annotationClass));
+            annotations.putIfAbsent(key, annotation);
+        }
+        return annotationClass.cast(annotation.orElse(null));
+    }
+
+    private static <A extends Annotation> A computeAnnotation(Method method, Class<A> annotationClass) {
         A annotation = method.getAnnotation(annotationClass);
         if (annotation == null) {
             for (Annotation metaAnnotation : method.getAnnotations()) {
@@ -220,6 +255,16 @@ public class ReflectionUtils {
     }
 
     public static <A extends Annotation> A getAnnotation(Class<?> cls, Class<A> annotationClass) {
+        Map<Class<?>, Optional<Annotation>> annotations = annotationIndex.get(cls).classAnnotations;
+        Optional<Annotation> annotation = annotations.get(annotationClass);
+        if (annotation == null) {
+            annotation = Optional.ofNullable(computeAnnotation(cls, annotationClass));
+            annotations.putIfAbsent(annotationClass, annotation);
+        }
+        return annotationClass.cast(annotation.orElse(null));
+    }
+
+    private static <A extends Annotation> A computeAnnotation(Class<?> cls, Class<A> annotationClass) {
         A annotation = cls.getAnnotation(annotationClass);
         if (annotation == null) {
             for (Annotation metaAnnotation : cls.getAnnotations()) {
@@ -260,7 +305,20 @@ public class ReflectionUtils {
      * @param <A>             is the type of annotation
      * @return List of repeatable annotations if it is found
      */
+    @SuppressWarnings("unchecked")
     public static <A extends Annotation> List<A> getRepeatableAnnotations(Method method, Class<A> annotationClass) {
+        Map<AnnotationKey, Optional<Annotation[]>> repeatableAnnotations = annotationIndex.get(method.getDeclaringClass()).methodRepeatableAnnotations;
+        AnnotationKey key = new AnnotationKey(method, annotationClass);
+        Optional<Annotation[]> annotations = repeatableAnnotations.get(key);
+        if (annotations == null) {
+            List<A> computed = computeRepeatableAnnotations(method, annotationClass);
+            annotations = Optional.ofNullable(computed == null ? null : computed.toArray((A[]) Array.newInstance(annotationClass, computed.size())));
+            repeatableAnnotations.putIfAbsent(key, annotations);
+        }
+        return annotations.map(a -> Arrays.asList((A[]) a.clone())).orElse(null);
+    }
+
+    private static <A extends Annotation> List<A> computeRepeatableAnnotations(Method method, Class<A> annotationClass) {
         A[] annotations = method.getAnnotationsByType(annotationClass);
         if (annotations == null || annotations.length == 0) {
             for (Annotation metaAnnotation : method.getAnnotations()) {
@@ -288,7 +346,19 @@ public class ReflectionUtils {
         return Arrays.asList(annotations);
     }
 
+    @SuppressWarnings("unchecked")
     public static <A extends Annotation> A[] getRepeatableAnnotationsArray(Class<?> cls, Class<A> annotationClass) {
+        Map<Class<?>, Optional<Annotation[]>> repeatableAnnotations = annotationIndex.get(cls).classRepeatableAnnotations;
+        Optional<Annotation[]> annotations = repeatableAnnotations.get(annotationClass);
+        if (annotations == null) {
+            annotations = Optional.ofNullable(computeRepeatableAnnotationsArray(cls, annotationClass));
+            repeatableAnnotations.putIfAbsent(annotationClass, annotations);
+        }
+        // callers get their own array
+        return annotations.map(a -> (A[]) a.clone()).orElse(null);
+    }
+
+    private static <A extends Annotation> A[] computeRepeatableAnnotationsArray(Class<?> cls, Class<A> annotationClass) {
         A[] annotations = cls.getAnnotationsByType(annotationClass);
         if (annotations == null || annotations.length == 0) {
             for (Annotation metaAnnotation : cls.getAnnotations()) {
@@ -320,6 +390,17 @@ public class ReflectionUtils {
     }
 
     public static Annotation[][] getParameterAnnotations(Method method) {
+        Annotation[][] annotations = METHOD_INDEX.get(method.getDeclaringClass()).parameterAnnotations
+                .computeIfAbsent(method, ReflectionUtils::computeParameterAnnotations);
+        // callers get their own arrays, as from Method.getParameterAnnotations()
+        Annotation[][] copy = new Annotation[annotations.length][];
+        for (int i = 0; i < annotations.length; i++) {
+            copy[i] = annotations[i].clone();
+        }
+        return copy;
+    }
+
+    private static Annotation[][] computeParameterAnnotations(Method method) {
         Annotation[][] methodAnnotations = method.getParameterAnnotations();
         Method overriddenmethod = getOverriddenMethod(method);
 
@@ -360,17 +441,105 @@ public class ReflectionUtils {
     public static boolean isSystemType(JavaType type) {
         // used while resolving container types to skip resolving system types; possibly extend by checking classloader
         // and/or other packages
-        for (String systemPrefix: PrimitiveType.systemPrefixes()) {
-            if (type.getRawClass().getName().startsWith(systemPrefix)) {
-                if (    !PrimitiveType.nonSystemTypes().contains(type.getRawClass().getName()) &&
-                        !PrimitiveType.nonSystemTypePackages().contains(type.getRawClass().getPackage().getName())) {
-                    return true;
-                }
-            }
+        if (PrimitiveType.isSystemClass(type.getRawClass())) {
+            return true;
         }
         if (type.isArrayType()) {
             return true;
         }
         return false;
     }
+
+    /**
+     * Checks whether the given class loader is the other one or one of its ancestors, and as such lives at least as
+     * long; the bootstrap loader, represented as null, is an ancestor of all loaders.
+     *
+     * @since 2.0.11
+     */
+    public static boolean isAncestorOrSelf(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+            if (l == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Discards the resolved annotations, e.g. after changing the annotations of a class at runtime.
+     */
+    static void invalidateAnnotations() {
+        annotationIndex = newAnnotationIndex();
+    }
+
+    private static ClassValue<AnnotationIndex> newAnnotationIndex() {
+        return new ClassValue<AnnotationIndex>() {
+            @Override
+            protected AnnotationIndex computeValue(Class<?> type) {
+                return new AnnotationIndex();
+            }
+        };
+    }
+
+    /**
+     * Annotations resolved on a class, its superclasses and interfaces, and on its methods and the methods they
+     * override, by annotation type.
+     */
+    private static class AnnotationIndex {
+        private final Map<Class<?>, Optional<Annotation>> classAnnotations = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Optional<Annotation[]>> classRepeatableAnnotations = new ConcurrentHashMap<>();
+        private final Map<AnnotationKey, Optional<Annotation>> methodAnnotations = new ConcurrentHashMap<>();
+        private final Map<AnnotationKey, Optional<Annotation[]>> methodRepeatableAnnotations = new ConcurrentHashMap<>();
+    }
+
+    private static class AnnotationKey {
+        private final Method method;
+        private final Class<?> annotationClass;
+
+        AnnotationKey(Method method, Class<?> annotationClass) {
+            this.method = method;
+            this.annotationClass = annotationClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AnnotationKey)) {
+                return false;
+            }
+            AnnotationKey that = (AnnotationKey) o;
+            return method.equals(that.method) && annotationClass == that.annotationClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * method.hashCode() + annotationClass.hashCode();
+        }
+    }
+
+    /**
+     * Methods of a class by name, and the results of the hierarchy lookups made for its methods.
+     */
+    private static class MethodIndex {
+        private final Map<String, List<Method>> methodsByName = new HashMap<>();
+        private final Map<Method, Boolean> overridden = new ConcurrentHashMap<>();
+        private final Map<Method, Optional<Method>> overriddenMethods = new ConcurrentHashMap<>();
+        private final Map<Method, Annotation[][]> parameterAnnotations = new ConcurrentHashMap<>();
+
+        MethodIndex(Class<?> cls) {
+            for (Method method : cls.getMethods()) {
+                methodsByName.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+            }
+        }
+
+        List<Method> getMethods(String name) {
+            List<Method> methods = methodsByName.get(name);
+            return methods == null ? Collections.<Method>emptyList() : methods;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package io.swagger.v3.core.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor running the parallel reads and resolutions by default, instead of the common ForkJoinPool which is meant
+ * for non blocking work. Its daemon threads are created on demand, so that tasks waiting for nested ones never run out
+ * of threads, and end after being idle for a minute, so that they don't keep the class loader of the last application
+ * they ran tasks for.
+ *
+ * @since 2.0.11
+ */
+public final class SharedExecutor {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final ExecutorService INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "swagger-worker-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        }
+    });
+
+    private SharedExecutor() {
+    }
+
+    /**
+     * @return the shared executor; tasks set the context class loader they need and are not to shut it down
+     */
+    public static ExecutorService getInstance() {
+        return INSTANCE;
+    }
+}
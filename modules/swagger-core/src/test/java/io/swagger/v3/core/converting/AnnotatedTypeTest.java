@@ -0,0 +1,36 @@
+package io.swagger.v3.core.converting;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.testng.annotations.Test;
+
+import java.lang.annotation.Annotation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class AnnotatedTypeTest {
+
+    @Test(description = "it should refresh the cached hash code when the type or the annotations change")
+    public void testHashCode() throws Exception {
+        final Annotation schema = Model.class.getDeclaredField("value").getAnnotation(Schema.class);
+        final AnnotatedType withSchema = new AnnotatedType(String.class).ctxAnnotations(new Annotation[]{schema});
+
+        final AnnotatedType plain = new AnnotatedType(String.class);
+        final int hashCode = plain.hashCode();
+        assertNotEquals(plain, withSchema);
+
+        plain.ctxAnnotations(new Annotation[]{schema});
+        assertEquals(plain.hashCode(), withSchema.hashCode());
+        assertEquals(plain, withSchema);
+
+        plain.type(Integer.class).ctxAnnotations(null);
+        assertNotEquals(plain.hashCode(), hashCode);
+        assertEquals(plain.hashCode(), new AnnotatedType(Integer.class).hashCode());
+    }
+
+    static class Model {
+        @Schema(description = "value")
+        public String value;
+    }
+}
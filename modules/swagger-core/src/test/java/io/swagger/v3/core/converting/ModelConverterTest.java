@@ -3,7 +3,12 @@ package io.swagger.v3.core.converting;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ImmutableSet;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
 import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.converter.ResolvedSchemas;
 import io.swagger.v3.core.matchers.SerializationMatchers;
 import io.swagger.v3.core.oas.models.Cat;
 import io.swagger.v3.core.oas.models.ClientOptInput;
@@ -41,16 +46,24 @@ import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -411,4 +424,169 @@ public class ModelConverterTest {
         @JsonProperty
         public abstract String field();
     }
+
+    @Test(description = "it should resolve several types with a single context")
+    public void testResolveAll() {
+        final List<AnnotatedType> types = Arrays.asList(
+                new AnnotatedType(Person.class),
+                new AnnotatedType(Employee.class),
+                new AnnotatedType(Cat.class),
+                new AnnotatedType(int.class));
+        final ResolvedSchemas resolved = ModelConverters.getInstance().resolveAll(types);
+
+        assertEquals(resolved.schemas.size(), 4);
+        assertEquals(resolved.schemas.get(0).getName(), "Person");
+        assertEquals(resolved.schemas.get(2).getName(), "Cat");
+        assertNull(resolved.schemas.get(3));
+
+        final Map<String, Schema> expected = new TreeMap<>();
+        expected.putAll(readAll(Person.class));
+        expected.putAll(readAll(Employee.class));
+        expected.putAll(readAll(Cat.class));
+        assertEquals(Json.pretty(resolved.referencedSchemas), Json.pretty(expected));
+        assertEquals(ModelConverters.getInstance().readAll(types).keySet(), expected.keySet());
+
+        final ResolvedSchemas parallel = ModelConverters.getInstance().resolveAll(types, 3);
+        assertEquals(Json.pretty(parallel.schemas), Json.pretty(resolved.schemas));
+        assertEquals(Json.pretty(parallel.referencedSchemas), Json.pretty(expected));
+
+        // groups the executor rejects are resolved on the calling thread
+        final ResolvedSchemas rejected = ModelConverters.getInstance().resolveAll(types, 3, task -> {
+            throw new RejectedExecutionException();
+        });
+        assertEquals(Json.pretty(rejected.schemas), Json.pretty(resolved.schemas));
+        assertEquals(Json.pretty(rejected.referencedSchemas), Json.pretty(expected));
+    }
+
+    @Test(description = "it should keep the schema of the first group defining a name")
+    public void testResolveAllFirstDefinitionWins() {
+        final ModelConverters converters = new ModelConverters();
+        converters.addConverter((type, context, chain) -> {
+            if (type.getType() instanceof Class) {
+                context.defineModel("Shared", new Schema().description(((Class<?>) type.getType()).getSimpleName()));
+            }
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        });
+        final List<AnnotatedType> types = Arrays.asList(
+                new AnnotatedType(Person.class),
+                new AnnotatedType(Employee.class),
+                new AnnotatedType(Cat.class));
+
+        assertEquals(converters.resolveAll(types, 3).referencedSchemas.get("Shared").getDescription(), "Person");
+    }
+
+    @Test(description = "it should share copies of resolved schemas between registries with the same converters")
+    public void testSharedCache() {
+        ModelConverters.setSharedCacheEnabled(true);
+        try {
+            final ModelConverters first = new ModelConverters();
+            final Map<String, Schema> schemas = first.readAll(Person.class);
+            schemas.get("Person").setDescription("changed");
+
+            final ModelConverters second = new ModelConverters(first);
+            final Map<String, Schema> cached = second.readAll(Person.class);
+            assertEquals(cached.keySet(), schemas.keySet());
+            assertNull(cached.get("Person").getDescription());
+
+            final CountingConverter counting = new CountingConverter();
+            second.addConverter(counting);
+            second.readAll(Person.class);
+            final int count = counting.count;
+            assertTrue(count > 0);
+            assertEquals(second.read(Person.class).keySet(), ImmutableSet.of("Person"));
+            second.readAll(Person.class);
+            assertEquals(counting.count, count);
+
+            // copies keep the root schema and the referenced ones the same instances
+            final ModelConverters third = new ModelConverters();
+            final ResolvedSchema resolved = third.resolveAsResolvedSchema(new AnnotatedType(Person.class));
+            assertSame(resolved.referencedSchemas.get("Person"), resolved.schema);
+            final ResolvedSchema copy = third.resolveAsResolvedSchema(new AnnotatedType(Person.class));
+            assertNotSame(copy.schema, resolved.schema);
+            assertSame(copy.referencedSchemas.get("Person"), copy.schema);
+        } finally {
+            ModelConverters.setSharedCacheEnabled(false);
+        }
+    }
+
+    @Test(description = "it should delegate to the live converters of the parent registry")
+    public void testChildRegistry() {
+        final ModelConverters parent = new ModelConverters();
+        final ModelConverters child = new ModelConverters(parent);
+        final CountingConverter own = new CountingConverter();
+        child.addConverter(own);
+        child.readAll(Person.class);
+        assertTrue(own.count > 0);
+
+        final CountingConverter added = new CountingConverter();
+        parent.addConverter(added);
+        child.readAll(Person.class);
+        assertTrue(added.count > 0);
+
+        parent.addClassToSkip(Person.class.getName());
+        assertTrue(child.isRegisteredAsSkippedClass(Person.class.getName()));
+        assertTrue(child.readAll(Person.class).isEmpty());
+    }
+
+    @Test(description = "it should resolve with the same registry on the threads resolving in parallel")
+    public void testResolveAllOnSuppliedExecutor() {
+        final ModelConverters child = new ModelConverters(ModelConverters.getInstance());
+        final ThreadRecorder recorder = new ThreadRecorder();
+        child.addConverter(recorder);
+        final List<AnnotatedType> types = Arrays.asList(
+                new AnnotatedType(Person.class),
+                new AnnotatedType(Employee.class),
+                new AnnotatedType(Cat.class));
+
+        // runs each submitted group on its own thread before returning
+        final ResolvedSchemas resolved = child.resolveAll(types, 3, task -> {
+            Thread thread = new Thread(task);
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertEquals(resolved.schemas.size(), 3);
+        assertEquals(recorder.threads.size(), 3);
+        assertTrue(recorder.threads.contains(Thread.currentThread()));
+    }
+
+    @Test(description = "it should stop using a converter removed from the parent registry")
+    public void testChildDropsRemovedParentConverter() {
+        final ModelConverters parent = new ModelConverters();
+        final ModelConverters child = new ModelConverters(parent);
+        final CountingConverter counting = new CountingConverter();
+        assertFalse(child.readAll(Person.class).isEmpty());
+
+        parent.addConverter(counting);
+        child.readAll(Person.class);
+        assertTrue(counting.count > 0);
+
+        parent.removeConverter(counting);
+        final int count = counting.count;
+        child.readAll(Person.class);
+        assertEquals(counting.count, count);
+    }
+
+    static class ThreadRecorder implements ModelConverter {
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            threads.add(Thread.currentThread());
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        }
+    }
+
+    static class CountingConverter implements ModelConverter {
+        int count;
+
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            count++;
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package io.swagger.v3.core.converting;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.oas.models.Person;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class ResolutionScopeTest {
+
+    @Test(description = "it should reuse referenced schemas for the same type within a resolution scope")
+    public void testReuseWithinScope() {
+        final ModelConverters converters = new ModelConverters();
+        final ResolvedSchema unscoped = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true));
+
+        converters.beginResolutionScope();
+        try {
+            final ResolvedSchema first = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true));
+            final ResolvedSchema second = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true));
+
+            assertEquals(first.referencedSchemas.keySet(), unscoped.referencedSchemas.keySet());
+            assertEquals(second.referencedSchemas.keySet(), unscoped.referencedSchemas.keySet());
+            assertEquals(second.referencedSchemas.get("Person"), first.referencedSchemas.get("Person"));
+            assertNotSame(second.referencedSchemas.get("Person"), first.referencedSchemas.get("Person"));
+
+            assertEquals(second.schema, first.schema);
+            assertNotSame(second.schema, first.schema);
+        } finally {
+            converters.endResolutionScope();
+        }
+    }
+
+    @Test(description = "it should not share root schemas customized by callers")
+    public void testRootSchemaIsCopied() {
+        final ModelConverters converters = new ModelConverters();
+        converters.beginResolutionScope();
+        try {
+            final Schema first = converters.resolveAsResolvedSchema(new AnnotatedType(String.class)).schema;
+            first.setDescription("customized");
+            final Schema second = converters.resolveAsResolvedSchema(new AnnotatedType(String.class)).schema;
+            assertEquals(second.getType(), "string");
+            assertEquals(second.getDescription(), null);
+        } finally {
+            converters.endResolutionScope();
+        }
+    }
+
+    @Test(description = "it should not share referenced schemas customized by callers")
+    public void testReferencedSchemasAreCopied() {
+        final ModelConverters converters = new ModelConverters();
+        converters.beginResolutionScope();
+        try {
+            converters.resolveAsResolvedSchema(new AnnotatedType(Person.class));
+            final ResolvedSchema second = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class));
+            assertSame(second.referencedSchemas.get("Person"), second.schema);
+            second.referencedSchemas.get("Person").setDescription("customized");
+            second.referencedSchemas.clear();
+
+            final ResolvedSchema third = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class));
+            assertEquals(third.referencedSchemas.keySet(), converters.readAll(Person.class).keySet());
+            assertEquals(third.referencedSchemas.get("Person").getDescription(), null);
+            assertSame(third.referencedSchemas.get("Person"), third.schema);
+        } finally {
+            converters.endResolutionScope();
+        }
+    }
+
+    @Test(description = "it should resolve types again after the outermost scope ends")
+    public void testNestedScopes() {
+        final ModelConverters converters = new ModelConverters();
+        final ModelConverterTest.CountingConverter counting = new ModelConverterTest.CountingConverter();
+        converters.addConverter(counting);
+        converters.beginResolutionScope();
+        converters.beginResolutionScope();
+        converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true));
+        final int count = counting.count;
+        converters.endResolutionScope();
+        converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true));
+        assertEquals(counting.count, count);
+        converters.endResolutionScope();
+        converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true));
+        assertEquals(counting.count, 2 * count);
+    }
+
+    @Test(description = "it should not conflate different resolution flags")
+    public void testFlagsAreDistinguished() {
+        final ModelConverters converters = new ModelConverters();
+        converters.beginResolutionScope();
+        try {
+            final Schema asRef = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class).resolveAsRef(true)).schema;
+            final Schema inline = converters.resolveAsResolvedSchema(new AnnotatedType(Person.class)).schema;
+            assertEquals(asRef.get$ref(), "#/components/schemas/Person");
+            assertEquals(inline.get$ref(), null);
+            assertEquals(inline.getName(), "Person");
+        } finally {
+            converters.endResolutionScope();
+        }
+    }
+}
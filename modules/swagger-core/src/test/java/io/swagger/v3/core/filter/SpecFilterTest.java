@@ -15,6 +15,7 @@ import io.swagger.v3.core.filter.resources.RemoveUnreferencedDefinitionsFilter;
 import io.swagger.v3.core.filter.resources.ReplaceGetOperationsFilter;
 import io.swagger.v3.core.matchers.SerializationMatchers;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.OpenAPIFreezer;
 import io.swagger.v3.core.util.ResourceUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -27,10 +28,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -61,9 +67,26 @@ public class SpecFilterTest {
     @Test(description = "it should clone everything")
     public void cloneEverything() throws IOException {
         final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final String source = Json.pretty(openAPI);
         final OpenAPI filtered = new SpecFilter().filter(openAPI, new NoOpOperationsFilter(), null, null, null);
 
-        assertEquals(Json.pretty(filtered), Json.pretty(openAPI));
+        assertEquals(Json.pretty(filtered), Json.pretty(getClonedOpenAPI()));
+        assertEquals(Json.pretty(openAPI), source);
+    }
+
+    /**
+     * Filtered operations always carry a parameter list, possibly empty, while the filtered spec is left untouched.
+     */
+    private OpenAPI getClonedOpenAPI() throws IOException {
+        final OpenAPI expected = getOpenAPI(RESOURCE_PATH);
+        for (PathItem pathItem : expected.getPaths().values()) {
+            for (Operation operation : pathItem.readOperations()) {
+                if (operation.getParameters() == null) {
+                    operation.setParameters(new ArrayList<>());
+                }
+            }
+        }
+        return expected;
     }
 
     @Test(description = "it should filter away get operations in a resource")
@@ -169,55 +192,38 @@ public class SpecFilterTest {
     }
 
     @Test(description = "it should clone everything concurrently")
-    public void cloneEverythingConcurrent() throws IOException {
+    public void cloneEverythingConcurrent() throws Exception {
         final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final String source = Json.pretty(openAPI);
+        final String expected = Json.pretty(getClonedOpenAPI());
 
-        ThreadGroup tg = new ThreadGroup("SpecFilterTest" + "|" + System.currentTimeMillis());
         final Map<String, OpenAPI> filteredMap = new ConcurrentHashMap<>();
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final List<Thread> threads = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
             final int id = i;
-            new Thread(tg, "SpecFilterTest") {
-                public void run() {
-                    try {
-                        filteredMap.put("filtered " + id, new SpecFilter().filter(openAPI, new NoOpOperationsFilter(), null, null, null));
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
+            Thread thread = new Thread(() -> {
+                try {
+                    filteredMap.put("filtered " + id, new SpecFilter().filter(openAPI, new NoOpOperationsFilter(), null, null, null));
+                } catch (Throwable e) {
+                    failures.add(e);
                 }
-            }.start();
+            }, "SpecFilterTest");
+            threads.add(thread);
+            thread.start();
         }
-
-        new Thread(new FailureHandler(tg, filteredMap, openAPI)).start();
-    }
-
-    class FailureHandler implements Runnable {
-        ThreadGroup tg;
-        Map<String, OpenAPI> filteredMap;
-        private OpenAPI openAPI;
-
-        private FailureHandler(ThreadGroup tg, Map<String, OpenAPI> filteredMap, OpenAPI openAPI) {
-            this.tg = tg;
-            this.filteredMap = filteredMap;
-            this.openAPI = openAPI;
+        for (Thread thread : threads) {
+            thread.join(10000);
+            assertFalse(thread.isAlive(), "filtering did not complete");
         }
-
-        @Override
-        public void run() {
-            try {
-                Thread[] thds = new Thread[tg.activeCount()];
-                tg.enumerate(thds);
-                for (Thread t : thds) {
-                    if (t != null) {
-                        t.join(10000);
-                    }
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            for (OpenAPI filtered : filteredMap.values()) {
-                assertEquals(Json.pretty(openAPI), Json.pretty(filtered));
-            }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("filtering failed", failures.peek());
         }
+        assertEquals(filteredMap.size(), 10);
+        for (OpenAPI filtered : filteredMap.values()) {
+            assertEquals(Json.pretty(filtered), expected);
+        }
+        assertEquals(Json.pretty(openAPI), source);
     }
 
     @Test(description = "it should clone everything from JSON without models")
@@ -349,6 +355,25 @@ public class SpecFilterTest {
         assertNotNull(filtered.getComponents().getSchemas().get("IndirectRecursiveModelB"));
     }
 
+    @Test(description = "it should index schema references per component and per operation")
+    public void buildSchemaReferenceGraph() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_RECURSIVE_MODELS);
+        openAPI.getComponents().addSchemas("Unreferenced", new Schema().$ref("#/components/schemas/IndirectRecursiveModelA"));
+        final SchemaReferenceGraph graph = SchemaReferenceGraph.of(openAPI);
+
+        assertEquals(graph.getReferences("IndirectRecursiveModelA"), Collections.singleton("IndirectRecursiveModelB"));
+        assertEquals(graph.getReferences("IndirectRecursiveModelB"), Collections.singleton("IndirectRecursiveModelA"));
+        assertEquals(graph.getReferences("Unreferenced"), Collections.singleton("IndirectRecursiveModelA"));
+        assertEquals(graph.getOperationRoots().keySet().size(), 2);
+
+        final Set<String> reachable = graph.getReachableSchemas();
+        assertEquals(reachable, Sets.newHashSet("SelfReferencingModel", "IndirectRecursiveModelA", "IndirectRecursiveModelB"));
+        assertEquals(graph.getReachableSchemas(Collections.singleton("IndirectRecursiveModelB")), Sets.newHashSet("IndirectRecursiveModelA", "IndirectRecursiveModelB"));
+
+        final OpenAPI filtered = new SpecFilter().filter(openAPI, new RemoveUnreferencedDefinitionsFilter(), null, null, null);
+        assertEquals(filtered.getComponents().getSchemas().keySet(), reachable);
+    }
+
     @Test(description = "broken references should not result in NPE")
     public void removeUnreferencedModelOverride() throws IOException {
         final OpenAPI openAPI = getOpenAPI(RESOURCE_REFERRED_SCHEMAS);
@@ -408,6 +433,20 @@ public class SpecFilterTest {
         assertNotNull(filtered);
     }
 
+    @Test(description = "it should filter a frozen spec without modifying it")
+    public void filterFrozenSpec() throws IOException {
+        final OpenAPI frozen = OpenAPIFreezer.freeze(getOpenAPI(RESOURCE_PATH));
+        final String before = Json.pretty(frozen);
+
+        for (OpenAPISpecFilter filter : new OpenAPISpecFilter[]{new NoGetOperationsFilter(), new NoParametersWithoutQueryInFilter(),
+                new InternalModelPropertiesRemoverFilter(), new RemoveUnreferencedDefinitionsFilter()}) {
+            final OpenAPI filtered = new SpecFilter().filter(frozen, filter, null, null, null);
+            final OpenAPI expected = new SpecFilter().filter(getOpenAPI(RESOURCE_PATH), filter, null, null, null);
+            assertEquals(Json.pretty(filtered), Json.pretty(expected));
+        }
+        assertEquals(Json.pretty(frozen), before);
+    }
+
     private Set getTagNames(OpenAPI openAPI) {
         Set<String> result = new HashSet<>();
         if (openAPI.getTags() != null) {
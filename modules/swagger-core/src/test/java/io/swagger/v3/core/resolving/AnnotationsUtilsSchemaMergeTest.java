@@ -0,0 +1,86 @@
+package io.swagger.v3.core.resolving;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.swagger.v3.core.util.AnnotationsUtils;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.testng.annotations.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class AnnotationsUtilsSchemaMergeTest {
+
+    private final JavaType type = TypeFactory.defaultInstance().constructType(Pet.class);
+
+    @Test
+    public void testMergeWithoutContextAnnotations() {
+        assertSame(AnnotationsUtils.mergeSchemaAnnotations(null, type), Pet.class.getDeclaredAnnotation(Schema.class));
+        assertNull(AnnotationsUtils.mergeSchemaAnnotations(new Annotation[0], TypeFactory.defaultInstance().constructType(String.class)));
+    }
+
+    @Test
+    public void testMergeIsMemoized() throws Exception {
+        final Annotation[] annotations = Owner.class.getDeclaredField("pet").getDeclaredAnnotations();
+        final Schema merged = (Schema) AnnotationsUtils.mergeSchemaAnnotations(annotations, type);
+
+        assertEquals(merged.description(), "the pet");
+        assertEquals(merged.title(), "Pet");
+        assertEquals(merged.format(), "pet-format");
+        assertEquals(merged.annotationType(), Schema.class);
+        assertSame(AnnotationsUtils.mergeSchemaAnnotations(annotations, type), merged);
+    }
+
+    @Test
+    public void testMergeIsSharedByEqualAnnotations() throws Exception {
+        final Schema context = Owner.class.getDeclaredField("pet").getDeclaredAnnotation(Schema.class);
+        final Annotation merged = AnnotationsUtils.mergeSchemaAnnotations(new Annotation[]{context}, type);
+        for (int i = 0; i < 100; i++) {
+            final Schema proxy = (Schema) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Schema.class},
+                    (p, method, args) -> method.invoke(context, args));
+            assertSame(AnnotationsUtils.mergeSchemaAnnotations(new Annotation[]{proxy}, type), merged);
+        }
+    }
+
+    @Test
+    public void testMergeReferencingChildLoaderClassesIsNotCached() throws Exception {
+        final Schema context = Owner.class.getDeclaredField("pet").getDeclaredAnnotation(Schema.class);
+        try (URLClassLoader child = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            final Class<?> childClass = Proxy.getProxyClass(child, Runnable.class);
+            final Schema proxy = (Schema) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Schema.class},
+                    (p, method, args) -> {
+                        switch (method.getName()) {
+                            case "implementation":
+                                return childClass;
+                            case "equals":
+                                return p == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(p);
+                            default:
+                                return method.invoke(context, args);
+                        }
+                    });
+            final Annotation[] annotations = {proxy};
+            final Schema merged = (Schema) AnnotationsUtils.mergeSchemaAnnotations(annotations, type);
+            assertEquals(merged.format(), "pet-format");
+            assertNotSame(AnnotationsUtils.mergeSchemaAnnotations(annotations, type), merged);
+        }
+    }
+
+    @Schema(description = "the pet", title = "Pet")
+    static class Pet {
+        public String name;
+    }
+
+    static class Owner {
+        @Schema(description = "owned pet", format = "pet-format")
+        public Pet pet;
+    }
+}
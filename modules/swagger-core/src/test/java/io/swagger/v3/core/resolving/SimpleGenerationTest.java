@@ -2,6 +2,7 @@ package io.swagger.v3.core.resolving;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -112,6 +113,20 @@ public class SimpleGenerationTest extends SwaggerTestBase {
         assertEquals(props.size(), 6);
     }
 
+    @Test(description = "it should resolve again a type whose bean description is cached")
+    public void testRepeatedResolution() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final ModelResolver resolver = new ModelResolver(mapper);
+        for (int i = 0; i < 2; i++) {
+            final Schema model = new ModelConverterContextImpl(resolver).resolve(new AnnotatedType(IgnoredPropertyBean.class));
+            assertEquals(new ArrayList<String>(model.getProperties().keySet()), Arrays.asList("a", "c"));
+        }
+
+        mapper.addMixIn(IgnoredPropertyBean.class, IgnoredPropertyMixIn.class);
+        final Schema model = new ModelConverterContextImpl(resolver).resolve(new AnnotatedType(IgnoredPropertyBean.class));
+        assertEquals(new ArrayList<String>(model.getProperties().keySet()), Arrays.asList("c"));
+    }
+
   /*
   /**********************************************************
   /* Test methods
@@ -132,6 +147,18 @@ public class SimpleGenerationTest extends SwaggerTestBase {
         }
     }
 
+    @JsonPropertyOrder({"a", "b", "c"})
+    @JsonIgnoreProperties("b")
+    static class IgnoredPropertyBean {
+        public int a;
+        public int b;
+        public int c;
+    }
+
+    @JsonIgnoreProperties({"a", "b"})
+    static class IgnoredPropertyMixIn {
+    }
+
     @JsonPropertyOrder({"a", "b", "c", "d"})
     static class JsonOrderBean {
         public int d;
@@ -0,0 +1,47 @@
+package io.swagger.v3.core.util;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ClassCacheTest {
+
+    @Test(description = "it should compute values once and attach them to the classes of child loaders only")
+    public void testValuesPerClass() throws Exception {
+        AtomicInteger computed = new AtomicInteger();
+        ClassCache<Object> cache = new ClassCache<Object>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                computed.incrementAndGet();
+                return new Object();
+            }
+        };
+        try (URLClassLoader child = new URLClassLoader(new URL[0], ClassCacheTest.class.getClassLoader())) {
+            Class<?> childClass = Proxy.getProxyClass(child, Runnable.class);
+            assertTrue(ClassCache.isLocal(String.class));
+            assertTrue(ClassCache.isLocal(ClassCacheTest.class));
+            assertFalse(ClassCache.isLocal(childClass));
+
+            Object value = cache.get(String.class);
+            assertSame(cache.get(String.class), value);
+            Object childValue = cache.get(childClass);
+            assertSame(cache.get(childClass), childValue);
+            assertEquals(computed.get(), 2);
+
+            cache.remove(String.class);
+            cache.remove(childClass);
+            assertNotSame(cache.get(String.class), value);
+            assertNotSame(cache.get(childClass), childValue);
+            assertEquals(computed.get(), 4);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+public class OpenAPIFreezerTest {
+
+    @Test(description = "it should make every collection of a spec unmodifiable")
+    public void testFreeze() {
+        Schema pet = new Schema().type("object")
+                .addProperties("name", new StringSchema())
+                .addProperties("tags", new ArraySchema().items(new StringSchema()))
+                .addRequiredItem("name");
+        Operation operation = new Operation()
+                .operationId("getPet")
+                .addParametersItem(new Parameter().name("id").in("path"))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("ok")))
+                .addSecurityItem(new SecurityRequirement().addList("oauth", "read"));
+        OpenAPI openAPI = new OpenAPI()
+                .paths(new Paths().addPathItem("/pets/{id}", new PathItem().get(operation)))
+                .components(new Components().addSchemas("Pet", pet));
+        String json = Json.pretty(openAPI);
+
+        assertSame(OpenAPIFreezer.freeze(openAPI), openAPI);
+        assertEquals(Json.pretty(openAPI), json);
+
+        assertUnmodifiable(() -> openAPI.getPaths().addPathItem("/other", new PathItem()));
+        assertUnmodifiable(() -> openAPI.getPaths().keySet().clear());
+        assertUnmodifiable(() -> openAPI.getPaths().entrySet().iterator().next().setValue(new PathItem()));
+        assertUnmodifiable(() -> operation.getParameters().add(new Parameter()));
+        assertUnmodifiable(() -> operation.getResponses().remove("200"));
+        assertUnmodifiable(() -> operation.getSecurity().get(0).get("oauth").add("write"));
+        assertUnmodifiable(() -> openAPI.getComponents().getSchemas().put("Other", new Schema()));
+        assertUnmodifiable(() -> pet.getProperties().remove("name"));
+        assertUnmodifiable(() -> pet.getRequired().add("tags"));
+    }
+
+    @Test(description = "it should freeze shared and recursive schemas")
+    public void testFreezeRecursiveSchemas() {
+        Schema node = new Schema().type("object");
+        node.addProperties("next", node);
+        ArrayList<String> required = new ArrayList<>();
+        required.add("next");
+        node.setRequired(required);
+        Schema other = new Schema().type("object").addProperties("node", node);
+
+        OpenAPIFreezer.freeze(new Components().addSchemas("Node", node).addSchemas("Other", other));
+        assertSame(node.getProperties().get("next"), node);
+        assertUnmodifiable(() -> node.getProperties().clear());
+        assertUnmodifiable(() -> other.getProperties().clear());
+    }
+
+    @Test(description = "it should keep comparing frozen specs by content")
+    public void testFrozenEquality() {
+        OpenAPI first = OpenAPIFreezer.freeze(new OpenAPI().paths(new Paths().addPathItem("/a", new PathItem())));
+        OpenAPI second = OpenAPIFreezer.freeze(new OpenAPI().paths(new Paths().addPathItem("/a", new PathItem())));
+        OpenAPI third = OpenAPIFreezer.freeze(new OpenAPI().paths(new Paths().addPathItem("/b", new PathItem())));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, third);
+
+        // scalar properties are not guarded, the hash code follows them
+        second.getPaths().get("/a").setSummary("changed");
+        assertNotEquals(first, second);
+    }
+
+    private static void assertUnmodifiable(Runnable mutation) {
+        try {
+            mutation.run();
+            fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+}
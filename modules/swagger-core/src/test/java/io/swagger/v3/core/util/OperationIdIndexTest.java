@@ -0,0 +1,65 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class OperationIdIndexTest {
+
+    @Test
+    public void testUniqueOperationIds() {
+        OperationIdIndex index = new OperationIdIndex();
+        Paths paths = new Paths();
+
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get");
+        add(index, paths, "/a", new PathItem().get(new Operation().operationId("get")));
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get_1");
+        // not added, so handed out again
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get_1");
+        add(index, paths, "/b", new PathItem().get(new Operation().operationId("get_1")));
+        add(index, paths, "/c", new PathItem().get(new Operation().operationId("get_2")));
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get_3");
+        // trace operations are not indexed
+        add(index, paths, "/d", new PathItem().trace(new Operation().operationId("trace")));
+        assertEquals(index.getUniqueOperationId(paths, "trace"), "trace");
+    }
+
+    @Test
+    public void testReplacedOperation() {
+        OperationIdIndex index = new OperationIdIndex();
+        Paths paths = new Paths();
+        add(index, paths, "/a", new PathItem().get(new Operation().operationId("get")));
+        add(index, paths, "/b", new PathItem().get(new Operation().operationId("get_1")));
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get_2");
+
+        PathItem pathItem = paths.get("/b");
+        index.beforeUpdate(paths, "/b", pathItem);
+        pathItem.get(new Operation().operationId("other"));
+        index.afterUpdate(paths, pathItem);
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get_1");
+        assertEquals(index.getUniqueOperationId(paths, "other"), "other_1");
+    }
+
+    @Test
+    public void testPathsChangedOutsideOfIndex() {
+        OperationIdIndex index = new OperationIdIndex();
+        Paths paths = new Paths();
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get");
+        paths.addPathItem("/a", new PathItem().get(new Operation().operationId("get")));
+        assertEquals(index.getUniqueOperationId(paths, "get"), "get_1");
+
+        Paths other = new Paths();
+        other.addPathItem("/a", new PathItem().post(new Operation().operationId("post")));
+        assertEquals(index.getUniqueOperationId(other, "get"), "get");
+        assertEquals(index.getUniqueOperationId(other, "post"), "post_1");
+    }
+
+    private static void add(OperationIdIndex index, Paths paths, String path, PathItem pathItem) {
+        index.beforeUpdate(paths, path, pathItem);
+        paths.addPathItem(path, pathItem);
+        index.afterUpdate(paths, pathItem);
+    }
+}
@@ -0,0 +1,61 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PrimitiveTypeTest {
+
+    @Test
+    public void testFromType() {
+        assertEquals(PrimitiveType.fromType(URI.class), PrimitiveType.URI);
+        assertEquals(PrimitiveType.fromType(TypeFactory.defaultInstance().constructType(GregorianCalendar.class)), PrimitiveType.DATE_TIME);
+        assertNull(PrimitiveType.fromType(PrimitiveTypeTest.class));
+    }
+
+    @Test(description = "it should classify again the types when the custom classes change")
+    public void testCustomClassesChange() {
+        try {
+            PrimitiveType.customExcludedClasses().add(URI.class.getName());
+            assertNull(PrimitiveType.fromType(URI.class));
+            PrimitiveType.customClasses().put(PrimitiveTypeTest.class.getName(), PrimitiveType.STRING);
+            assertEquals(PrimitiveType.fromType(PrimitiveTypeTest.class), PrimitiveType.STRING);
+        } finally {
+            PrimitiveType.customExcludedClasses().remove(URI.class.getName());
+            Iterator<String> names = PrimitiveType.customClasses().keySet().iterator();
+            while (names.hasNext()) {
+                if (names.next().equals(PrimitiveTypeTest.class.getName())) {
+                    names.remove();
+                }
+            }
+        }
+        assertEquals(PrimitiveType.fromType(URI.class), PrimitiveType.URI);
+        assertNull(PrimitiveType.fromType(PrimitiveTypeTest.class));
+    }
+
+    @Test(description = "it should classify again the types when the system types change")
+    public void testSystemTypesChange() {
+        final JavaType type = TypeFactory.defaultInstance().constructType(PrimitiveTypeTest.class);
+        assertFalse(ReflectionUtils.isSystemType(type));
+        try {
+            PrimitiveType.systemPrefixes().add("io.swagger.v3.core.util.");
+            assertTrue(ReflectionUtils.isSystemType(type));
+            PrimitiveType.nonSystemTypes().add(PrimitiveTypeTest.class.getName());
+            assertFalse(ReflectionUtils.isSystemType(type));
+        } finally {
+            PrimitiveType.systemPrefixes().remove("io.swagger.v3.core.util.");
+            PrimitiveType.nonSystemTypes().remove(PrimitiveTypeTest.class.getName());
+        }
+        assertFalse(ReflectionUtils.isSystemType(type));
+        assertTrue(ReflectionUtils.isSystemType(TypeFactory.defaultInstance().constructType(String.class)));
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.v3.core.util.ReflectionUtils;
 import io.swagger.v3.core.util.reflection.resources.Child;
 import io.swagger.v3.core.util.reflection.resources.IParent;
 import io.swagger.v3.core.util.reflection.resources.Parent;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,10 +12,15 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.testng.Assert.assertNull;
 
@@ -80,6 +86,19 @@ public class ReflectionUtilsTest {
         Assert.assertNull(ReflectionUtils.getOverriddenMethod(Object.class.getMethod("equals", Object.class)));
     }
 
+    @Test
+    public void getParameterAnnotationsTest() throws NoSuchMethodException {
+        final Method method = ParameterAnnotationsResource.class.getMethod("get", String.class);
+        final Annotation[][] annotations = ReflectionUtils.getParameterAnnotations(method);
+        Assert.assertEquals(annotations.length, 1);
+        Assert.assertEquals(annotations[0].length, 2);
+        Assert.assertEquals(annotations[0][0].annotationType(), Parameter.class);
+        Assert.assertEquals(annotations[0][1].annotationType(), PathParam.class);
+
+        annotations[0] = new Annotation[0];
+        Assert.assertEquals(ReflectionUtils.getParameterAnnotations(method)[0].length, 2);
+    }
+
     @Test
     public void findMethodTest() throws NoSuchMethodException {
         final Method methodToFind1 = Child.class.getMethod("parametrizedMethod1", Integer.class);
@@ -149,8 +168,44 @@ public class ReflectionUtilsTest {
         Assert.assertEquals("inherited tag", annotations[0].name());
     }
 
+    @Test
+    public void resolvedAnnotationsAreCopiedTest() throws NoSuchMethodException {
+        Tag[] annotations = ReflectionUtils.getRepeatableAnnotationsArray(InheritingClass.class, Tag.class);
+        annotations[0] = null;
+        Assert.assertEquals(ReflectionUtils.getRepeatableAnnotationsArray(InheritingClass.class, Tag.class)[0].name(), "inherited tag");
+
+        final Method method = Child.class.getMethod("annotationHolder");
+        List<Schema> schemas = ReflectionUtils.getRepeatableAnnotations(method, Schema.class);
+        Assert.assertEquals(schemas.size(), 1);
+        schemas.set(0, null);
+        Assert.assertEquals(ReflectionUtils.getRepeatableAnnotations(method, Schema.class).get(0).title(), "test");
+        Assert.assertSame(ReflectionUtils.getAnnotation(method, Schema.class), ReflectionUtils.getAnnotation(method, Schema.class));
+    }
+
+    @Test
+    public void isAncestorOrSelfTest() throws Exception {
+        ClassLoader app = ReflectionUtilsTest.class.getClassLoader();
+        try (URLClassLoader child = new URLClassLoader(new URL[0], app)) {
+            Assert.assertTrue(ReflectionUtils.isAncestorOrSelf(null, child));
+            Assert.assertTrue(ReflectionUtils.isAncestorOrSelf(app, child));
+            Assert.assertTrue(ReflectionUtils.isAncestorOrSelf(child, child));
+            Assert.assertFalse(ReflectionUtils.isAncestorOrSelf(child, app));
+            Assert.assertFalse(ReflectionUtils.isAncestorOrSelf(child, null));
+        }
+    }
+
     @Tag(name = "inherited tag")
     private interface AnnotatedInterface {}
 
     private class InheritingClass implements AnnotatedInterface {}
+
+    interface ParameterAnnotationsApi {
+        void get(@PathParam("id") String id);
+    }
+
+    static class ParameterAnnotationsResource implements ParameterAnnotationsApi {
+        @Override
+        public void get(@Parameter(description = "the id") String id) {
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.swagger.v3.plugins.gradle;
 
+import io.swagger.v3.plugins.gradle.tasks.IndexTask;
 import io.swagger.v3.plugins.gradle.tasks.ResolveTask;
 import org.gradle.api.Action;
 import org.gradle.api.Plugin;
@@ -7,6 +8,14 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.DependencySet;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.plugins.JavaPluginConvention;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetOutput;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.Callable;
 
 public class SwaggerPlugin implements Plugin<Project> {
     public void apply(Project project) {
@@ -40,5 +49,31 @@ public class SwaggerPlugin implements Plugin<Project> {
         } catch (Exception e) {
             project.getLogger().warn("Exception in task dependencies: " + e.getMessage(), e);
         }
+
+        IndexTask indexTask = project.getTasks().create("index", IndexTask.class);
+        indexTask.setBuildClasspath(config);
+        project.getPlugins().withType(JavaPlugin.class, new Action<JavaPlugin>() {
+            public void execute(JavaPlugin javaPlugin) {
+                SourceSetOutput output = project.getConvention().getPlugin(JavaPluginConvention.class)
+                        .getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME).getOutput();
+                indexTask.dependsOn(JavaPlugin.CLASSES_TASK_NAME);
+                if (indexTask.getClassesDirs() == null) {
+                    indexTask.setClassesDirs(output.getClassesDirs());
+                }
+                if (indexTask.getOutputDir() == null) {
+                    // own directory, so that processResources does not clean or overwrite the index
+                    indexTask.setOutputDir(new File(project.getBuildDir(), "generated/swagger/index"));
+                }
+                // resolved lazily, following an outputDir set after the plugin is applied
+                output.dir(Collections.singletonMap("builtBy", indexTask), (Callable<File>) indexTask::getOutputDir);
+            }
+        });
+        try {
+            if (project.getTasks().findByPath("classes") != null) {
+                indexTask.dependsOn("classes");
+            }
+        } catch (Exception e) {
+            project.getLogger().warn("Exception in task dependencies: " + e.getMessage(), e);
+        }
     }
 }
@@ -0,0 +1,134 @@
+package io.swagger.v3.plugins.gradle.tasks;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates the annotation index read at runtime by the IndexedOpenApiScanner, in the output directory which is
+ * added to the output of the main source set, by default build/generated/swagger/index.
+ *
+ * @since 2.0.11
+ */
+@CacheableTask
+public class IndexTask extends DefaultTask {
+
+    private static Logger LOGGER = Logging.getLogger(IndexTask.class);
+
+    private static final String INDEX_CLASS = "io.swagger.v3.oas.integration.AnnotationIndex";
+
+    private Iterable<File> classesDirs;
+    private Iterable<File> buildClasspath;
+    private File outputDir;
+    private List<String> annotations;
+    private Boolean skip = Boolean.FALSE;
+
+    @Classpath
+    public Iterable<File> getClassesDirs() {
+        return classesDirs;
+    }
+
+    public void setClassesDirs(Iterable<File> classesDirs) {
+        this.classesDirs = classesDirs;
+    }
+
+    @Classpath
+    @Optional
+    public Iterable<File> getBuildClasspath() {
+        return buildClasspath;
+    }
+
+    public void setBuildClasspath(Iterable<File> buildClasspath) {
+        this.buildClasspath = buildClasspath;
+    }
+
+    @OutputDirectory
+    public File getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    @Input
+    @Optional
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    public void setAnnotations(List<String> annotations) {
+        this.annotations = annotations;
+    }
+
+    @Input
+    @Optional
+    public Boolean getSkip() {
+        return skip;
+    }
+
+    public void setSkip(Boolean skip) {
+        this.skip = skip;
+    }
+
+    @TaskAction
+    public void index() throws GradleException {
+        if (skip) {
+            LOGGER.info( "Skipping annotation index generation" );
+            return;
+        }
+        LOGGER.info( "Generating annotation index.." );
+
+        Set<URL> buildUrls = StreamSupport.stream(getBuildClasspath().spliterator(), false).map(f -> {
+            try {
+                return f.toURI().toURL();
+            }
+            catch (MalformedURLException e) {
+                throw new GradleException(
+                        String.format("Could not create classpath for index task %s.", getName()), e);
+            }
+        }).collect(Collectors.toSet());
+
+        try (URLClassLoader classLoader = new URLClassLoader(buildUrls.toArray(new URL[buildUrls.size()]))) {
+            Class indexClass = classLoader.loadClass(INDEX_CLASS);
+            Collection<String> annotationNames = annotations;
+            if (annotationNames == null || annotationNames.isEmpty()) {
+                annotationNames = (Collection<String>) indexClass.getField("DEFAULT_ANNOTATIONS").get(null);
+            }
+            List<File> classpath = new ArrayList<>();
+            for (File dir : classesDirs) {
+                if (dir.isDirectory()) {
+                    classpath.add(dir);
+                }
+            }
+            Method method = indexClass.getDeclaredMethod("build", Collection.class, Collection.class);
+            Object index = method.invoke(null, classpath, annotationNames);
+
+            String resource = (String) indexClass.getField("RESOURCE").get(null);
+            method = indexClass.getDeclaredMethod("write", Path.class);
+            method.invoke(index, outputDir.toPath().resolve(resource));
+        } catch (Exception e) {
+            throw new GradleException(e.getMessage(), e);
+        }
+    }
+}
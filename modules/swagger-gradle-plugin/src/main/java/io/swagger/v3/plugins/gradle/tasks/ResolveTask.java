@@ -68,6 +68,8 @@ public class ResolveTask extends DefaultTask {
 
     private String contextId;
 
+    private File embedDir;
+
     @Input
     @Optional
     public String getOutputFileName() {
@@ -234,6 +236,22 @@ public class ResolveTask extends DefaultTask {
         this.contextId = contextId;
     }
 
+    /**
+     * @since 2.0.11
+     */
+    @OutputDirectory
+    @Optional
+    public File getEmbedDir() {
+        return embedDir;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setEmbedDir(File embedDir) {
+        this.embedDir = embedDir;
+    }
+
     @Input
     @Optional
     public String getScannerClass() {
@@ -387,6 +405,11 @@ public class ResolveTask extends DefaultTask {
                 method.invoke(swaggerLoader, objectMapperProcessorClass);
             }
 
+            if (embedDir != null) {
+                method=swaggerLoaderClass.getDeclaredMethod("setEmbedDirectory",String.class);
+                method.invoke(swaggerLoader, embedDir.getAbsolutePath());
+            }
+
             method=swaggerLoaderClass.getDeclaredMethod("setPrettyPrint", Boolean.class);
             method.invoke(swaggerLoader, prettyPrint);
 
@@ -0,0 +1,116 @@
+package io.swagger.v3.oas.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Build time index of the classes annotated with the annotations looked for by the scanners, stored in the
+ * {@link #RESOURCE} resource of the classes directory it is built from, and read at runtime by
+ * {@link IndexedOpenApiScanner} instead of scanning the classpath.
+ *
+ * @since 2.0.11
+ */
+public class AnnotationIndex {
+
+    public static final String RESOURCE = "META-INF/swagger/annotation-index.properties";
+
+    public static final List<String> DEFAULT_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+            OpenAPIDefinition.class.getName(),
+            "javax.ws.rs.Path",
+            "org.springframework.web.bind.annotation.RequestMapping"));
+
+    private final Map<String, Set<String>> classNames = new TreeMap<>();
+
+    /**
+     * Indexes the classes of the given directories or jars, without loading them; the annotations themselves need not
+     * be part of the given files.
+     */
+    public static AnnotationIndex build(Collection<File> classpath, Collection<String> annotationNames) {
+        AnnotationIndex index = new AnnotationIndex();
+        try (ScanResult scanResult = new ClassGraph()
+                .overrideClasspath(classpath)
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .scan()) {
+            for (String annotationName : annotationNames) {
+                index.getOrCreate(annotationName).addAll(scanResult.getClassesWithAnnotation(annotationName).getNames());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Merges the index resources visible to the given class loader.
+     *
+     * @return the merged index, or null if there is no index resource
+     */
+    public static AnnotationIndex load(ClassLoader classLoader) throws IOException {
+        Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+        if (!resources.hasMoreElements()) {
+            return null;
+        }
+        AnnotationIndex index = new AnnotationIndex();
+        while (resources.hasMoreElements()) {
+            Properties properties = new Properties();
+            try (InputStream in = resources.nextElement().openStream()) {
+                properties.load(in);
+            }
+            for (String annotationName : properties.stringPropertyNames()) {
+                Set<String> names = index.getOrCreate(annotationName);
+                for (String name : StringUtils.split(properties.getProperty(annotationName), ',')) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return the names of the indexed classes annotated with the given annotation, empty if not indexed
+     */
+    public Set<String> getClassNames(String annotationName) {
+        Set<String> names = classNames.get(annotationName);
+        return names == null ? Collections.emptySet() : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Writes the index in properties format, sorted and without timestamp so that unchanged classes give the same file.
+     */
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            for (Map.Entry<String, Set<String>> entry : classNames.entrySet()) {
+                writer.write(entry.getKey() + "=" + String.join(",", entry.getValue()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private Set<String> getOrCreate(String annotationName) {
+        return classNames.computeIfAbsent(annotationName, k -> new TreeSet<>());
+    }
+}
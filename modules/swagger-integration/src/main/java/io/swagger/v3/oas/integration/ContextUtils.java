@@ -1,14 +1,24 @@
 package io.swagger.v3.oas.integration;
 
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class ContextUtils {
 
     private static Logger LOGGER = LoggerFactory.getLogger(ContextUtils.class);
 
+    // filters built for the contexts not building their own, dropped with the context
+    private static final Map<OpenApiContext, OpenAPISpecFilter> SPEC_FILTERS = Collections.synchronizedMap(new WeakHashMap<>());
+
     // TODO implement proper clone see #2227
     public static OpenAPIConfiguration deepCopy(OpenAPIConfiguration config) {
         if (config == null) {
@@ -22,4 +32,31 @@ public class ContextUtils {
         }
     }
 
+    /**
+     * Returns the instance of the filter class configured for the given context, built on the first call and reused
+     * by the next ones as long as the configured class is the same.
+     *
+     * @return the filter, or null if none is configured or it cannot be built
+     * @since 2.0.11
+     */
+    public static OpenAPISpecFilter getSpecFilter(OpenApiContext ctx) {
+        OpenAPIConfiguration config = ctx.getOpenApiConfiguration();
+        String filterClass = config == null ? null : config.getFilterClass();
+        if (StringUtils.isBlank(filterClass)) {
+            return null;
+        }
+        OpenAPISpecFilter filter = SPEC_FILTERS.get(ctx);
+        if (filter != null && filter.getClass().getName().equals(filterClass)) {
+            return filter;
+        }
+        try {
+            filter = (OpenAPISpecFilter) Class.forName(filterClass).newInstance();
+        } catch (Exception e) {
+            LOGGER.error("failed to load filter", e);
+            return null;
+        }
+        SPEC_FILTERS.put(ctx, filter);
+        return filter;
+    }
+
 }
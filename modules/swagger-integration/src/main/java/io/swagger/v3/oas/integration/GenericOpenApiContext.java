@@ -1,9 +1,13 @@
 package io.swagger.v3.oas.integration;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.util.OpenAPIFreezer;
 import io.swagger.v3.oas.integration.afklm.Reader;
 import io.swagger.v3.oas.integration.api.ObjectMapperProcessor;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
@@ -19,12 +23,19 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class GenericOpenApiContext<T extends GenericOpenApiContext> implements OpenApiContext {
 
@@ -44,12 +55,35 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     private ObjectMapperProcessor objectMapperProcessor;
     private Set<ModelConverter> modelConverters;
 
+    // registry handed to the reader, null when the context adds no converter
+    private ModelConverters contextModelConverters;
+
+    private OpenAPISpecFilter specFilter;
+
     private ConcurrentHashMap<String, Cache> cache = new ConcurrentHashMap<>();
 
+    // only one thread rebuilds the cached spec at a time
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
     // 0 doesn't cache
     // -1 perpetual
     private long cacheTTL = -1;
 
+    // 0 doesn't refresh in background
+    private long cacheRefreshInterval = 0;
+
+    private ScheduledFuture<?> refreshTask;
+
+    // supplied by the caller, or created on first schedule and shut down with the context
+    private ScheduledExecutorService refreshExecutor;
+    private boolean ownRefreshExecutor;
+
+    // context class loader of the thread initializing the context, used by background refreshes
+    private ClassLoader contextClassLoader;
+
+    // filtered documents kept per cached spec, least recently used dropped first
+    private int filteredCacheSize = 100;
+
     public long getCacheTTL() {
         return cacheTTL;
     }
@@ -63,6 +97,75 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return (T) this;
     }
 
+    /**
+     * @since 2.0.11
+     */
+    public long getCacheRefreshInterval() {
+        return cacheRefreshInterval;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setCacheRefreshInterval(long cacheRefreshInterval) {
+        this.cacheRefreshInterval = cacheRefreshInterval;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public T cacheRefreshInterval(long cacheRefreshInterval) {
+        this.cacheRefreshInterval = cacheRefreshInterval;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public ScheduledExecutorService getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * Executor running the background refreshes; not shut down by the context. When not set, the context creates its
+     * own, shut down by {@link #shutdown()}.
+     *
+     * @since 2.0.11
+     */
+    public void setRefreshExecutor(ScheduledExecutorService refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public T refreshExecutor(ScheduledExecutorService refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public int getFilteredCacheSize() {
+        return filteredCacheSize;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setFilteredCacheSize(int filteredCacheSize) {
+        this.filteredCacheSize = filteredCacheSize;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public T filteredCacheSize(int filteredCacheSize) {
+        this.filteredCacheSize = filteredCacheSize;
+        return (T) this;
+    }
+
     public OpenApiReader getOpenApiReader() {
         return openApiReader;
     }
@@ -270,6 +373,18 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return null;
     }
 
+    /**
+     * @since 2.0.11
+     */
+    protected OpenAPISpecFilter buildFilter(final OpenAPIConfiguration openApiConfiguration) throws Exception {
+        OpenAPISpecFilter filter = null;
+        if (StringUtils.isNotBlank(openApiConfiguration.getFilterClass())) {
+            Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getFilterClass());
+            filter = (OpenAPISpecFilter) cls.newInstance();
+        }
+        return filter;
+    }
+
     protected List<ImmutablePair<String, String>> getKnownLocations() {
         return Arrays.asList(
                 new ImmutablePair<>("classpath", "openapi-configuration.yaml"),
@@ -355,11 +470,14 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
             throw new OpenApiConfigurationException("error initializing context: " + e.getMessage(), e);
         }
 
+        // converters configured for this context are only used by its own reads
+        ModelConverters contextConverters = null;
         try {
             if (objectMapperProcessor != null) {
                 ObjectMapper mapper = IntegrationObjectMapperFactory.createJson();
                 objectMapperProcessor.processJsonObjectMapper(mapper);
-                ModelConverters.getInstance().addConverter(new ModelResolver(mapper));
+                contextConverters = new ModelConverters(ModelConverters.getInstance());
+                contextConverters.addConverter(new ModelResolver(mapper));
             }
         } catch (Exception e) {
             LOGGER.error("error configuring objectMapper: " + e.getMessage(), e);
@@ -368,19 +486,38 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
         try {
             if (modelConverters != null && !modelConverters.isEmpty()) {
+                if (contextConverters == null) {
+                    contextConverters = new ModelConverters(ModelConverters.getInstance());
+                }
                 for (ModelConverter converter: modelConverters) {
-                    ModelConverters.getInstance().addConverter(converter);
+                    contextConverters.addConverter(converter);
                 }
             }
+            this.contextModelConverters = contextConverters;
         } catch (Exception e) {
             LOGGER.error("error configuring model converters: " + e.getMessage(), e);
             throw new OpenApiConfigurationException("error configuring model converters: " + e.getMessage(), e);
         }
 
+        try {
+            specFilter = buildFilter(ContextUtils.deepCopy(openApiConfiguration));
+        } catch (Exception e) {
+            LOGGER.error("failed to load filter", e);
+            // serve the unfiltered spec, as when no filter is configured
+        }
+
         // set cache TTL if present in configuration
         if (openApiConfiguration.getCacheTTL() != null) {
             this.cacheTTL = openApiConfiguration.getCacheTTL();
         }
+        if (openApiConfiguration.getCacheRefreshInterval() != null) {
+            this.cacheRefreshInterval = openApiConfiguration.getCacheRefreshInterval();
+        }
+        if (openApiConfiguration.getFilteredCacheSize() != null) {
+            this.filteredCacheSize = openApiConfiguration.getFilteredCacheSize();
+        }
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+        scheduleRefresh();
         register();
         return (T) this;
     }
@@ -438,6 +575,27 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (merged.getModelConverterClasses() == null) {
             merged.setModelConverterClassess(parentConfig.getModelConverterClasses());
         }
+        if (merged.getCacheRefreshInterval() == null) {
+            merged.setCacheRefreshInterval(parentConfig.getCacheRefreshInterval());
+        }
+        if (merged.getReaderParallelism() == null) {
+            merged.setReaderParallelism(parentConfig.getReaderParallelism());
+        }
+        if (merged.getScannerParallelism() == null) {
+            merged.setScannerParallelism(parentConfig.getScannerParallelism());
+        }
+        if (merged.getScannerCacheDirectory() == null) {
+            merged.setScannerCacheDirectory(parentConfig.getScannerCacheDirectory());
+        }
+        if (merged.getPrecomputedSpecId() == null) {
+            merged.setPrecomputedSpecId(parentConfig.getPrecomputedSpecId());
+        }
+        if (merged.isFreezeCachedSpec() == null) {
+            merged.setFreezeCachedSpec(parentConfig.isFreezeCachedSpec());
+        }
+        if (merged.getFilteredCacheSize() == null) {
+            merged.setFilteredCacheSize(parentConfig.getFilteredCacheSize());
+        }
 
         return merged;
     }
@@ -447,17 +605,216 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
         if (cacheTTL == 0) {
             resetReader();
-            return getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
+            return readOpenApi();
+        }
+        return readCache().openApi;
+    }
+
+    /**
+     * Encoded documents are kept alongside the cached OpenAPI and dropped together with it.
+     *
+     * @since 2.0.11
+     */
+    @Override
+    public SerializedOpenApi readSerialized(String type, boolean pretty) throws JsonProcessingException {
+
+        if (cacheTTL == 0) {
+            return OpenApiContext.super.readSerialized(type, pretty);
+        }
+        Cache cached = readCache();
+        if (cached.openApi == null) {
+            return null;
+        }
+        String key = serializedKey(type, pretty);
+        SerializedOpenApi serialized = cached.serialized.get(key);
+        if (serialized == null) {
+            serialized = SerializedOpenApi.of(cached.openApi, type, pretty);
+            SerializedOpenApi existing = cached.serialized.putIfAbsent(key, serialized);
+            if (existing != null) {
+                serialized = existing;
+            }
         }
+        return serialized;
+    }
+
+    /**
+     * The filter instance is built once; filtered documents are cached per filter cache key (see
+     * {@link OpenAPISpecFilter#getCacheKey(Map, Map, Map)}) alongside the cached OpenAPI.
+     *
+     * @since 2.0.11
+     */
+    @Override
+    public SerializedOpenApi readSerialized(String type, boolean pretty, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) throws JsonProcessingException {
+
+        if (specFilter == null) {
+            return readSerialized(type, pretty);
+        }
+        String cacheKey = cacheTTL == 0 || filteredCacheSize <= 0 ? null : specFilter.getCacheKey(params, cookies, headers);
+        if (cacheKey == null) {
+            OpenAPI filtered = filter(read(), params, cookies, headers);
+            return filtered == null ? null : SerializedOpenApi.streamed(filtered, type, pretty);
+        }
+        Cache cached = readCache();
+        String key = serializedKey(type, pretty) + "|" + cacheKey;
+        SerializedOpenApi serialized = cached.filtered.get(key);
+        if (serialized == null) {
+            OpenAPI filtered = filter(cached.openApi, params, cookies, headers);
+            if (filtered == null) {
+                return null;
+            }
+            serialized = SerializedOpenApi.of(filtered, type, pretty);
+            cached.filtered.put(key, serialized);
+        }
+        return serialized;
+    }
+
+    /**
+     * @return the filter built when initializing the context
+     * @since 2.0.11
+     */
+    @Override
+    public OpenAPISpecFilter getSpecFilter() {
+        return specFilter;
+    }
+
+    private OpenAPI filter(OpenAPI openApi, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        if (openApi == null) {
+            return null;
+        }
+        // a failing filter fails the request, nothing is cached and the unfiltered spec is not exposed
+        return new SpecFilter().filter(openApi, specFilter, params, cookies, headers);
+    }
+
+    private static String serializedKey(String type, boolean pretty) {
+        return (SerializedOpenApi.isYaml(type) ? SerializedOpenApi.TYPE_YAML : SerializedOpenApi.TYPE_JSON) + (pretty ? ".pretty" : "");
+    }
+
+    /**
+     * Returns the cached spec, rebuilding it when missing or stale. Only one caller rebuilds at a time; while a
+     * stale spec is being rebuilt, other callers keep getting the stale one.
+     */
+    private Cache readCache() {
         Cache cached = cache.get("openapi");
-        if (cached == null || cached.isStale(cacheTTL)) {
-            cached = new Cache();
-            cached.createdAt = System.currentTimeMillis();
-            resetReader();
-            cached.openApi = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
-            cache.put("openapi", cached);
+        if (cached == null) {
+            rebuildLock.lock();
+            try {
+                cached = cache.get("openapi");
+                if (cached == null) {
+                    cached = rebuildCache();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        } else if (cached.isStale(cacheTTL) && rebuildLock.tryLock()) {
+            try {
+                Cache current = cache.get("openapi");
+                cached = current.isStale(cacheTTL) ? rebuildCache() : current;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return cached;
+    }
+
+    private Cache rebuildCache() {
+        Cache cached = new Cache(filteredCacheSize);
+        cached.createdAt = System.currentTimeMillis();
+        resetReader();
+        cached.openApi = readOpenApi();
+        if (Boolean.TRUE.equals(openApiConfiguration.isFreezeCachedSpec())) {
+            OpenAPIFreezer.freeze(cached.openApi);
+        }
+        cache.put("openapi", cached);
+        return cached;
+    }
+
+    private OpenAPI readOpenApi() {
+        OpenAPI precomputed = readPrecomputedOpenApi();
+        if (precomputed != null) {
+            return precomputed;
+        }
+        OpenApiReader reader = getOpenApiReader();
+        reader.setModelConverters(contextModelConverters);
+        return reader.read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
+    }
+
+    private OpenAPI readPrecomputedOpenApi() {
+        String precomputedSpecId = openApiConfiguration.getPrecomputedSpecId();
+        if (StringUtils.isBlank(precomputedSpecId)) {
+            return null;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = getClass().getClassLoader();
+        }
+        try {
+            return PrecomputedOpenApi.load(classLoader, precomputedSpecId, openApiConfiguration);
+        } catch (Exception e) {
+            LOGGER.warn("error loading precomputed spec " + precomputedSpecId + ", reading the classes: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Rebuilds the cached spec ahead of expiry; skipped when a rebuild is already running. Runs with the context class
+     * loader the context was initialized with.
+     *
+     * @since 2.0.11
+     */
+    protected void refresh() {
+        if (cacheTTL == 0 || !rebuildLock.tryLock()) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(contextClassLoader);
+        try {
+            rebuildCache();
+        } catch (Exception e) {
+            LOGGER.error("error refreshing openapi: " + e.getMessage(), e);
+            // keep serving the previous spec
+        } finally {
+            thread.setContextClassLoader(previous);
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background refreshes, shutting down the refresh executor unless supplied by the caller; to be called
+     * when the application is undeployed.
+     *
+     * @since 2.0.11
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+        if (ownRefreshExecutor) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+            ownRefreshExecutor = false;
+        }
+    }
+
+    private synchronized void scheduleRefresh() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+        if (cacheRefreshInterval > 0 && cacheTTL != 0) {
+            if (refreshExecutor == null) {
+                refreshExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "openapi-cache-refresh-" + id);
+                    // daemon so that it never blocks shutdown
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                ownRefreshExecutor = true;
+            }
+            refreshTask = refreshExecutor.scheduleWithFixedDelay(this::refresh, cacheRefreshInterval, cacheRefreshInterval, TimeUnit.MILLISECONDS);
         }
-        return cached.openApi;
     }
 
     protected void resetReader() {
@@ -474,6 +831,17 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
     static class Cache {
         long createdAt = 0;
         OpenAPI openApi;
+        ConcurrentHashMap<String, SerializedOpenApi> serialized = new ConcurrentHashMap<>();
+        Map<String, SerializedOpenApi> filtered;
+
+        Cache(final int filteredCacheSize) {
+            filtered = Collections.synchronizedMap(new LinkedHashMap<String, SerializedOpenApi>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SerializedOpenApi> eldest) {
+                    return size() > filteredCacheSize;
+                }
+            });
+        }
 
         boolean isStale(long cacheTTL) {
             return (cacheTTL > 0 && System.currentTimeMillis() - createdAt > cacheTTL);
@@ -22,27 +22,37 @@ public class GenericOpenApiContextBuilder<T extends GenericOpenApiContextBuilder
             ctxId = OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT;
         }
 
+        if (init) {
+            // concurrent callers wait for a single context to be initialized; init() registers it with OpenApiContextLocator
+            return OpenApiContextLocator.getInstance().getOrCreateOpenApiContext(ctxId, () -> createContext().init());
+        }
         OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId);
-
         if (ctx == null) {
-            OpenApiContext rootCtx = OpenApiContextLocator.getInstance().getOpenApiContext(OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT);
-            ctx = new GenericOpenApiContext()
-                    .openApiConfiguration(openApiConfiguration)
-                    .id(ctxId)
-                    .parent(rootCtx);
-
-            if (ctx.getConfigLocation() == null && configLocation != null) {
-                ((GenericOpenApiContext) ctx).configLocation(configLocation);
-            }
-            if (((GenericOpenApiContext) ctx).getResourcePackages() == null && resourcePackages != null) {
-                ((GenericOpenApiContext) ctx).resourcePackages(resourcePackages);
-            }
-            if (((GenericOpenApiContext) ctx).getResourceClasses() == null && resourceClasses != null) {
-                ((GenericOpenApiContext) ctx).resourceClasses(resourceClasses);
-            }
-            if (init) {
-                ctx.init(); // includes registering itself with OpenApiContextLocator
-            }
+            ctx = createContext();
+        }
+        return ctx;
+    }
+
+    /**
+     * Creates a new, not yet initialized, context for the configured id.
+     *
+     * @since 2.0.11
+     */
+    protected OpenApiContext createContext() {
+        OpenApiContext rootCtx = OpenApiContextLocator.getInstance().getOpenApiContext(OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT);
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .openApiConfiguration(openApiConfiguration)
+                .id(ctxId)
+                .parent(rootCtx);
+
+        if (ctx.getConfigLocation() == null && configLocation != null) {
+            ((GenericOpenApiContext) ctx).configLocation(configLocation);
+        }
+        if (((GenericOpenApiContext) ctx).getResourcePackages() == null && resourcePackages != null) {
+            ((GenericOpenApiContext) ctx).resourcePackages(resourcePackages);
+        }
+        if (((GenericOpenApiContext) ctx).getResourceClasses() == null && resourceClasses != null) {
+            ((GenericOpenApiContext) ctx).resourceClasses(resourceClasses);
         }
         return ctx;
     }
@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class GenericOpenApiScanner implements OpenApiScanner {
 
@@ -33,8 +34,6 @@ public class GenericOpenApiScanner implements OpenApiScanner {
 
     @Override
     public Set<Class<?>> classes() {
-        ClassGraph graph = new ClassGraph().enableAllInfo();
-
         Set<String> acceptablePackages = new HashSet<String>();
 
         Set<Class<?>> output = new HashSet<Class<?>>();
@@ -59,7 +58,6 @@ public class GenericOpenApiScanner implements OpenApiScanner {
             for (String pkg : openApiConfiguration.getResourcePackages()) {
                 if (!isIgnored(pkg)) {
                     acceptablePackages.add(pkg);
-                    graph.whitelistPackages(pkg);
                 }
             }
         } else {
@@ -68,20 +66,23 @@ public class GenericOpenApiScanner implements OpenApiScanner {
 
         // this is generic, specific Jaxrs scanner will also look for @Path
         final Set<Class<?>> classes;
-        try (ScanResult scanResult = graph.scan()) {
-            classes = new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses());
+        Integer parallelism = openApiConfiguration.getScannerParallelism();
+        ScanResultCache scanResultCache = ScanResultCache.of(openApiConfiguration.getScannerCacheDirectory());
+        if (scanResultCache != null) {
+            classes = scanResultCache.classesWithAnnotations(() -> classGraph(acceptablePackages), scanKey(acceptablePackages), parallelism,
+                    OpenAPIDefinition.class.getName());
+        } else {
+            ClassGraph graph = classGraph(acceptablePackages);
+            try (ScanResult scanResult = parallelism != null && parallelism > 0 ? graph.scan(parallelism) : graph.scan()) {
+                classes = new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses());
+            }
         }
 
 
+        PackagePrefixes acceptablePrefixes = new PackagePrefixes(acceptablePackages);
         for (Class<?> cls : classes) {
-            if (allowAllPackages) {
+            if (allowAllPackages || acceptablePrefixes.matches(cls.getPackage().getName())) {
                 output.add(cls);
-            } else {
-                for (String pkg : acceptablePackages) {
-                    if (cls.getPackage().getName().startsWith(pkg)) {
-                        output.add(cls);
-                    }
-                }
             }
         }
 
@@ -93,6 +94,20 @@ public class GenericOpenApiScanner implements OpenApiScanner {
         return new HashMap<>();
     }
 
+    private ClassGraph classGraph(Set<String> acceptablePackages) {
+        // class annotations are all we look for, ignored packages are not even scanned
+        return new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .blacklistPackages(ignored.toArray(new String[0]))
+                .whitelistPackages(acceptablePackages.toArray(new String[0]));
+    }
+
+    private String scanKey(Set<String> acceptablePackages) {
+        return getClass().getName() + "|" + new TreeSet<>(acceptablePackages) + "|" + new TreeSet<>(ignored);
+    }
+
     protected boolean isIgnored(String classOrPackageName) {
         if (StringUtils.isBlank(classOrPackageName)) {
             return true;
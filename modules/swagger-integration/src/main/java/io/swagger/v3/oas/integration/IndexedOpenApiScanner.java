@@ -0,0 +1,134 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiScanner;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scanner reading the classes from the {@link AnnotationIndex} resources generated at build time, e.g. by the
+ * swagger maven plugin "index" goal, instead of scanning the classpath; only the indexed classes matching the
+ * configured resource packages are loaded, matched by package name as {@link GenericOpenApiScanner} does. Without index resource it falls back to {@link #fallbackScanner()}.
+ * <p>
+ * Select it with the scannerClass configuration option.
+ *
+ * @since 2.0.11
+ */
+public class IndexedOpenApiScanner implements OpenApiScanner {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(IndexedOpenApiScanner.class);
+
+    private static final List<String> ANNOTATION_NAMES = Collections.singletonList(OpenAPIDefinition.class.getName());
+
+    protected OpenAPIConfiguration openApiConfiguration;
+
+    @Override
+    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        this.openApiConfiguration = openApiConfiguration;
+    }
+
+    @Override
+    public Set<Class<?>> classes() {
+        if (openApiConfiguration == null) {
+            openApiConfiguration = new SwaggerConfiguration();
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = IndexedOpenApiScanner.class.getClassLoader();
+        }
+
+        Set<Class<?>> output = new HashSet<>();
+        // if classes are passed, use them
+        if (openApiConfiguration.getResourceClasses() != null && !openApiConfiguration.getResourceClasses().isEmpty()) {
+            for (String className : openApiConfiguration.getResourceClasses()) {
+                if (!isIgnored(className)) {
+                    addClass(output, className, classLoader);
+                }
+            }
+            return output;
+        }
+
+        AnnotationIndex index;
+        try {
+            index = AnnotationIndex.load(classLoader);
+        } catch (IOException e) {
+            LOGGER.warn("error reading " + AnnotationIndex.RESOURCE + ", scanning the classpath: " + e.getMessage(), e);
+            index = null;
+        }
+        if (index == null) {
+            LOGGER.debug("no {} resource, scanning the classpath", AnnotationIndex.RESOURCE);
+            OpenApiScanner scanner = fallbackScanner();
+            scanner.setConfiguration(openApiConfiguration);
+            return scanner.classes();
+        }
+
+        Set<String> acceptablePackages = new HashSet<>();
+        if (openApiConfiguration.getResourcePackages() != null) {
+            for (String pkg : openApiConfiguration.getResourcePackages()) {
+                if (!isIgnored(pkg)) {
+                    acceptablePackages.add(pkg);
+                }
+            }
+        }
+        boolean allowAllPackages = openApiConfiguration.getResourcePackages() == null || openApiConfiguration.getResourcePackages().isEmpty();
+        PackagePrefixes acceptablePrefixes = new PackagePrefixes(acceptablePackages);
+        for (String annotationName : annotationNames()) {
+            for (String className : index.getClassNames(annotationName)) {
+                if (!isIgnored(className) && (allowAllPackages || acceptablePrefixes.matches(packageName(className)))) {
+                    addClass(output, className, classLoader);
+                }
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public Map<String, Object> resources() {
+        return new HashMap<>();
+    }
+
+    /**
+     * @return the annotations of the classes to return, by default {@link OpenAPIDefinition} only, as
+     * {@link GenericOpenApiScanner} does
+     */
+    protected List<String> annotationNames() {
+        return ANNOTATION_NAMES;
+    }
+
+    /**
+     * @return the scanner used when no index resource is found
+     */
+    protected OpenApiScanner fallbackScanner() {
+        return new GenericOpenApiScanner();
+    }
+
+    protected boolean isIgnored(String classOrPackageName) {
+        if (StringUtils.isBlank(classOrPackageName)) {
+            return true;
+        }
+        return IgnoredPackages.ignored.stream().anyMatch(i -> classOrPackageName.startsWith(i));
+    }
+
+    private static String packageName(String className) {
+        int dot = className.lastIndexOf('.');
+        return dot < 0 ? "" : className.substring(0, dot);
+    }
+
+    private void addClass(Set<Class<?>> output, String className, ClassLoader classLoader) {
+        try {
+            output.add(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.warn("error loading indexed class " + className + ": " + e.getMessage(), e);
+        }
+    }
+}
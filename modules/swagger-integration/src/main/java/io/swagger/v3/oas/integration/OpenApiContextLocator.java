@@ -2,22 +2,24 @@ package io.swagger.v3.oas.integration;
 
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 public class OpenApiContextLocator {
 
-    private static OpenApiContextLocator instance;
+    private static final OpenApiContextLocator instance = new OpenApiContextLocator();
 
     private ConcurrentMap<String, OpenApiContext> map = new ConcurrentHashMap<String, OpenApiContext>();
 
+    private ConcurrentMap<String, FutureTask<OpenApiContext>> pending = new ConcurrentHashMap<String, FutureTask<OpenApiContext>>();
+
     private OpenApiContextLocator() {
     }
 
-    public static synchronized OpenApiContextLocator getInstance() {
-        if (instance == null) {
-            instance = new OpenApiContextLocator();
-        }
+    public static OpenApiContextLocator getInstance() {
         return instance;
     }
 
@@ -28,4 +30,66 @@ public class OpenApiContextLocator {
     public void putOpenApiContext(String id, OpenApiContext openApiContext) {
         map.put(id, openApiContext);
     }
+
+    /**
+     * Removes the context registered under the given id and {@link OpenApiContext#shutdown() shuts it down}.
+     *
+     * @return the removed context, null if none was registered
+     * @since 2.0.11
+     */
+    public OpenApiContext removeOpenApiContext(String id) {
+        OpenApiContext ctx = map.remove(id);
+        if (ctx != null) {
+            ctx.shutdown();
+        }
+        return ctx;
+    }
+
+    /**
+     * Removes and shuts down all registered contexts; to be called when the application they serve is undeployed.
+     *
+     * @since 2.0.11
+     */
+    public void shutdown() {
+        for (String id : map.keySet()) {
+            removeOpenApiContext(id);
+        }
+    }
+
+    /**
+     * Returns the context registered under the given id, creating it with the given factory otherwise. Concurrent
+     * callers for the same id wait for a single creation; a failed creation is retried by the next caller.
+     *
+     * @since 2.0.11
+     */
+    public OpenApiContext getOrCreateOpenApiContext(String id, Callable<OpenApiContext> factory) throws OpenApiConfigurationException {
+        OpenApiContext ctx = map.get(id);
+        if (ctx != null) {
+            return ctx;
+        }
+        FutureTask<OpenApiContext> task = new FutureTask<>(() -> {
+            OpenApiContext existing = map.get(id);
+            return existing != null ? existing : factory.call();
+        });
+        FutureTask<OpenApiContext> running = pending.putIfAbsent(id, task);
+        if (running == null) {
+            running = task;
+            task.run();
+        }
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenApiConfigurationException("interrupted while creating context " + id, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OpenApiConfigurationException) {
+                throw (OpenApiConfigurationException) e.getCause();
+            }
+            throw new OpenApiConfigurationException("error creating context " + id + ": " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            if (running == task) {
+                pending.remove(id, task);
+            }
+        }
+    }
 }
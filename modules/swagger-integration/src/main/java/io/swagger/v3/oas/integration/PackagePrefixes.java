@@ -0,0 +1,59 @@
+package io.swagger.v3.oas.integration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set of class or package name prefixes, matched in a single pass over the name instead of checking each prefix with
+ * {@link String#startsWith(String)}.
+ *
+ * @since 2.0.11
+ */
+public class PackagePrefixes {
+
+    private final Node root = new Node();
+    private boolean empty = true;
+
+    public PackagePrefixes(Iterable<String> prefixes) {
+        for (String prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    public void add(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+        }
+        node.terminal = true;
+        empty = false;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * @return true if the given name starts with any of the prefixes
+     */
+    public boolean matches(String name) {
+        Node node = root;
+        for (int i = 0; ; i++) {
+            if (node.terminal) {
+                return true;
+            }
+            if (i == name.length()) {
+                return false;
+            }
+            node = node.children.get(name.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,111 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Spec resolved at build time and embedded in the artifact as the {@code META-INF/openapi/<id>.json} resource, along
+ * with a fingerprint of the configuration it was resolved with, so that contexts configured with a matching
+ * {@link OpenAPIConfiguration#getPrecomputedSpecId()} serve it without scanning and reading the classes.
+ * <p>
+ * <b>The fingerprint covers the configuration only, not the classes.</b> A spec is served as long as the
+ * configuration matches, even if the resource or model classes, possibly coming from other jars, changed since it
+ * was resolved; the spec must be rebuilt with the artifact, and not be used with classes replaced independently.
+ *
+ * @since 2.0.11
+ */
+public class PrecomputedOpenApi {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecomputedOpenApi.class);
+
+    public static final String RESOURCE_PREFIX = "META-INF/openapi/";
+
+    private static final String FINGERPRINT_KEY = "fingerprint";
+
+    public static String specResource(String id) {
+        return RESOURCE_PREFIX + id + ".json";
+    }
+
+    public static String fingerprintResource(String id) {
+        return RESOURCE_PREFIX + id + ".properties";
+    }
+
+    /**
+     * Writes the given spec and the fingerprint of the given configuration under the given output directory.
+     */
+    public static void write(Path outputDirectory, String id, OpenAPI openAPI, OpenAPIConfiguration configuration) throws IOException {
+        Path spec = outputDirectory.resolve(specResource(id));
+        Files.createDirectories(spec.getParent());
+        Files.write(spec, Json.mapper().writeValueAsBytes(openAPI));
+
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint(configuration));
+        try (OutputStream out = Files.newOutputStream(outputDirectory.resolve(fingerprintResource(id)))) {
+            properties.store(out, null);
+        }
+    }
+
+    /**
+     * @return the spec embedded with the given id, or null if there is none or it was resolved with a configuration
+     * not matching the given one
+     */
+    public static OpenAPI load(ClassLoader classLoader, String id, OpenAPIConfiguration configuration) throws IOException {
+        URL spec = classLoader.getResource(specResource(id));
+        URL fingerprint = classLoader.getResource(fingerprintResource(id));
+        if (spec == null || fingerprint == null) {
+            LOGGER.debug("no precomputed spec {}", id);
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = fingerprint.openStream()) {
+            properties.load(in);
+        }
+        if (!fingerprint(configuration).equals(properties.getProperty(FINGERPRINT_KEY))) {
+            LOGGER.info("precomputed spec {} was resolved with another configuration, reading the classes", id);
+            return null;
+        }
+        LOGGER.info("serving precomputed spec {}, changes to the classes since it was resolved are not detected", id);
+        try (InputStream in = spec.openStream()) {
+            return Json.mapper().readValue(in, OpenAPI.class);
+        }
+    }
+
+    /**
+     * Digest of the configuration options affecting the spec read from the classes; the options applied when serving
+     * it, like the filter or pretty printing, are left out. The classes themselves are not part of it.
+     */
+    public static String fingerprint(OpenAPIConfiguration configuration) throws IOException {
+        StringBuilder inputs = new StringBuilder();
+        append(inputs, sorted(configuration.getResourcePackages()));
+        append(inputs, sorted(configuration.getResourceClasses()));
+        append(inputs, configuration.getReaderClass());
+        append(inputs, configuration.getScannerClass());
+        append(inputs, configuration.isReadAllResources() == null ? Boolean.TRUE : configuration.isReadAllResources());
+        append(inputs, sorted(configuration.getIgnoredRoutes()));
+        append(inputs, sorted(configuration.getModelConverterClasses()));
+        append(inputs, configuration.getObjectMapperProcessorClass());
+        append(inputs, configuration.getOpenAPI() == null ? null : Json.mapper().writeValueAsString(configuration.getOpenAPI()));
+        return ScanResultCache.sha256(inputs.toString());
+    }
+
+    private static Collection<String> sorted(Collection<String> values) {
+        return values == null || values.isEmpty() ? null : new TreeSet<>(values);
+    }
+
+    private static void append(StringBuilder inputs, Object value) {
+        inputs.append(value).append('\n');
+    }
+}
@@ -0,0 +1,195 @@
+package io.swagger.v3.oas.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On disk cache of the names of the classes found by a classpath scan, reused by later scans (e.g. after a restart)
+ * as long as the classpath files keep the same paths, sizes and modification times. Any mismatch, or any cached class
+ * failing to load, falls back to a full scan which then replaces the cached result.
+ *
+ * @since 2.0.11
+ */
+public class ScanResultCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanResultCache.class);
+
+    private static final String FINGERPRINT_KEY = "fingerprint";
+
+    private final Path directory;
+
+    public ScanResultCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return a cache storing its files in the given directory, or null if blank
+     */
+    public static ScanResultCache of(String directory) {
+        if (StringUtils.isBlank(directory)) {
+            return null;
+        }
+        return new ScanResultCache(Paths.get(directory));
+    }
+
+    /**
+     * Returns the classes annotated with any of the given annotations, from the cache if the classpath is unchanged
+     * since the cached scan, otherwise by scanning with the given graph.
+     *
+     * @param graphs          supplies the configured ClassGraph, called once to list the classpath files and once more
+     *                        to scan, as listing the classpath files of a ClassGraph disables its scanning
+     * @param scanKey         identifies the graph configuration, e.g. its accepted and rejected packages
+     * @param parallelism     number of scanning threads, null or less than 1 for the ClassGraph default
+     * @param annotationNames the annotations to look for
+     */
+    public Set<Class<?>> classesWithAnnotations(Supplier<ClassGraph> graphs, String scanKey, Integer parallelism, String... annotationNames) {
+        String fingerprint = fingerprint(graphs.get().getClasspathFiles());
+        Path file = directory.resolve("scan-" + sha256(scanKey + "|" + String.join(",", annotationNames)) + ".properties");
+        Set<Class<?>> classes = load(file, fingerprint, annotationNames);
+        if (classes != null) {
+            LOGGER.debug("loaded scan result from {}", file);
+            return classes;
+        }
+
+        classes = new HashSet<>();
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        ClassGraph graph = graphs.get();
+        try (ScanResult scanResult = parallelism != null && parallelism > 0 ? graph.scan(parallelism) : graph.scan()) {
+            for (String annotationName : annotationNames) {
+                ClassInfoList classInfos = scanResult.getClassesWithAnnotation(annotationName);
+                properties.setProperty(annotationName, String.join(",", classInfos.getNames()));
+                classes.addAll(classInfos.loadClasses());
+            }
+        }
+        store(file, properties);
+        return classes;
+    }
+
+    private Set<Class<?>> load(Path file, String fingerprint, String... annotationNames) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            LOGGER.warn("cannot read scan result cache " + file + ": " + e.getMessage());
+            return null;
+        }
+        if (!fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+            LOGGER.debug("classpath changed since the scan cached in {}", file);
+            return null;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ScanResultCache.class.getClassLoader();
+        }
+        Set<Class<?>> classes = new HashSet<>();
+        for (String annotationName : annotationNames) {
+            String names = properties.getProperty(annotationName);
+            if (names == null) {
+                return null;
+            }
+            for (String name : StringUtils.split(names, ',')) {
+                try {
+                    classes.add(Class.forName(name, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    LOGGER.debug("cannot load cached class {}, scanning again", name);
+                    return null;
+                }
+            }
+        }
+        return classes;
+    }
+
+    private void store(Path file, Properties properties) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "scan-", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("cannot write scan result cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Digest of the paths, sizes and modification times of the given classpath files, and of the files within the
+     * directories among them.
+     */
+    static String fingerprint(List<File> classpathFiles) {
+        MessageDigest digest = newDigest();
+        for (File file : classpathFiles) {
+            update(digest, file.getAbsolutePath(), file);
+            if (file.isDirectory()) {
+                List<Path> children = new ArrayList<>();
+                try (Stream<Path> walk = Files.walk(file.toPath())) {
+                    children = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                } catch (IOException | RuntimeException e) {
+                    // unreadable directory, changes the fingerprint so that it can't match a cached one
+                    digest.update(String.valueOf(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+                }
+                for (Path child : children) {
+                    update(digest, child.toString(), child.toFile());
+                }
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String path, File file) {
+        digest.update((path + '\0' + file.length() + '\0' + file.lastModified() + '\n').getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256(String value) {
+        return toHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
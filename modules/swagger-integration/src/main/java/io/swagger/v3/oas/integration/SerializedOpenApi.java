@@ -0,0 +1,162 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An encoded OpenAPI document along with its strong entity tag, or an OpenAPI document streamed when written, which
+ * is never held in memory as a whole and has no entity tag.
+ *
+ * @since 2.0.11
+ */
+public class SerializedOpenApi {
+
+    public static final String TYPE_JSON = "json";
+    public static final String TYPE_YAML = "yaml";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final byte[] bytes;
+    private final String eTag;
+    private final String type;
+    private final OpenAPI openApi;
+    private final boolean pretty;
+
+    private SerializedOpenApi(byte[] bytes, String type) {
+        this.bytes = bytes;
+        this.type = type;
+        this.eTag = computeETag(bytes);
+        this.openApi = null;
+        this.pretty = false;
+    }
+
+    private SerializedOpenApi(OpenAPI openApi, String type, boolean pretty) {
+        this.bytes = null;
+        this.type = type;
+        this.eTag = null;
+        this.openApi = openApi;
+        this.pretty = pretty;
+    }
+
+    /**
+     * Encodes the given OpenAPI as JSON or, when type is "yaml", as YAML.
+     */
+    public static SerializedOpenApi of(OpenAPI openApi, String type, boolean pretty) throws JsonProcessingException {
+        if (isYaml(type)) {
+            return new SerializedOpenApi(pretty ? Yaml.pretty().writeValueAsBytes(openApi) : Yaml.mapper().writeValueAsBytes(openApi), TYPE_YAML);
+        }
+        return new SerializedOpenApi(pretty ? Json.pretty().writeValueAsBytes(openApi) : Json.mapper().writeValueAsBytes(openApi), TYPE_JSON);
+    }
+
+    /**
+     * Wraps the given OpenAPI to be encoded as JSON or YAML only when written, straight to the output stream.
+     */
+    public static SerializedOpenApi streamed(OpenAPI openApi, String type, boolean pretty) {
+        return new SerializedOpenApi(openApi, isYaml(type) ? TYPE_YAML : TYPE_JSON, pretty);
+    }
+
+    /**
+     * Encodes the given OpenAPI as JSON or YAML straight to the given stream, through the generator buffer only.
+     * The stream is flushed but not closed.
+     */
+    public static void write(OpenAPI openApi, String type, boolean pretty, OutputStream out) throws IOException {
+        ObjectWriter writer;
+        if (isYaml(type)) {
+            writer = pretty ? Yaml.pretty() : Yaml.mapper().writer();
+        } else {
+            writer = pretty ? Json.pretty() : Json.mapper().writer();
+        }
+        writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, openApi);
+    }
+
+    public static boolean isYaml(String type) {
+        return StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase(TYPE_YAML);
+    }
+
+    /**
+     * @return the encoded bytes; a streamed document is encoded on each call
+     */
+    public byte[] getBytes() throws JsonProcessingException {
+        if (bytes == null) {
+            return of(openApi, type, pretty).getBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return whether the document is encoded only when written
+     */
+    public boolean isStreamed() {
+        return bytes == null;
+    }
+
+    /**
+     * Writes the encoded bytes, or streams the document, to the given stream, which is flushed but not closed.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (bytes == null) {
+            write(openApi, type, pretty, out);
+        } else {
+            out.write(bytes);
+            out.flush();
+        }
+    }
+
+    /**
+     * @return the quoted strong entity tag of the encoded bytes, or null for a streamed document
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Checks an If-None-Match header value against this document's entity tag, using weak comparison as
+     * mandated for If-None-Match.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (eTag == null || StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String computeETag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2 + 2).append('"');
+            for (byte b : digest) {
+                sb.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+            }
+            return sb.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
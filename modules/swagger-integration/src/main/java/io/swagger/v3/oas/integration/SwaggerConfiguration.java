@@ -30,6 +30,20 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
     private Set<String> modelConverterClasses;
     private String objectMapperProcessorClass;
 
+    private Long cacheRefreshInterval;
+
+    private Integer readerParallelism;
+
+    private Integer scannerParallelism;
+
+    private String scannerCacheDirectory;
+
+    private String precomputedSpecId;
+
+    private Boolean freezeCachedSpec;
+
+    private Integer filteredCacheSize;
+
     public Long getCacheTTL() {
         return cacheTTL;
     }
@@ -231,4 +245,158 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
         this.modelConverterClasses = modelConverterClasses;
         return this;
     }
+
+    /**
+     * @since 2.0.11
+     */
+    public Long getCacheRefreshInterval() {
+        return cacheRefreshInterval;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setCacheRefreshInterval(Long cacheRefreshInterval) {
+        this.cacheRefreshInterval = cacheRefreshInterval;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration cacheRefreshInterval(Long cacheRefreshInterval) {
+        this.cacheRefreshInterval = cacheRefreshInterval;
+        return this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public Integer getReaderParallelism() {
+        return readerParallelism;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setReaderParallelism(Integer readerParallelism) {
+        this.readerParallelism = readerParallelism;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration readerParallelism(Integer readerParallelism) {
+        this.readerParallelism = readerParallelism;
+        return this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public Integer getScannerParallelism() {
+        return scannerParallelism;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setScannerParallelism(Integer scannerParallelism) {
+        this.scannerParallelism = scannerParallelism;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration scannerParallelism(Integer scannerParallelism) {
+        this.scannerParallelism = scannerParallelism;
+        return this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public String getScannerCacheDirectory() {
+        return scannerCacheDirectory;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setScannerCacheDirectory(String scannerCacheDirectory) {
+        this.scannerCacheDirectory = scannerCacheDirectory;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration scannerCacheDirectory(String scannerCacheDirectory) {
+        this.scannerCacheDirectory = scannerCacheDirectory;
+        return this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public String getPrecomputedSpecId() {
+        return precomputedSpecId;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setPrecomputedSpecId(String precomputedSpecId) {
+        this.precomputedSpecId = precomputedSpecId;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration precomputedSpecId(String precomputedSpecId) {
+        this.precomputedSpecId = precomputedSpecId;
+        return this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public Boolean isFreezeCachedSpec() {
+        return freezeCachedSpec;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setFreezeCachedSpec(Boolean freezeCachedSpec) {
+        this.freezeCachedSpec = freezeCachedSpec;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration freezeCachedSpec(Boolean freezeCachedSpec) {
+        this.freezeCachedSpec = freezeCachedSpec;
+        return this;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public Integer getFilteredCacheSize() {
+        return filteredCacheSize;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setFilteredCacheSize(Integer filteredCacheSize) {
+        this.filteredCacheSize = filteredCacheSize;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public SwaggerConfiguration filteredCacheSize(Integer filteredCacheSize) {
+        this.filteredCacheSize = filteredCacheSize;
+        return this;
+    }
 }
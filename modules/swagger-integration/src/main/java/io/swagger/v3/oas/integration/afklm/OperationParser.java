@@ -1,6 +1,7 @@
 package io.swagger.v3.oas.integration.afklm;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.links.Link;
@@ -17,6 +18,13 @@ public class OperationParser {
     public static final String COMPONENTS_REF = "#/components/schemas/";
 
     public static Optional<RequestBody> getRequestBody(io.swagger.v3.oas.annotations.parameters.RequestBody requestBody, Components components, JsonView jsonViewAnnotation) {
+        return getRequestBody(requestBody, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<RequestBody> getRequestBody(io.swagger.v3.oas.annotations.parameters.RequestBody requestBody, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (requestBody == null) {
             return Optional.empty();
         }
@@ -53,11 +61,18 @@ public class OperationParser {
         if (isEmpty) {
             return Optional.empty();
         }
-        AnnotationsUtils.getContent(requestBody.content(), new String[0], new String[0], null, components, jsonViewAnnotation).ifPresent(requestBodyObject::setContent);
+        AnnotationsUtils.getContent(requestBody.content(), new String[0], new String[0], null, components, jsonViewAnnotation, modelConverters).ifPresent(requestBodyObject::setContent);
         return Optional.of(requestBodyObject);
     }
 
     public static Optional<ApiResponses> getApiResponses(final io.swagger.v3.oas.annotations.responses.ApiResponse[] responses, Components components, JsonView jsonViewAnnotation) {
+        return getApiResponses(responses, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<ApiResponses> getApiResponses(final io.swagger.v3.oas.annotations.responses.ApiResponse[] responses, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (responses == null) {
             return Optional.empty();
         }
@@ -85,8 +100,8 @@ public class OperationParser {
                 }
             }
 
-            AnnotationsUtils.getContent(response.content(), new String[0], new String[0], null, components, jsonViewAnnotation).ifPresent(apiResponseObject::content);
-            AnnotationsUtils.getHeaders(response.headers(), jsonViewAnnotation).ifPresent(apiResponseObject::headers);
+            AnnotationsUtils.getContent(response.content(), new String[0], new String[0], null, components, jsonViewAnnotation, modelConverters).ifPresent(apiResponseObject::content);
+            AnnotationsUtils.getHeaders(response.headers(), jsonViewAnnotation, modelConverters).ifPresent(apiResponseObject::headers);
             if (StringUtils.isNotBlank(apiResponseObject.getDescription()) || apiResponseObject.getContent() != null || apiResponseObject.getHeaders() != null) {
 
                 Map<String, Link> links = AnnotationsUtils.getLinks(response.links());
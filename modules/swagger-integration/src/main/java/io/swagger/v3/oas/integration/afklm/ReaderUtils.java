@@ -1,6 +1,7 @@
 package io.swagger.v3.oas.integration.afklm;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.ReflectionUtils;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
@@ -46,6 +47,15 @@ public class ReaderUtils {
      * @return the collection of supported parameters
      */
     public static List<Parameter> collectConstructorParameters(Class<?> cls, Components components, JsonView jsonViewAnnotation) {
+        return collectConstructorParameters(cls, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * Collects constructor-level parameters from class, resolving their schemas with the given registry.
+     *
+     * @since 2.0.11
+     */
+    public static List<Parameter> collectConstructorParameters(Class<?> cls, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (cls.isLocalClass() || (cls.isMemberClass() && !Modifier.isStatic(cls.getModifiers()))) {
             return Collections.emptyList();
         }
@@ -70,7 +80,7 @@ public class ReaderUtils {
                     paramsCount++;
                 } else {
                     final Type genericParameterType = genericParameterTypes[i];
-                    final List<Parameter> tmpParameters = collectParameters(genericParameterType, tmpAnnotations, components, jsonViewAnnotation);
+                    final List<Parameter> tmpParameters = collectParameters(genericParameterType, tmpAnnotations, components, jsonViewAnnotation, modelConverters);
                     if (tmpParameters.size() >= 1) {
                         for (Parameter tmpParameter : tmpParameters) {
                             Parameter processedParameter = ParameterProcessor.applyAnnotations(
@@ -80,7 +90,8 @@ public class ReaderUtils {
                                     components,
                                     new String[0],
                                     null,
-                                    jsonViewAnnotation);
+                                    jsonViewAnnotation,
+                                    modelConverters);
                             if (processedParameter != null) {
                                 parameters.add(processedParameter);
                             }
@@ -107,18 +118,27 @@ public class ReaderUtils {
      * @return the collection of supported parameters
      */
     public static List<Parameter> collectFieldParameters(Class<?> cls, Components components, JsonView jsonViewAnnotation) {
+        return collectFieldParameters(cls, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * Collects field-level parameters from class, resolving their schemas with the given registry.
+     *
+     * @since 2.0.11
+     */
+    public static List<Parameter> collectFieldParameters(Class<?> cls, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         final List<Parameter> parameters = new ArrayList<Parameter>();
         for (Field field : ReflectionUtils.getDeclaredFields(cls)) {
             final List<Annotation> annotations = Arrays.asList(field.getAnnotations());
             final Type genericType = field.getGenericType();
-            parameters.addAll(collectParameters(genericType, annotations, components, jsonViewAnnotation));
+            parameters.addAll(collectParameters(genericType, annotations, components, jsonViewAnnotation, modelConverters));
         }
         return parameters;
     }
 
-    private static List<Parameter> collectParameters(Type type, List<Annotation> annotations, Components components, JsonView jsonViewAnnotation) {
+    private static List<Parameter> collectParameters(Type type, List<Annotation> annotations, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
-        return chain.hasNext() ? chain.next().extractParameters(annotations, type, new HashSet<>(), components, false, jsonViewAnnotation, chain).parameters :
+        return chain.hasNext() ? chain.next().extractParameters(annotations, type, new HashSet<>(), components, false, jsonViewAnnotation, modelConverters, chain).parameters :
                 Collections.emptyList();
     }
 
@@ -39,4 +39,72 @@ public interface OpenAPIConfiguration {
      */
     public Set<String> getModelConverterClasses();
 
+    /**
+     * Interval in milliseconds at which a cached spec is rebuilt in the background; 0 or null disables background
+     * refresh.
+     *
+     * @since 2.0.11
+     */
+    default Long getCacheRefreshInterval() {
+        return null;
+    }
+
+    /**
+     * Number of threads reading resource classes in parallel; null or less than 2 reads them one at a time.
+     *
+     * @since 2.0.11
+     */
+    default Integer getReaderParallelism() {
+        return null;
+    }
+
+    /**
+     * Number of threads scanning the classpath for resource classes; null uses the scanner default.
+     *
+     * @since 2.0.11
+     */
+    default Integer getScannerParallelism() {
+        return null;
+    }
+
+    /**
+     * Directory where scanners store their scan results, reused while the classpath is unchanged; null always scans.
+     *
+     * @since 2.0.11
+     */
+    default String getScannerCacheDirectory() {
+        return null;
+    }
+
+    /**
+     * Id of the spec embedded at build time as META-INF/openapi/&lt;id&gt;.json, served instead of reading the classes
+     * as long as it was resolved with the same configuration; null always reads the classes. Changes to the classes
+     * are not detected, the embedded spec must be rebuilt along with them.
+     *
+     * @since 2.0.11
+     */
+    default String getPrecomputedSpecId() {
+        return null;
+    }
+
+    /**
+     * Whether the cached spec shared by all requests is frozen (see OpenAPIFreezer), making its collections
+     * unmodifiable so that filters and listeners cannot change it; null or false leaves it mutable.
+     *
+     * @since 2.0.11
+     */
+    default Boolean isFreezeCachedSpec() {
+        return null;
+    }
+
+    /**
+     * Maximum number of filtered documents cached per filter cache key, least recently used ones being dropped; 0
+     * filters every request, null keeps the default of the context.
+     *
+     * @since 2.0.11
+     */
+    default Integer getFilteredCacheSize() {
+        return null;
+    }
+
 }
@@ -1,9 +1,16 @@
 package io.swagger.v3.oas.integration.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.filter.SpecFilter;
+import io.swagger.v3.oas.integration.ContextUtils;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface OpenApiContext {
@@ -18,6 +25,56 @@ public interface OpenApiContext {
 
     OpenAPI read();
 
+    /**
+     * Returns the result of {@link #read()} encoded as JSON or YAML, or null if there is nothing to serve. Documents
+     * which are not cached are streamed when written.
+     *
+     * @since 2.0.11
+     */
+    default SerializedOpenApi readSerialized(String type, boolean pretty) throws JsonProcessingException {
+        OpenAPI openApi = read();
+        return openApi == null ? null : SerializedOpenApi.streamed(openApi, type, pretty);
+    }
+
+    /**
+     * Returns the result of {@link #readSerialized(String, boolean)} filtered for the given request by the
+     * {@link #getSpecFilter() filter} of the context, if any.
+     *
+     * @since 2.0.11
+     */
+    default SerializedOpenApi readSerialized(String type, boolean pretty, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) throws JsonProcessingException {
+        OpenAPISpecFilter filter = getSpecFilter();
+        if (filter == null) {
+            return readSerialized(type, pretty);
+        }
+        OpenAPI openApi = read();
+        if (openApi != null) {
+            // a failing filter fails the request rather than exposing the unfiltered spec
+            openApi = new SpecFilter().filter(openApi, filter, params, cookies, headers);
+        }
+        return openApi == null ? null : SerializedOpenApi.streamed(openApi, type, pretty);
+    }
+
+    /**
+     * Returns the instance of the configured filter class, shared by all requests; null if none is configured or it
+     * cannot be built. The default implementation builds it on first use, see
+     * {@link ContextUtils#getSpecFilter(OpenApiContext)}.
+     *
+     * @since 2.0.11
+     */
+    default OpenAPISpecFilter getSpecFilter() {
+        return ContextUtils.getSpecFilter(this);
+    }
+
+    /**
+     * Releases the resources held by the context, such as its background refreshes; called when the context is removed
+     * from {@link io.swagger.v3.oas.integration.OpenApiContextLocator}. Does nothing by default.
+     *
+     * @since 2.0.11
+     */
+    default void shutdown() {
+    }
+
     OpenAPIConfiguration getOpenApiConfiguration();
 
     String getConfigLocation();
@@ -1,5 +1,6 @@
 package io.swagger.v3.oas.integration.api;
 
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.util.Map;
@@ -9,5 +10,14 @@ public interface OpenApiReader {
 
     void setConfiguration(OpenAPIConfiguration openApiConfiguration);
 
+    /**
+     * Sets the registry to resolve schemas with, e.g. one holding the converters configured for a context. Readers
+     * not overriding this resolve with the global {@link ModelConverters#getInstance()} one.
+     *
+     * @since 2.0.11
+     */
+    default void setModelConverters(ModelConverters modelConverters) {
+    }
+
     OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources);
 }
@@ -0,0 +1,698 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverterContext;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.oas.integration.api.ObjectMapperProcessor;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.integration.api.OpenApiScanner;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GenericOpenApiContextTest {
+
+    @Test(description = "it should encode a cached spec only once per format")
+    public void testSerializedSpecIsCached() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = context("serialized.cached", reader, -1);
+
+        SerializedOpenApi json = ctx.readSerialized("json", false);
+        assertSame(ctx.readSerialized("json", false), json);
+        assertEquals(reader.reads.get(), 1);
+        assertEquals(new String(json.getBytes(), StandardCharsets.UTF_8), "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"read 1\"}}");
+
+        SerializedOpenApi pretty = ctx.readSerialized("json", true);
+        SerializedOpenApi yaml = ctx.readSerialized("yaml", false);
+        assertNotSame(pretty, json);
+        assertNotEquals(pretty.getETag(), json.getETag());
+        assertNotEquals(yaml.getETag(), json.getETag());
+        assertTrue(new String(yaml.getBytes(), StandardCharsets.UTF_8).startsWith("openapi: 3.0.1"));
+        assertEquals(reader.reads.get(), 1);
+    }
+
+    @Test(description = "it should stream specs when caching is disabled")
+    public void testSerializedSpecWithoutCache() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = context("serialized.uncached", reader, 0);
+
+        SerializedOpenApi first = ctx.readSerialized("json", false);
+        SerializedOpenApi second = ctx.readSerialized("yaml", true);
+        assertEquals(reader.reads.get(), 2);
+        assertTrue(first.isStreamed());
+        assertNull(first.getETag());
+        assertFalse(first.matches("*"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        first.writeTo(out);
+        assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"read 1\"}}");
+        out.reset();
+        second.writeTo(out);
+        assertEquals(out.toByteArray(), SerializedOpenApi.of(new OpenAPI().info(new Info().title("read 2")), "yaml", true).getBytes());
+    }
+
+    @Test(description = "it should match If-None-Match values against the entity tag")
+    public void testETagMatching() throws Exception {
+        SerializedOpenApi serialized = SerializedOpenApi.of(new OpenAPI().info(new Info().title("etag")), "json", false);
+        String eTag = serialized.getETag();
+
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+        assertEquals(SerializedOpenApi.of(new OpenAPI().info(new Info().title("etag")), "json", false).getETag(), eTag);
+        assertTrue(serialized.matches(eTag));
+        assertTrue(serialized.matches("W/" + eTag));
+        assertTrue(serialized.matches("\"other\", " + eTag));
+        assertTrue(serialized.matches("*"));
+        assertFalse(serialized.matches("\"other\""));
+        assertFalse(serialized.matches(eTag.substring(1, eTag.length() - 1)));
+        assertFalse(serialized.matches(null));
+    }
+
+    @Test(description = "it should rebuild a stale spec once and serve the stale one meanwhile")
+    public void testSingleFlightRebuild() throws Exception {
+        BlockingReader reader = new BlockingReader();
+        GenericOpenApiContext ctx = context("rebuild.singleflight", reader, 1);
+        assertEquals(ctx.read().getInfo().getTitle(), "read 1");
+        Thread.sleep(10);
+
+        reader.block = true;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<OpenAPI> rebuilding = executor.submit(ctx::read);
+            assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+
+            assertEquals(ctx.read().getInfo().getTitle(), "read 1");
+            assertEquals(ctx.read().getInfo().getTitle(), "read 1");
+
+            reader.release.countDown();
+            assertEquals(rebuilding.get(5, TimeUnit.SECONDS).getInfo().getTitle(), "read 2");
+            assertEquals(reader.reads.get(), 2);
+        } finally {
+            reader.release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "it should refresh a cached spec in background with the context class loader of init")
+    public void testBackgroundRefresh() throws Exception {
+        LoaderRecordingReader reader = new LoaderRecordingReader();
+        ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        GenericOpenApiContext ctx;
+        try {
+            ctx = new GenericOpenApiContext()
+                    .id("rebuild.background")
+                    .openApiConfiguration(new SwaggerConfiguration().cacheTTL(-1L).cacheRefreshInterval(20L))
+                    .openApiReader(reader)
+                    .openApiScanner(new EmptyScanner())
+                    .init();
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+        assertEquals(ctx.getCacheRefreshInterval(), 20);
+
+        ctx.read();
+        assertTrue(reader.readsDone.await(5, TimeUnit.SECONDS));
+        assertNotEquals(ctx.read().getInfo().getTitle(), "read 1");
+        assertSame(reader.loader, loader);
+
+        ScheduledExecutorService executor = ctx.getRefreshExecutor();
+        ctx.shutdown();
+        assertTrue(executor.isShutdown());
+        assertNull(ctx.getRefreshExecutor());
+        // a refresh running at shutdown may still complete, none starts afterwards
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "it should refresh on a supplied executor and leave it running on shutdown")
+    public void testSuppliedRefreshExecutor() throws Exception {
+        CountingReader reader = new CountingReader();
+        ManualScheduledExecutor executor = new ManualScheduledExecutor();
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("rebuild.executor")
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(-1L).cacheRefreshInterval(20L))
+                .openApiReader(reader)
+                .openApiScanner(new EmptyScanner())
+                .refreshExecutor(executor)
+                .init();
+        ctx.read();
+        assertEquals(executor.delay, 20);
+        assertEquals(executor.runScheduled(), 1);
+        assertEquals(executor.runScheduled(), 1);
+        assertEquals(reader.reads.get(), 3);
+        assertEquals(ctx.read().getInfo().getTitle(), "read 3");
+
+        ctx.shutdown();
+        assertFalse(executor.isShutdown());
+        assertSame(ctx.getRefreshExecutor(), executor);
+        assertEquals(executor.runScheduled(), 0);
+        assertEquals(reader.reads.get(), 3);
+    }
+
+    @Test(description = "it should cache filtered specs per filter cache key")
+    public void testFilteredSpecIsCached() throws Exception {
+        CountingReader reader = new CountingReader();
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("filtered.cached")
+                .openApiConfiguration(new SwaggerConfiguration().filterClass(RoleFilter.class.getName()))
+                .openApiReader(reader)
+                .openApiScanner(new EmptyScanner())
+                .filteredCacheSize(2)
+                .init();
+        RoleFilter.filtered.set(0);
+
+        SerializedOpenApi admin = ctx.readSerialized("json", false, null, null, role("admin"));
+        assertSame(ctx.readSerialized("json", false, null, null, role("admin")), admin);
+        assertEquals(new String(admin.getBytes(), StandardCharsets.UTF_8), "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"read 1 for admin\"}}");
+        assertEquals(RoleFilter.filtered.get(), 1);
+
+        SerializedOpenApi user = ctx.readSerialized("json", false, null, null, role("user"));
+        assertNotEquals(user.getETag(), admin.getETag());
+        assertEquals(RoleFilter.filtered.get(), 2);
+
+        // requests without a cache key are filtered every time
+        ctx.readSerialized("json", false, null, null, Collections.emptyMap());
+        ctx.readSerialized("json", false, null, null, Collections.emptyMap());
+        assertEquals(RoleFilter.filtered.get(), 4);
+
+        // least recently used entries are dropped beyond the cache size
+        ctx.readSerialized("json", false, null, null, role("guest"));
+        assertSame(ctx.readSerialized("json", false, null, null, role("guest")), ctx.readSerialized("json", false, null, null, role("guest")));
+        assertEquals(RoleFilter.filtered.get(), 5);
+        assertNotSame(ctx.readSerialized("json", false, null, null, role("admin")), admin);
+        assertEquals(RoleFilter.filtered.get(), 6);
+        assertEquals(reader.reads.get(), 1);
+    }
+
+    @Test(description = "it should take the filtered cache size from the configuration")
+    public void testConfiguredFilteredCacheSize() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("filtered.configured")
+                .openApiConfiguration(new SwaggerConfiguration().filterClass(RoleFilter.class.getName()).filteredCacheSize(0))
+                .openApiReader(new CountingReader())
+                .openApiScanner(new EmptyScanner())
+                .init();
+        assertEquals(ctx.getFilteredCacheSize(), 0);
+        RoleFilter.filtered.set(0);
+
+        SerializedOpenApi admin = ctx.readSerialized("json", false, null, null, role("admin"));
+        assertTrue(admin.isStreamed());
+        ctx.readSerialized("json", false, null, null, role("admin"));
+        assertEquals(RoleFilter.filtered.get(), 2);
+    }
+
+    @Test(description = "it should neither cache nor hide a failure of the filter")
+    public void testFailingFilterIsNotCached() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("filtered.failing")
+                .openApiConfiguration(new SwaggerConfiguration().filterClass(FailingFilter.class.getName()))
+                .openApiReader(new CountingReader())
+                .openApiScanner(new EmptyScanner())
+                .init();
+
+        FailingFilter.fail = true;
+        try {
+            ctx.readSerialized("json", false, null, null, role("admin"));
+            fail("expected the failure of the filter");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "filter failed");
+        } finally {
+            FailingFilter.fail = false;
+        }
+        SerializedOpenApi admin = ctx.readSerialized("json", false, null, null, role("admin"));
+        assertEquals(new String(admin.getBytes(), StandardCharsets.UTF_8), "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"read 1 for admin\"}}");
+        assertSame(ctx.readSerialized("json", false, null, null, role("admin")), admin);
+    }
+
+    @Test(description = "it should build the filter of contexts not building their own once")
+    public void testDefaultSpecFilterIsReused() throws Exception {
+        MinimalContext ctx = new MinimalContext(new SwaggerConfiguration().filterClass(RoleFilter.class.getName()));
+        RoleFilter.instances.set(0);
+
+        SerializedOpenApi admin = ctx.readSerialized("json", false, null, null, role("admin"));
+        assertEquals(new String(admin.getBytes(), StandardCharsets.UTF_8), "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"minimal for admin\"}}");
+        ctx.readSerialized("json", false, null, null, role("user"));
+        assertSame(ctx.getSpecFilter(), ctx.getSpecFilter());
+        assertEquals(RoleFilter.instances.get(), 1);
+
+        assertNull(new MinimalContext(new SwaggerConfiguration()).getSpecFilter());
+    }
+
+    @Test(description = "it should freeze the cached spec when configured")
+    public void testFrozenCachedSpec() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("frozen.cached")
+                .openApiConfiguration(new SwaggerConfiguration().freezeCachedSpec(true).filterClass(RoleFilter.class.getName()))
+                .openApiReader(new PathsReader())
+                .openApiScanner(new EmptyScanner())
+                .init();
+
+        OpenAPI openApi = ctx.read();
+        try {
+            openApi.getPaths().addPathItem("/other", new PathItem());
+            fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertSame(ctx.read(), openApi);
+        SerializedOpenApi admin = ctx.readSerialized("json", false, null, null, role("admin"));
+        assertEquals(new String(admin.getBytes(), StandardCharsets.UTF_8), "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"paths for admin\"}}");
+
+        GenericOpenApiContext mutable = new GenericOpenApiContext()
+                .id("frozen.default")
+                .openApiReader(new PathsReader())
+                .openApiScanner(new EmptyScanner())
+                .init();
+        mutable.read().getPaths().addPathItem("/other", new PathItem());
+        assertEquals(mutable.read().getPaths().size(), 2);
+    }
+
+    @Test(description = "it should use the converters of a context for its reads only")
+    public void testContextModelConverters() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("converters.scoped")
+                .openApiConfiguration(new SwaggerConfiguration().modelConverterClasses(Collections.singleton(MarkerConverter.class.getName())))
+                .openApiReader(new MarkerReader())
+                .openApiScanner(new EmptyScanner())
+                .init();
+
+        // converters added globally after init are used by the context as well
+        GlobalMarkerConverter global = new GlobalMarkerConverter();
+        ModelConverters.getInstance().addConverter(global);
+        try {
+            assertEquals(ctx.read().getInfo().getTitle(), "scoped marker");
+            assertTrue(global.resolved.get() > 0);
+        } finally {
+            ModelConverters.getInstance().removeConverter(global);
+        }
+        assertNotSame(ModelConverters.getInstance(), MarkerReader.used);
+        assertNull(ModelConverters.getInstance().read(Marker.class).get("Marker").getTitle());
+
+        GenericOpenApiContext other = context("converters.global", new MarkerReader(), -1);
+        assertEquals(other.read().getInfo().getTitle(), "null");
+        assertSame(MarkerReader.used, ModelConverters.getInstance());
+    }
+
+    @Test(description = "it should serve the precomputed spec resolved with the same configuration")
+    public void testPrecomputedSpec() throws Exception {
+        Path directory = Files.createTempDirectory("precomputed");
+        SwaggerConfiguration built = new SwaggerConfiguration().resourcePackages(Collections.singleton("com.example"));
+        PrecomputedOpenApi.write(directory, "precomputed", new OpenAPI().info(new Info().title("precomputed")), built);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{directory.toUri().toURL()}, contextClassLoader));
+        try {
+            CountingReader reader = new CountingReader();
+            GenericOpenApiContext ctx = new GenericOpenApiContext()
+                    .id("precomputed.same")
+                    .openApiConfiguration(new SwaggerConfiguration()
+                            .resourcePackages(Collections.singleton("com.example"))
+                            .prettyPrint(true)
+                            .precomputedSpecId("precomputed"))
+                    .openApiReader(reader)
+                    .openApiScanner(new EmptyScanner())
+                    .init();
+            assertEquals(ctx.read().getInfo().getTitle(), "precomputed");
+            assertEquals(reader.reads.get(), 0);
+
+            GenericOpenApiContext other = new GenericOpenApiContext()
+                    .id("precomputed.other")
+                    .openApiConfiguration(new SwaggerConfiguration()
+                            .resourcePackages(Collections.singleton("com.example.other"))
+                            .precomputedSpecId("precomputed"))
+                    .openApiReader(reader)
+                    .openApiScanner(new EmptyScanner())
+                    .init();
+            assertEquals(other.read().getInfo().getTitle(), "read 1");
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        // the order converters are configured in does not matter
+        assertEquals(PrecomputedOpenApi.fingerprint(new SwaggerConfiguration().modelConverterClasses(new LinkedHashSet<>(Arrays.asList("a.First", "b.Second")))),
+                PrecomputedOpenApi.fingerprint(new SwaggerConfiguration().modelConverterClasses(new LinkedHashSet<>(Arrays.asList("b.Second", "a.First")))));
+    }
+
+    private static Map<String, List<String>> role(String role) {
+        return Collections.singletonMap("role", Collections.singletonList(role));
+    }
+
+    private static GenericOpenApiContext context(String id, OpenApiReader reader, long cacheTTL) throws Exception {
+        return new GenericOpenApiContext()
+                .id(id)
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(cacheTTL))
+                .openApiReader(reader)
+                .openApiScanner(new EmptyScanner())
+                .init();
+    }
+
+    static class CountingReader implements OpenApiReader {
+        final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            return new OpenAPI().info(new Info().title("read " + reads.incrementAndGet()));
+        }
+    }
+
+    static class PathsReader implements OpenApiReader {
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            return new OpenAPI().info(new Info().title("paths")).paths(new Paths().addPathItem("/pets", new PathItem()));
+        }
+    }
+
+    static class LoaderRecordingReader extends CountingReader {
+        final CountDownLatch readsDone = new CountDownLatch(3);
+        volatile ClassLoader loader;
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            loader = Thread.currentThread().getContextClassLoader();
+            try {
+                return super.read(classes, resources);
+            } finally {
+                readsDone.countDown();
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks scheduled with a fixed delay when told to, on the calling thread.
+     */
+    static class ManualScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+        final List<ManualTask> tasks = new CopyOnWriteArrayList<>();
+        volatile long delay;
+        volatile boolean shutdown;
+
+        int runScheduled() {
+            int runs = 0;
+            for (ManualTask task : tasks) {
+                if (!task.isCancelled()) {
+                    task.command.run();
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            this.delay = unit.toMillis(delay);
+            ManualTask task = new ManualTask(command);
+            tasks.add(task);
+            return task;
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+
+    static class ManualTask extends FutureTask<Void> implements ScheduledFuture<Void> {
+        final Runnable command;
+
+        ManualTask(Runnable command) {
+            super(command, null);
+            this.command = command;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    static class BlockingReader extends CountingReader {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean block;
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            if (block) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.read(classes, resources);
+        }
+    }
+
+    public static class RoleFilter extends AbstractSpecFilter {
+        static final AtomicInteger filtered = new AtomicInteger();
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public RoleFilter() {
+            instances.incrementAndGet();
+        }
+
+        @Override
+        public Optional<OpenAPI> filterOpenAPI(OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            filtered.incrementAndGet();
+            String role = getCacheKey(params, cookies, headers);
+            return Optional.of(new OpenAPI().info(new Info().title(openAPI.getInfo().getTitle() + (role == null ? "" : " for " + role))));
+        }
+
+        @Override
+        public String getCacheKey(Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            List<String> role = headers.get("role");
+            return role == null ? null : role.get(0);
+        }
+    }
+
+    public static class FailingFilter extends RoleFilter {
+        static volatile boolean fail;
+
+        @Override
+        public Optional<OpenAPI> filterOpenAPI(OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+            if (fail) {
+                throw new IllegalStateException("filter failed");
+            }
+            return super.filterOpenAPI(openAPI, params, cookies, headers);
+        }
+    }
+
+    static class MinimalContext implements OpenApiContext {
+        private final OpenAPIConfiguration configuration;
+
+        MinimalContext(OpenAPIConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        public String getId() {
+            return "minimal";
+        }
+
+        @Override
+        public OpenApiContext init() {
+            return this;
+        }
+
+        @Override
+        public OpenAPI read() {
+            return new OpenAPI().info(new Info().title("minimal"));
+        }
+
+        @Override
+        public OpenAPIConfiguration getOpenApiConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public String getConfigLocation() {
+            return null;
+        }
+
+        @Override
+        public OpenApiContext getParent() {
+            return null;
+        }
+
+        @Override
+        public void setOpenApiScanner(OpenApiScanner openApiScanner) {
+        }
+
+        @Override
+        public void setOpenApiReader(OpenApiReader openApiReader) {
+        }
+
+        @Override
+        public void setObjectMapperProcessor(ObjectMapperProcessor objectMapperProcessor) {
+        }
+
+        @Override
+        public void setModelConverters(Set<ModelConverter> modelConverters) {
+        }
+    }
+
+    static class Marker {
+        public String value;
+    }
+
+    public static class MarkerConverter implements ModelConverter {
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            Schema schema = chain.next().resolve(type, context, chain);
+            if (schema != null && Marker.class.equals(type.getType())) {
+                schema.title("scoped marker");
+            }
+            return schema;
+        }
+    }
+
+    static class GlobalMarkerConverter implements ModelConverter {
+        final AtomicInteger resolved = new AtomicInteger();
+
+        @Override
+        public Schema resolve(AnnotatedType type, ModelConverterContext context, Iterator<ModelConverter> chain) {
+            if (Marker.class.equals(type.getType())) {
+                resolved.incrementAndGet();
+            }
+            return chain.next().resolve(type, context, chain);
+        }
+    }
+
+    static class MarkerReader implements OpenApiReader {
+        static volatile ModelConverters used;
+        private ModelConverters modelConverters = ModelConverters.getInstance();
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public void setModelConverters(ModelConverters modelConverters) {
+            this.modelConverters = modelConverters == null ? ModelConverters.getInstance() : modelConverters;
+        }
+
+        @Override
+        public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+            used = modelConverters;
+            Schema marker = used.read(Marker.class).get("Marker");
+            return new OpenAPI().info(new Info().title(String.valueOf(marker.getTitle())));
+        }
+    }
+
+    static class EmptyScanner implements OpenApiScanner {
+
+        @Override
+        public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        }
+
+        @Override
+        public Set<Class<?>> classes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Map<String, Object> resources() {
+            return Collections.emptyMap();
+        }
+    }
+}
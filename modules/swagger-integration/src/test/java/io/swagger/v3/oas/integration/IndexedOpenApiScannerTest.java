@@ -0,0 +1,72 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class IndexedOpenApiScannerTest {
+
+    @Test
+    public void testIndexedClasses() throws Exception {
+        File classes = new File(IndexedOpenApiScannerTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        AnnotationIndex index = AnnotationIndex.build(Collections.singletonList(classes), AnnotationIndex.DEFAULT_ANNOTATIONS);
+        assertTrue(index.getClassNames(OpenAPIDefinition.class.getName()).contains(IndexedDefinition.class.getName()));
+        assertTrue(index.getClassNames("javax.ws.rs.Path").isEmpty());
+
+        Path directory = Files.createTempDirectory("annotation-index");
+        index.write(directory.resolve(AnnotationIndex.RESOURCE));
+        // a second index, e.g. of a jar, with classes not annotated with @OpenAPIDefinition
+        Path other = Files.createTempDirectory("annotation-index");
+        Files.createDirectories(other.resolve(AnnotationIndex.RESOURCE).getParent());
+        Files.write(other.resolve(AnnotationIndex.RESOURCE), Collections.singletonList("javax.ws.rs.Path=" + IndexedResource.class.getName()));
+        ClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL(), other.toUri().toURL()}, getClass().getClassLoader());
+        assertEquals(AnnotationIndex.load(classLoader).getClassNames(OpenAPIDefinition.class.getName()),
+                index.getClassNames(OpenAPIDefinition.class.getName()));
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            IndexedOpenApiScanner scanner = new IndexedOpenApiScanner();
+            scanner.setConfiguration(new SwaggerConfiguration().resourcePackages(Collections.singleton(getClass().getPackage().getName())));
+            Set<Class<?>> found = scanner.classes();
+            assertTrue(found.contains(IndexedDefinition.class));
+            // the same classes as the scanning scanner
+            assertEquals(found.size(), index.getClassNames(OpenAPIDefinition.class.getName()).size());
+            assertFalse(found.contains(IndexedResource.class));
+
+            scanner.setConfiguration(new SwaggerConfiguration().resourcePackages(Collections.singleton("io.swagger.v3.other")));
+            assertTrue(scanner.classes().isEmpty());
+
+            // packages are matched against package names, not class names
+            scanner.setConfiguration(new SwaggerConfiguration().resourcePackages(Collections.singleton(getClass().getName())));
+            assertTrue(scanner.classes().isEmpty());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    public void testNoIndex() throws Exception {
+        assertNull(AnnotationIndex.load(new URLClassLoader(new URL[0], null)));
+    }
+
+    @OpenAPIDefinition
+    static class IndexedDefinition {
+    }
+
+    static class IndexedResource {
+    }
+}
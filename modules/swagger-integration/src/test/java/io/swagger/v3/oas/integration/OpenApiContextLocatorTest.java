@@ -0,0 +1,91 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OpenApiContextLocatorTest {
+
+    @Test(description = "it should create a context only once for concurrent callers")
+    public void testConcurrentGetOrCreate() throws Exception {
+        final String id = "locator.concurrent";
+        final AtomicInteger created = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OpenApiContext>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return OpenApiContextLocator.getInstance().getOrCreateOpenApiContext(id, () -> {
+                        created.incrementAndGet();
+                        Thread.sleep(50);
+                        return new GenericOpenApiContext().id(id).openApiConfiguration(new SwaggerConfiguration()).init();
+                    });
+                }));
+            }
+            start.countDown();
+            OpenApiContext ctx = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<OpenApiContext> result : results) {
+                assertSame(result.get(5, TimeUnit.SECONDS), ctx);
+            }
+            assertEquals(created.get(), 1);
+            assertSame(OpenApiContextLocator.getInstance().getOpenApiContext(id), ctx);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "it should retry a failed context creation")
+    public void testFailedCreationIsRetried() throws Exception {
+        final String id = "locator.failed";
+        try {
+            OpenApiContextLocator.getInstance().getOrCreateOpenApiContext(id, () -> {
+                throw new OpenApiConfigurationException("failed", null);
+            });
+            fail("expected OpenApiConfigurationException");
+        } catch (OpenApiConfigurationException e) {
+            assertEquals(e.getMessage(), "failed");
+        }
+        OpenApiContext ctx = new GenericOpenApiContextBuilder()
+                .ctxId(id)
+                .openApiConfiguration(new SwaggerConfiguration())
+                .buildContext(true);
+        assertSame(OpenApiContextLocator.getInstance().getOpenApiContext(id), ctx);
+    }
+
+    @Test(description = "it should shut down the contexts it removes")
+    public void testRemovedContextIsShutDown() throws Exception {
+        final String id = "locator.removed";
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id(id)
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(-1L).cacheRefreshInterval(60000L))
+                .openApiReader(new GenericOpenApiContextTest.CountingReader())
+                .openApiScanner(new GenericOpenApiContextTest.EmptyScanner())
+                .init();
+        ScheduledExecutorService executor = ctx.getRefreshExecutor();
+        assertNotNull(executor);
+
+        assertSame(OpenApiContextLocator.getInstance().removeOpenApiContext(id), ctx);
+        assertNull(OpenApiContextLocator.getInstance().getOpenApiContext(id));
+        assertTrue(executor.isShutdown());
+        assertNull(ctx.getRefreshExecutor());
+        assertNull(OpenApiContextLocator.getInstance().removeOpenApiContext(id));
+    }
+}
@@ -0,0 +1,29 @@
+package io.swagger.v3.oas.integration;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class PackagePrefixesTest {
+
+    @Test(description = "it should match names as String.startsWith does for any of the prefixes")
+    public void testMatches() {
+        PackagePrefixes prefixes = new PackagePrefixes(Arrays.asList("com.my", "com.my.project", "org.glassfish.jersey"));
+        assertFalse(prefixes.isEmpty());
+        assertTrue(prefixes.matches("com.my"));
+        assertTrue(prefixes.matches("com.my.project.resources"));
+        assertTrue(prefixes.matches("com.myother"));
+        assertTrue(prefixes.matches("org.glassfish.jersey.server"));
+        assertFalse(prefixes.matches("com.m"));
+        assertFalse(prefixes.matches("org.glassfish"));
+        assertFalse(prefixes.matches(""));
+
+        PackagePrefixes none = new PackagePrefixes(Collections.<String>emptySet());
+        assertTrue(none.isEmpty());
+        assertFalse(none.matches("com.my"));
+    }
+}
@@ -0,0 +1,96 @@
+package io.swagger.v3.oas.integration;
+
+import io.github.classgraph.ClassGraph;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ScanResultCacheTest {
+
+    @Test
+    public void testCachedScan() throws Exception {
+        Path directory = Files.createTempDirectory("scan-cache");
+        ScanResultCache cache = new ScanResultCache(directory);
+        String annotation = OpenAPIDefinition.class.getName();
+
+        Set<Class<?>> scanned = cache.classesWithAnnotations(ScanResultCacheTest::graph, "test", null, annotation);
+        assertTrue(scanned.contains(Definition.class));
+        Path file = single(directory);
+
+        Properties properties = read(file);
+        properties.setProperty(annotation, Definition.class.getName());
+        write(file, properties);
+        assertEquals(cache.classesWithAnnotations(ScanResultCacheTest::graph, "test", null, annotation), Collections.singleton(Definition.class));
+
+        // a cached class which cannot be loaded falls back to scanning
+        properties.setProperty(annotation, "io.swagger.v3.oas.integration.Missing");
+        write(file, properties);
+        assertEquals(cache.classesWithAnnotations(ScanResultCacheTest::graph, "test", null, annotation), scanned);
+
+        // so does a changed classpath
+        properties = read(file);
+        properties.setProperty(annotation, "");
+        properties.setProperty("fingerprint", "changed");
+        write(file, properties);
+        assertEquals(cache.classesWithAnnotations(ScanResultCacheTest::graph, "test", 2, annotation), scanned);
+        assertEquals(single(directory), file);
+    }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        Path directory = Files.createTempDirectory("scan-classpath");
+        Path classFile = Files.write(directory.resolve("A.class"), new byte[]{1});
+        List<File> classpath = Collections.singletonList(directory.toFile());
+        String fingerprint = ScanResultCache.fingerprint(classpath);
+        assertEquals(ScanResultCache.fingerprint(classpath), fingerprint);
+
+        Files.write(classFile, new byte[]{1, 2});
+        assertNotEquals(ScanResultCache.fingerprint(classpath), fingerprint);
+    }
+
+    private static ClassGraph graph() {
+        return new ClassGraph().enableClassInfo().enableAnnotationInfo().ignoreClassVisibility()
+                .whitelistPackages(ScanResultCacheTest.class.getPackage().getName());
+    }
+
+    private static Path single(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> list = files.collect(Collectors.toList());
+            assertEquals(list.size(), 1);
+            return list.get(0);
+        }
+    }
+
+    private static Properties read(Path file) throws Exception {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static void write(Path file, Properties properties) throws Exception {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, null);
+        }
+    }
+
+    @OpenAPIDefinition
+    static class Definition {
+    }
+}
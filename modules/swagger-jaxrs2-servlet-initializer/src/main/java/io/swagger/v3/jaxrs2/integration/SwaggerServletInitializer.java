@@ -3,10 +3,13 @@ package io.swagger.v3.jaxrs2.integration;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.integration.IgnoredPackages;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 
 import javax.servlet.ServletContainerInitializer;
 import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.HandlesTypes;
 import javax.ws.rs.Path;
@@ -28,6 +31,17 @@ public class SwaggerServletInitializer implements ServletContainerInitializer {
     }
 
     public void onStartup(Set<Class<?>> classes, ServletContext servletContext) throws ServletException {
+        // contexts built for the application, here or by its resources, are shut down when it is undeployed
+        servletContext.addListener(new ServletContextListener() {
+            @Override
+            public void contextInitialized(ServletContextEvent event) {
+            }
+
+            @Override
+            public void contextDestroyed(ServletContextEvent event) {
+                OpenApiContextLocator.getInstance().shutdown();
+            }
+        });
         if (classes != null && classes.size() != 0) {
             Set<Class<?>> resources = new LinkedHashSet();
             classes.stream()
@@ -0,0 +1,601 @@
+package io.swagger.v3.jaxrs2;
+
+import io.github.classgraph.AnnotationInfo;
+import io.github.classgraph.BaseTypeSignature;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassRefTypeSignature;
+import io.github.classgraph.MethodInfo;
+import io.github.classgraph.MethodParameterInfo;
+import io.github.classgraph.ScanResult;
+import io.github.classgraph.TypeSignature;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.util.OperationIdIndex;
+import io.swagger.v3.core.util.PathUtils;
+import io.swagger.v3.core.util.PrimitiveType;
+import io.swagger.v3.jaxrs2.util.ReaderUtils;
+import io.swagger.v3.oas.integration.ContextUtils;
+import io.swagger.v3.oas.integration.IgnoredPackages;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.HttpMethod;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reader building the operations of JAX-RS resources from the class file metadata read by ClassGraph instead of
+ * reflection, so that documenting resources does not load them: paths, HTTP methods, tags, the
+ * {@link io.swagger.v3.oas.annotations.Operation} attributes, JAX-RS parameters of simple types and the responses
+ * declared by {@link io.swagger.v3.oas.annotations.responses.ApiResponse} are read from the annotations as stored in
+ * the class files.
+ * <p>
+ * Schemas of other types need generic type resolution, so for them the declaring class is loaded, without being
+ * initialized, and the types resolved by reflection, unless {@link #resolveSchemas(boolean)} is turned off. Sub
+ * resource locators, bean and form parameters and the annotation attributes referencing other annotations or classes
+ * beyond the ones above are not read; use {@link Reader} for those. The interfaces and custom {@link HttpMethod}
+ * annotations of the resources are read as well when they lie outside of the configured classes and packages, except
+ * for interfaces of ignored packages, which are not scanned.
+ * <p>
+ * Configured as readerClass together with scannerClass
+ * {@link io.swagger.v3.jaxrs2.integration.DeferredJaxrsScanner}, the resources are those of the configured resource
+ * classes and packages; otherwise those of the scanned classes.
+ *
+ * @since 2.0.11
+ */
+public class ClassInfoReader implements OpenApiReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassInfoReader.class);
+
+    private static final String PATH = "javax.ws.rs.Path";
+    private static final String HTTP_METHOD = "javax.ws.rs.HttpMethod";
+    private static final String PRODUCES = "javax.ws.rs.Produces";
+    private static final String CONSUMES = "javax.ws.rs.Consumes";
+    private static final String HIDDEN = "io.swagger.v3.oas.annotations.Hidden";
+    private static final String OPERATION = "io.swagger.v3.oas.annotations.Operation";
+    private static final String OPENAPI_DEFINITION = "io.swagger.v3.oas.annotations.OpenAPIDefinition";
+    private static final String PARAMETER = "io.swagger.v3.oas.annotations.Parameter";
+    private static final String TAG = "io.swagger.v3.oas.annotations.tags.Tag";
+    private static final String TAGS = "io.swagger.v3.oas.annotations.tags.Tags";
+    private static final String API_RESPONSE = "io.swagger.v3.oas.annotations.responses.ApiResponse";
+    private static final String API_RESPONSES = "io.swagger.v3.oas.annotations.responses.ApiResponses";
+
+    private static final Map<String, String> HTTP_METHODS = new LinkedHashMap<>();
+    private static final Map<String, String> PARAMETER_LOCATIONS = new LinkedHashMap<>();
+    private static final Set<String> NOT_BODY = new HashSet<>(Arrays.asList(
+            "javax.ws.rs.core.Context", "javax.ws.rs.container.Suspended", "javax.ws.rs.BeanParam",
+            "javax.ws.rs.FormParam", "javax.ws.rs.MatrixParam"));
+
+    static {
+        for (String method : Arrays.asList("GET", "PUT", "POST", "DELETE", "OPTIONS", "HEAD", "PATCH")) {
+            HTTP_METHODS.put("javax.ws.rs." + method, method.toLowerCase());
+        }
+        PARAMETER_LOCATIONS.put("javax.ws.rs.PathParam", "path");
+        PARAMETER_LOCATIONS.put("javax.ws.rs.QueryParam", "query");
+        PARAMETER_LOCATIONS.put("javax.ws.rs.HeaderParam", "header");
+        PARAMETER_LOCATIONS.put("javax.ws.rs.CookieParam", "cookie");
+    }
+
+    private OpenAPIConfiguration config;
+    private boolean resolveSchemas = true;
+    private ModelConverters modelConverters = ModelConverters.getInstance();
+    /**
+     * HTTP methods of the annotations not in {@link #HTTP_METHODS}, empty for the ones which are not HTTP methods.
+     */
+    private final Map<String, String> customHttpMethods = new HashMap<>();
+
+    private OpenAPI openAPI;
+    private Components components;
+    private Map<String, Tag> openApiTags;
+    private OperationIdIndex operationIds;
+
+    @Override
+    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+        this.config = openApiConfiguration == null ? null : ContextUtils.deepCopy(openApiConfiguration);
+    }
+
+    @Override
+    public void setModelConverters(ModelConverters modelConverters) {
+        this.modelConverters = modelConverters == null ? ModelConverters.getInstance() : modelConverters;
+    }
+
+    /**
+     * Whether to load the declaring classes of the operations whose parameter, request body or response types are
+     * not simple, to resolve their schemas by reflection; when off, such schemas are left out. Defaults to true.
+     */
+    public ClassInfoReader resolveSchemas(boolean resolveSchemas) {
+        this.resolveSchemas = resolveSchemas;
+        return this;
+    }
+
+    @Override
+    public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+        // external classes: the interfaces and HTTP method annotations used by the resources may lie outside of the
+        // resource classes and packages
+        ClassGraph graph = new ClassGraph()
+                .enableClassInfo()
+                .enableMethodInfo()
+                .enableAnnotationInfo()
+                .enableExternalClasses()
+                .ignoreClassVisibility()
+                .blacklistPackages(IgnoredPackages.ignored.toArray(new String[0]));
+        Set<String> classNames = new LinkedHashSet<>();
+        if (classes != null) {
+            for (Class<?> cls : classes) {
+                classNames.add(cls.getName());
+            }
+        }
+        if (config != null && config.getResourceClasses() != null) {
+            classNames.addAll(config.getResourceClasses());
+        }
+        if (!classNames.isEmpty()) {
+            graph.whitelistClasses(classNames.toArray(new String[0]));
+        } else if (config != null && config.getResourcePackages() != null && !config.getResourcePackages().isEmpty()) {
+            graph.whitelistPackages(config.getResourcePackages().toArray(new String[0]));
+        }
+        try (ScanResult scanResult = graph.scan()) {
+            List<ClassInfo> classInfos = new ArrayList<>();
+            for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(OPENAPI_DEFINITION)) {
+                if (!classInfo.isExternalClass()) {
+                    classInfos.add(classInfo);
+                }
+            }
+            for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(PATH)) {
+                if (!classInfo.isExternalClass() && !classInfos.contains(classInfo)) {
+                    classInfos.add(classInfo);
+                }
+            }
+            return read(classInfos);
+        }
+    }
+
+    /**
+     * Reads the given classes, which must come from a scan enabling class, method and annotation info.
+     */
+    public OpenAPI read(Collection<ClassInfo> classInfos) {
+        openAPI = config != null && config.getOpenAPI() != null ? ContextUtils.deepCopy(config).getOpenAPI() : new OpenAPI();
+        components = openAPI.getComponents() != null ? openAPI.getComponents() : new Components();
+        openApiTags = new LinkedHashMap<>();
+        operationIds = new OperationIdIndex();
+        if (openAPI.getTags() != null) {
+            for (Tag tag : openAPI.getTags()) {
+                openApiTags.put(tag.getName(), tag);
+            }
+        }
+        if (openAPI.getPaths() == null) {
+            openAPI.setPaths(new Paths());
+        }
+
+        for (ClassInfo classInfo : classInfos) {
+            readDefinition(classInfo);
+        }
+        for (ClassInfo classInfo : classInfos) {
+            if (classInfo.getAnnotationInfo(PATH) != null && classInfo.getAnnotationInfo(HIDDEN) == null) {
+                readClass(classInfo);
+            }
+        }
+
+        if (!openApiTags.isEmpty()) {
+            openAPI.setTags(new ArrayList<>(openApiTags.values()));
+        }
+        if (openAPI.getComponents() != null || components.getSchemas() != null && !components.getSchemas().isEmpty()) {
+            openAPI.setComponents(components);
+        }
+        return openAPI;
+    }
+
+    private void readDefinition(ClassInfo classInfo) {
+        AnnotationInfo definition = classInfo.getAnnotationInfo(OPENAPI_DEFINITION);
+        AnnotationInfo info = definition == null ? null : annotationValue(definition, "info");
+        if (info == null || openAPI.getInfo() != null) {
+            return;
+        }
+        openAPI.setInfo(new Info()
+                .title(stringValue(info, "title"))
+                .version(stringValue(info, "version"))
+                .description(stringValue(info, "description"))
+                .termsOfService(stringValue(info, "termsOfService")));
+        for (AnnotationInfo tag : annotationsValue(definition, "tags")) {
+            addOpenApiTag(tag);
+        }
+    }
+
+    private void readClass(ClassInfo classInfo) {
+        String classPath = stringValue(classInfo.getAnnotationInfo(PATH), "value");
+        List<String> classProduces = stringsValue(classInfo.getAnnotationInfo(PRODUCES), "value");
+        List<String> classConsumes = stringsValue(classInfo.getAnnotationInfo(CONSUMES), "value");
+        Set<String> classTags = new LinkedHashSet<>();
+        for (AnnotationInfo tag : repeatable(classInfo.getAnnotationInfo(TAG), classInfo.getAnnotationInfo(TAGS))) {
+            classTags.add(addOpenApiTag(tag));
+        }
+
+        for (MethodInfo methodInfo : publicMethods(classInfo)) {
+            MethodInfo annotated = findAnnotatedMethod(classInfo, methodInfo);
+            String httpMethod = httpMethod(annotated);
+            if (httpMethod == null || annotated.getAnnotationInfo(HIDDEN) != null) {
+                continue;
+            }
+            AnnotationInfo apiOperation = annotated.getAnnotationInfo(OPERATION);
+            if (apiOperation != null && booleanValue(apiOperation, "hidden")) {
+                continue;
+            }
+            if (config != null && !Boolean.TRUE.equals(config.isReadAllResources()) && apiOperation == null) {
+                continue;
+            }
+            String operationPath = ReaderUtils.getPath(classPath, stringValue(annotated.getAnnotationInfo(PATH), "value"), null, false);
+            operationPath = PathUtils.parsePath(operationPath, new LinkedHashMap<>());
+            if (operationPath == null || config != null && ReaderUtils.isIgnored(operationPath, config)) {
+                continue;
+            }
+            PathItem.HttpMethod pathItemMethod;
+            try {
+                pathItemMethod = PathItem.HttpMethod.valueOf(httpMethod.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                LOGGER.debug("skipping {} with unsupported http method {}", methodInfo, httpMethod);
+                continue;
+            }
+
+            List<String> produces = stringsValue(annotated.getAnnotationInfo(PRODUCES), "value");
+            List<String> consumes = stringsValue(annotated.getAnnotationInfo(CONSUMES), "value");
+            Operation operation = readOperation(methodInfo, annotated, apiOperation, classTags,
+                    produces.isEmpty() ? classProduces : produces, consumes.isEmpty() ? classConsumes : consumes);
+
+            Paths paths = openAPI.getPaths();
+            PathItem pathItem = paths.get(operationPath);
+            if (pathItem == null) {
+                pathItem = new PathItem();
+            }
+            operationIds.beforeUpdate(paths, operationPath, pathItem);
+            pathItem.operation(pathItemMethod, operation);
+            paths.addPathItem(operationPath, pathItem);
+            operationIds.afterUpdate(paths, pathItem);
+        }
+    }
+
+    private Operation readOperation(MethodInfo methodInfo, MethodInfo annotated, AnnotationInfo apiOperation,
+                                    Set<String> classTags, List<String> produces, List<String> consumes) {
+        Operation operation = new Operation();
+        String operationId = apiOperation == null ? null : stringValue(apiOperation, "operationId");
+        operation.setOperationId(operationIds.getUniqueOperationId(openAPI.getPaths(),
+                StringUtils.isBlank(operationId) ? methodInfo.getName() : operationId));
+        if (apiOperation != null) {
+            operation.setSummary(StringUtils.defaultIfBlank(stringValue(apiOperation, "summary"), null));
+            operation.setDescription(StringUtils.defaultIfBlank(stringValue(apiOperation, "description"), null));
+            if (booleanValue(apiOperation, "deprecated")) {
+                operation.setDeprecated(true);
+            }
+        }
+        if (annotated.getAnnotationInfo(Deprecated.class.getName()) != null) {
+            operation.setDeprecated(true);
+        }
+
+        Set<String> tags = new LinkedHashSet<>(classTags);
+        for (AnnotationInfo tag : repeatable(annotated.getAnnotationInfo(TAG), annotated.getAnnotationInfo(TAGS))) {
+            tags.add(addOpenApiTag(tag));
+        }
+        if (apiOperation != null) {
+            tags.addAll(stringsValue(apiOperation, "tags"));
+        }
+        tags.remove("");
+        if (!tags.isEmpty()) {
+            operation.setTags(new ArrayList<>(tags));
+        }
+
+        MethodParameterInfo[] parameterInfos = annotated.getParameterInfo();
+        for (int i = 0; i < parameterInfos.length; i++) {
+            readParameter(methodInfo, i, parameterInfos[i], operation, consumes);
+        }
+
+        ApiResponses responses = new ApiResponses();
+        List<AnnotationInfo> apiResponses = new ArrayList<>();
+        if (apiOperation != null) {
+            apiResponses.addAll(annotationsValue(apiOperation, "responses"));
+        }
+        apiResponses.addAll(repeatable(annotated.getAnnotationInfo(API_RESPONSE), annotated.getAnnotationInfo(API_RESPONSES)));
+        for (AnnotationInfo apiResponse : apiResponses) {
+            String responseCode = StringUtils.defaultIfBlank(stringValue(apiResponse, "responseCode"), ApiResponses.DEFAULT);
+            responses.addApiResponse(responseCode, new ApiResponse().description(stringValue(apiResponse, "description")));
+        }
+        if (responses.isEmpty()) {
+            ApiResponse response = new ApiResponse().description(Reader.DEFAULT_DESCRIPTION);
+            TypeSignature returnType = annotated.getTypeSignatureOrTypeDescriptor().getResultType();
+            if (!isVoid(returnType) && !isJaxrsType(returnType)) {
+                Schema schema = schema(returnType, methodInfo, -1);
+                if (schema != null) {
+                    response.setContent(content(schema, produces));
+                }
+            }
+            responses.setDefault(response);
+        }
+        operation.setResponses(responses);
+        return operation;
+    }
+
+    private void readParameter(MethodInfo methodInfo, int index, MethodParameterInfo parameterInfo, Operation operation,
+                               List<String> consumes) {
+        for (Map.Entry<String, String> location : PARAMETER_LOCATIONS.entrySet()) {
+            AnnotationInfo param = parameterInfo.getAnnotationInfo(location.getKey());
+            if (param == null) {
+                continue;
+            }
+            Parameter parameter = new Parameter()
+                    .name(stringValue(param, "value"))
+                    .in(location.getValue());
+            AnnotationInfo apiParameter = parameterInfo.getAnnotationInfo(PARAMETER);
+            if (apiParameter != null) {
+                if (booleanValue(apiParameter, "hidden")) {
+                    return;
+                }
+                parameter.setDescription(StringUtils.defaultIfBlank(stringValue(apiParameter, "description"), null));
+                if (booleanValue(apiParameter, "required")) {
+                    parameter.setRequired(true);
+                }
+            }
+            if ("path".equals(location.getValue())) {
+                parameter.setRequired(true);
+            }
+            parameter.setSchema(schema(parameterInfo.getTypeSignatureOrTypeDescriptor(), methodInfo, index));
+            operation.addParametersItem(parameter);
+            return;
+        }
+        for (String notBody : NOT_BODY) {
+            if (parameterInfo.getAnnotationInfo(notBody) != null) {
+                return;
+            }
+        }
+        if (operation.getRequestBody() == null) {
+            Schema schema = schema(parameterInfo.getTypeSignatureOrTypeDescriptor(), methodInfo, index);
+            if (schema != null) {
+                operation.setRequestBody(new RequestBody().content(content(schema, consumes)));
+            }
+        }
+    }
+
+    /**
+     * Schema of the given parameter (or of the return type if the index is negative) of the given method, without
+     * loading it for simple types.
+     */
+    private Schema schema(TypeSignature type, MethodInfo methodInfo, int index) {
+        Class<?> simple = simpleType(type);
+        if (simple != null) {
+            Schema schema = PrimitiveType.createProperty(simple);
+            if (schema != null) {
+                return schema;
+            }
+        }
+        if (!resolveSchemas) {
+            return null;
+        }
+        Method method;
+        try {
+            method = methodInfo.loadClassAndGetMethod();
+        } catch (IllegalArgumentException | LinkageError e) {
+            LOGGER.warn("cannot load " + methodInfo + " to resolve its types: " + e.getMessage());
+            return null;
+        }
+        Type genericType = index < 0 ? method.getGenericReturnType() : method.getGenericParameterTypes()[index];
+        ResolvedSchema resolved = modelConverters.resolveAsResolvedSchema(new AnnotatedType(genericType).resolveAsRef(true));
+        if (resolved == null) {
+            return null;
+        }
+        if (resolved.referencedSchemas != null) {
+            for (Map.Entry<String, Schema> entry : resolved.referencedSchemas.entrySet()) {
+                components.addSchemas(entry.getKey(), entry.getValue());
+            }
+        }
+        return resolved.schema;
+    }
+
+    /**
+     * @return the class of the given type if it is a primitive or a non generic JDK class, which are loaded anyway
+     */
+    private static Class<?> simpleType(TypeSignature type) {
+        if (type instanceof BaseTypeSignature) {
+            return ((BaseTypeSignature) type).getType();
+        }
+        if (type instanceof ClassRefTypeSignature) {
+            ClassRefTypeSignature ref = (ClassRefTypeSignature) type;
+            String name = ref.getFullyQualifiedClassName();
+            if (name.startsWith("java.") && ref.getTypeArguments().isEmpty() && ref.getSuffixes().isEmpty()) {
+                try {
+                    return Class.forName(name, false, ClassInfoReader.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isVoid(TypeSignature type) {
+        return type instanceof BaseTypeSignature && "void".equals(((BaseTypeSignature) type).getTypeStr());
+    }
+
+    private static boolean isJaxrsType(TypeSignature type) {
+        return type instanceof ClassRefTypeSignature
+                && ((ClassRefTypeSignature) type).getFullyQualifiedClassName().startsWith("javax.ws.rs.");
+    }
+
+    private static Content content(Schema schema, List<String> mediaTypes) {
+        Content content = new Content();
+        for (String mediaType : mediaTypes.isEmpty() ? Collections.singletonList(Reader.DEFAULT_MEDIA_TYPE_VALUE) : mediaTypes) {
+            content.addMediaType(mediaType, new MediaType().schema(schema));
+        }
+        return content;
+    }
+
+    private String addOpenApiTag(AnnotationInfo tag) {
+        String name = stringValue(tag, "name");
+        String description = StringUtils.defaultIfBlank(stringValue(tag, "description"), null);
+        if (StringUtils.isNotBlank(name) && description != null && !openApiTags.containsKey(name)) {
+            openApiTags.put(name, new Tag().name(name).description(description));
+        }
+        return name == null ? "" : name;
+    }
+
+    /**
+     * @return the public instance methods of the given class and its superclasses, overriding ones only
+     */
+    private static List<MethodInfo> publicMethods(ClassInfo classInfo) {
+        List<MethodInfo> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        hierarchy.add(classInfo);
+        hierarchy.addAll(classInfo.getSuperclasses());
+        for (ClassInfo cls : hierarchy) {
+            for (MethodInfo methodInfo : cls.getDeclaredMethodInfo()) {
+                if (methodInfo.isPublic() && !methodInfo.isStatic() && !methodInfo.isBridge()
+                        && seen.add(methodKey(methodInfo))) {
+                    methods.add(methodInfo);
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * @return the given method if annotated with an HTTP method, otherwise the one it implements from an interface if
+     * that one is annotated, otherwise the given method
+     */
+    private MethodInfo findAnnotatedMethod(ClassInfo classInfo, MethodInfo methodInfo) {
+        if (httpMethod(methodInfo) != null) {
+            return methodInfo;
+        }
+        String key = methodKey(methodInfo);
+        for (ClassInfo iface : classInfo.getInterfaces()) {
+            for (MethodInfo candidate : iface.getDeclaredMethodInfo(methodInfo.getName())) {
+                if (key.equals(methodKey(candidate)) && httpMethod(candidate) != null) {
+                    return candidate;
+                }
+            }
+        }
+        return methodInfo;
+    }
+
+    private static String methodKey(MethodInfo methodInfo) {
+        return methodInfo.getName() + methodInfo.getTypeDescriptor();
+    }
+
+    private String httpMethod(MethodInfo methodInfo) {
+        for (AnnotationInfo annotation : methodInfo.getAnnotationInfo()) {
+            String method = HTTP_METHODS.get(annotation.getName());
+            if (method == null) {
+                method = customHttpMethods.computeIfAbsent(annotation.getName(), name -> customHttpMethod(annotation));
+            }
+            if (!method.isEmpty()) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the HTTP method of the given annotation if it is annotated with {@link HttpMethod}, empty
+     * otherwise; annotations not scanned, e.g. of ignored packages, are loaded to find out
+     */
+    private static String customHttpMethod(AnnotationInfo annotation) {
+        ClassInfo annotationClass = annotation.getClassInfo();
+        if (annotationClass != null) {
+            AnnotationInfo httpMethod = annotationClass.getAnnotationInfo(HTTP_METHOD);
+            return httpMethod == null ? "" : StringUtils.defaultString(StringUtils.lowerCase(stringValue(httpMethod, "value")));
+        }
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            Class<?> cls = Class.forName(annotation.getName(), false, classLoader != null ? classLoader : ClassInfoReader.class.getClassLoader());
+            HttpMethod httpMethod = cls.getAnnotation(HttpMethod.class);
+            return httpMethod == null ? "" : httpMethod.value().toLowerCase();
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.debug("cannot load annotation {}: {}", annotation.getName(), e.getMessage());
+            return "";
+        }
+    }
+
+    private static List<AnnotationInfo> repeatable(AnnotationInfo single, AnnotationInfo container) {
+        List<AnnotationInfo> annotations = new ArrayList<>();
+        if (single != null) {
+            annotations.add(single);
+        }
+        if (container != null) {
+            annotations.addAll(annotationsValue(container, "value"));
+        }
+        return annotations;
+    }
+
+    private static Object value(AnnotationInfo annotation, String name) {
+        return annotation == null ? null : annotation.getParameterValues().get(name);
+    }
+
+    private static String stringValue(AnnotationInfo annotation, String name) {
+        Object value = value(annotation, name);
+        return value instanceof String ? (String) value : null;
+    }
+
+    private static boolean booleanValue(AnnotationInfo annotation, String name) {
+        return Boolean.TRUE.equals(value(annotation, name));
+    }
+
+    private static List<String> stringsValue(AnnotationInfo annotation, String name) {
+        List<String> values = new ArrayList<>();
+        Object value = value(annotation, name);
+        if (value instanceof Object[]) {
+            for (Object item : (Object[]) value) {
+                if (item instanceof String) {
+                    values.add((String) item);
+                }
+            }
+        } else if (value instanceof String) {
+            values.add((String) value);
+        }
+        return values;
+    }
+
+    private static AnnotationInfo annotationValue(AnnotationInfo annotation, String name) {
+        Object value = value(annotation, name);
+        return value instanceof AnnotationInfo ? (AnnotationInfo) value : null;
+    }
+
+    private static List<AnnotationInfo> annotationsValue(AnnotationInfo annotation, String name) {
+        List<AnnotationInfo> values = new ArrayList<>();
+        Object value = value(annotation, name);
+        if (value instanceof Object[]) {
+            for (Object item : (Object[]) value) {
+                if (item instanceof AnnotationInfo) {
+                    values.add((AnnotationInfo) item);
+                }
+            }
+        } else if (value instanceof AnnotationInfo) {
+            values.add((AnnotationInfo) value);
+        }
+        return values;
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.jaxrs2.ext.AbstractOpenAPIExtension;
@@ -48,6 +49,20 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                                                boolean includeRequestBody,
                                                JsonView jsonViewAnnotation,
                                                Iterator<OpenAPIExtension> chain) {
+        return extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, ModelConverters.getInstance(), chain);
+    }
+
+    @Override
+    public ResolvedParameter extractParameters(List<Annotation> annotations,
+                                               Type type,
+                                               Set<Type> typesToSkip,
+                                               Components components,
+                                               javax.ws.rs.Consumes classConsumes,
+                                               javax.ws.rs.Consumes methodConsumes,
+                                               boolean includeRequestBody,
+                                               JsonView jsonViewAnnotation,
+                                               ModelConverters modelConverters,
+                                               Iterator<OpenAPIExtension> chain) {
         if (shouldIgnoreType(type, typesToSkip)) {
             return new ResolvedParameter();
         }
@@ -99,7 +114,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
             } else {
                 List<Parameter> formParameters = new ArrayList<>();
                 List<Parameter> parameters = new ArrayList<>();
-                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, classConsumes, methodConsumes, components, includeRequestBody, jsonViewAnnotation)) {
+                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, classConsumes, methodConsumes, components, includeRequestBody, jsonViewAnnotation, modelConverters)) {
                     ResolvedParameter extractParametersResult = new ResolvedParameter();
                     extractParametersResult.parameters.addAll(parameters);
                     extractParametersResult.formParameters.addAll(formParameters);
@@ -119,7 +134,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     annotations,
                     components,
                     classConsumes == null ? new String[0] : classConsumes.value(),
-                    methodConsumes == null ? new String[0] : methodConsumes.value(), jsonViewAnnotation);
+                    methodConsumes == null ? new String[0] : methodConsumes.value(), jsonViewAnnotation, modelConverters);
             if (unknownParameter != null) {
                 if (StringUtils.isNotBlank(unknownParameter.getIn()) && !"form".equals(unknownParameter.getIn())) {
                     extractParametersResult.parameters.add(unknownParameter);
@@ -139,7 +154,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                     components,
                     classConsumes == null ? new String[0] : classConsumes.value(),
                     methodConsumes == null ? new String[0] : methodConsumes.value(),
-                    jsonViewAnnotation);
+                    jsonViewAnnotation,
+                    modelConverters);
             if (processedParameter != null) {
                 extractParametersResult.parameters.add(processedParameter);
             }
@@ -158,7 +174,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
 
     private boolean handleAdditionalAnnotation(List<Parameter> parameters, List<Parameter> formParameters, Annotation annotation,
                                                final Type type, Set<Type> typesToSkip, javax.ws.rs.Consumes classConsumes,
-                                               javax.ws.rs.Consumes methodConsumes, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+                                               javax.ws.rs.Consumes methodConsumes, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation,
+                                               ModelConverters modelConverters) {
         boolean processed = false;
         if (BeanParam.class.isAssignableFrom(annotation.getClass())) {
             // Use Jackson's logic for processing Beans
@@ -227,6 +244,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                         methodConsumes,
                         includeRequestBody,
                         jsonViewAnnotation,
+                        modelConverters,
                         extensions);
 
                 List<Parameter> extractedParameters =
@@ -240,7 +258,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                             components,
                             classConsumes == null ? new String[0] : classConsumes.value(),
                             methodConsumes == null ? new String[0] : methodConsumes.value(),
-                            jsonViewAnnotation);
+                            jsonViewAnnotation,
+                            modelConverters);
                     if (processedParam != null) {
                         parameters.add(processedParam);
                     }
@@ -257,7 +276,8 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                             components,
                             classConsumes == null ? new String[0] : classConsumes.value(),
                             methodConsumes == null ? new String[0] : methodConsumes.value(),
-                            jsonViewAnnotation);
+                            jsonViewAnnotation,
+                            modelConverters);
                     if (processedParam != null) {
                         formParameters.add(processedParam);
                     }
@@ -1,6 +1,7 @@
 package io.swagger.v3.jaxrs2;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.links.Link;
@@ -19,6 +20,13 @@ public class OperationParser {
     public static final String COMPONENTS_REF = "#/components/schemas/";
 
     public static Optional<RequestBody> getRequestBody(io.swagger.v3.oas.annotations.parameters.RequestBody requestBody, Consumes classConsumes, Consumes methodConsumes, Components components, JsonView jsonViewAnnotation) {
+        return getRequestBody(requestBody, classConsumes, methodConsumes, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<RequestBody> getRequestBody(io.swagger.v3.oas.annotations.parameters.RequestBody requestBody, Consumes classConsumes, Consumes methodConsumes, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (requestBody == null) {
             return Optional.empty();
         }
@@ -56,11 +64,18 @@ public class OperationParser {
             return Optional.empty();
         }
         AnnotationsUtils.getContent(requestBody.content(), classConsumes == null ? new String[0] : classConsumes.value(),
-                methodConsumes == null ? new String[0] : methodConsumes.value(), null, components, jsonViewAnnotation).ifPresent(requestBodyObject::setContent);
+                methodConsumes == null ? new String[0] : methodConsumes.value(), null, components, jsonViewAnnotation, modelConverters).ifPresent(requestBodyObject::setContent);
         return Optional.of(requestBodyObject);
     }
 
     public static Optional<ApiResponses> getApiResponses(final io.swagger.v3.oas.annotations.responses.ApiResponse[] responses, Produces classProduces, Produces methodProduces, Components components, JsonView jsonViewAnnotation) {
+        return getApiResponses(responses, classProduces, methodProduces, components, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public static Optional<ApiResponses> getApiResponses(final io.swagger.v3.oas.annotations.responses.ApiResponse[] responses, Produces classProduces, Produces methodProduces, Components components, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (responses == null) {
             return Optional.empty();
         }
@@ -89,8 +104,8 @@ public class OperationParser {
             }
 
             AnnotationsUtils.getContent(response.content(), classProduces == null ? new String[0] : classProduces.value(),
-                    methodProduces == null ? new String[0] : methodProduces.value(), null, components, jsonViewAnnotation).ifPresent(apiResponseObject::content);
-            AnnotationsUtils.getHeaders(response.headers(), jsonViewAnnotation).ifPresent(apiResponseObject::headers);
+                    methodProduces == null ? new String[0] : methodProduces.value(), null, components, jsonViewAnnotation, modelConverters).ifPresent(apiResponseObject::content);
+            AnnotationsUtils.getHeaders(response.headers(), jsonViewAnnotation, modelConverters).ifPresent(apiResponseObject::headers);
             if (StringUtils.isNotBlank(apiResponseObject.getDescription()) || apiResponseObject.getContent() != null || apiResponseObject.getHeaders() != null) {
 
                 Map<String, Link> links = AnnotationsUtils.getLinks(response.links());
@@ -11,9 +11,11 @@ import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.OperationIdIndex;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.PathUtils;
 import io.swagger.v3.core.util.ReflectionUtils;
+import io.swagger.v3.core.util.SharedExecutor;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
 import io.swagger.v3.jaxrs2.util.ReaderUtils;
@@ -60,6 +62,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -68,6 +71,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Reader implements OpenApiReader {
     private static final Logger LOGGER = LoggerFactory.getLogger(Reader.class);
@@ -82,6 +90,13 @@ public class Reader implements OpenApiReader {
     private Components components;
     private Paths paths;
     private Set<Tag> openApiTags;
+    private final OperationIdIndex operationIds = new OperationIdIndex();
+    /**
+     * Operations read by a partial reader of a parallel pass, added to the paths when merging; null otherwise.
+     */
+    private List<PendingOperation> pendingOperations;
+    private Executor executor;
+    private ModelConverters modelConverters = ModelConverters.getInstance();
 
     private static final String GET_METHOD = "get";
     private static final String POST_METHOD = "post";
@@ -114,6 +129,21 @@ public class Reader implements OpenApiReader {
         return openAPI;
     }
 
+    /**
+     * Executor running the partial reads of a parallel pass, see readerParallelism; not shut down by the reader.
+     * Defaults to the {@link SharedExecutor}; reads it cannot take run on the calling thread.
+     *
+     * @since 2.0.11
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void setModelConverters(ModelConverters modelConverters) {
+        this.modelConverters = modelConverters == null ? ModelConverters.getInstance() : modelConverters;
+    }
+
     /**
      * Scans a single class for Swagger annotations - does not invoke ReaderListeners
      */
@@ -165,8 +195,17 @@ public class Reader implements OpenApiReader {
             }
         }
 
-        for (Class<?> cls : sortedClasses) {
-            read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        // share resolved types across all operations of this pass
+        modelConverters.beginResolutionScope();
+        try {
+            int parallelism = config == null || config.getReaderParallelism() == null ? 1 : config.getReaderParallelism();
+            if (parallelism < 2 || sortedClasses.size() < 2 || !readInParallel(sortedClasses, parallelism)) {
+                for (Class<?> cls : sortedClasses) {
+                    read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+                }
+            }
+        } finally {
+            modelConverters.endResolutionScope();
         }
 
         for (ReaderListener listener : listeners.values()) {
@@ -179,6 +218,194 @@ public class Reader implements OpenApiReader {
         return openAPI;
     }
 
+    /**
+     * Reads each class with its own partial reader, then merges the partial results in the order of the classes, so
+     * that the result is the same as reading them one at a time: later definitions win and duplicate operation ids
+     * are suffixed in the same order.
+     *
+     * @return false if no partial reader could be created, in which case nothing has been read
+     */
+    private boolean readInParallel(Set<Class<?>> sortedClasses, int parallelism) {
+        final String applicationPath = resolveApplicationPath();
+        final List<Reader> partials = new ArrayList<>();
+        for (int i = 0; i < sortedClasses.size(); i++) {
+            Reader partial = newPartialReader();
+            if (partial == null) {
+                LOGGER.debug("No partial reader of type {}, reading classes sequentially", getClass().getName());
+                return false;
+            }
+            partial.application = application;
+            partial.modelConverters = modelConverters;
+            partial.pendingOperations = new ArrayList<>();
+            partials.add(partial);
+        }
+
+        final List<Class<?>> classes = new ArrayList<>(sortedClasses);
+        final AtomicInteger next = new AtomicInteger();
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final Executor pool = executor != null ? executor : SharedExecutor.getInstance();
+        // at most parallelism tasks, each reading the classes not taken yet by the others
+        final List<FutureTask<Void>> results = new ArrayList<>();
+        for (int t = 0; t < Math.min(parallelism, classes.size()); t++) {
+            FutureTask<Void> result = new FutureTask<>(() -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader previousClassLoader = thread.getContextClassLoader();
+                thread.setContextClassLoader(contextClassLoader);
+                try {
+                    for (int i = next.getAndIncrement(); i < classes.size(); i = next.getAndIncrement()) {
+                        modelConverters.beginResolutionScope();
+                        try {
+                            partials.get(i).read(classes.get(i), applicationPath, null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+                        } finally {
+                            modelConverters.endResolutionScope();
+                        }
+                    }
+                } catch (RuntimeException | Error e) {
+                    // stop the other tasks from taking more classes
+                    next.set(classes.size());
+                    throw e;
+                } finally {
+                    thread.setContextClassLoader(previousClassLoader);
+                }
+                return null;
+            });
+            results.add(result);
+            if (t > 0) {
+                try {
+                    pool.execute(result);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("reading task {} on the calling thread", t);
+                }
+            }
+        }
+        // run the tasks not started yet on this thread, running tasks are left alone
+        for (FutureTask<Void> result : results) {
+            result.run();
+        }
+
+        Throwable failure = null;
+        boolean interrupted = false;
+        // wait for all of the tasks, so that none is still reading once this returns or throws
+        for (FutureTask<Void> result : results) {
+            while (true) {
+                try {
+                    result.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+
+        for (Reader partial : partials) {
+            merge(partial);
+        }
+        return true;
+    }
+
+    /**
+     * Creates the reader of one class of a parallel pass, its result being merged into this reader. Returns a plain
+     * reader sharing the configuration of this one; subclasses get null, and so read their classes sequentially, unless
+     * they override this method to carry their own state over to the partial readers.
+     *
+     * @return the partial reader, null to read the classes sequentially
+     * @since 2.0.11
+     */
+    protected Reader newPartialReader() {
+        if (getClass() != Reader.class) {
+            return null;
+        }
+        Reader partial = new Reader();
+        partial.config = config;
+        return partial;
+    }
+
+    private void merge(Reader partial) {
+        OpenAPI partialOpenAPI = partial.openAPI;
+        if (partialOpenAPI.getInfo() != null) {
+            openAPI.setInfo(partialOpenAPI.getInfo());
+        }
+        if (partialOpenAPI.getSecurity() != null) {
+            openAPI.setSecurity(partialOpenAPI.getSecurity());
+        }
+        if (partialOpenAPI.getExternalDocs() != null) {
+            openAPI.setExternalDocs(partialOpenAPI.getExternalDocs());
+        }
+        if (partialOpenAPI.getServers() != null) {
+            openAPI.setServers(partialOpenAPI.getServers());
+        }
+        if (partialOpenAPI.getExtensions() != null) {
+            openAPI.setExtensions(partialOpenAPI.getExtensions());
+        }
+
+        Components partialComponents = partial.components;
+        if (partialComponents.getSchemas() != null) {
+            partialComponents.getSchemas().forEach((key, schema) -> components.addSchemas(key, schema));
+        }
+        if (partialComponents.getSecuritySchemes() != null) {
+            if (components.getSecuritySchemes() != null && components.getSecuritySchemes().size() != 0) {
+                components.getSecuritySchemes().putAll(partialComponents.getSecuritySchemes());
+            } else {
+                components.setSecuritySchemes(partialComponents.getSecuritySchemes());
+            }
+        }
+        if (partialComponents.getResponses() != null) {
+            partialComponents.getResponses().forEach((key, response) -> components.addResponses(key, response));
+        }
+        if (partialComponents.getParameters() != null) {
+            partialComponents.getParameters().forEach((key, parameter) -> components.addParameters(key, parameter));
+        }
+        if (partialComponents.getExamples() != null) {
+            partialComponents.getExamples().forEach((key, example) -> components.addExamples(key, example));
+        }
+        if (partialComponents.getRequestBodies() != null) {
+            partialComponents.getRequestBodies().forEach((key, requestBody) -> components.addRequestBodies(key, requestBody));
+        }
+        if (partialComponents.getHeaders() != null) {
+            partialComponents.getHeaders().forEach((key, header) -> components.addHeaders(key, header));
+        }
+        if (partialComponents.getLinks() != null) {
+            partialComponents.getLinks().forEach((key, link) -> components.addLinks(key, link));
+        }
+        if (partialComponents.getCallbacks() != null) {
+            partialComponents.getCallbacks().forEach((key, callback) -> components.addCallbacks(key, callback));
+        }
+        if (!isEmptyComponents(components) && openAPI.getComponents() == null) {
+            openAPI.setComponents(components);
+        }
+
+        for (PendingOperation pending : partial.pendingOperations) {
+            Operation operation = pending.operation;
+            // callback operation ids are made unique against the paths read before, as the operation's own one
+            for (Map.Entry<Operation, String> callback : pending.callbackOperationIds.entrySet()) {
+                if (callback.getValue().equals(callback.getKey().getOperationId())) {
+                    callback.getKey().setOperationId(getOperationId(callback.getValue()));
+                }
+            }
+            if (pending.operationId != null && pending.operationId.equals(operation.getOperationId())) {
+                operation.setOperationId(getOperationId(pending.operationId));
+            }
+            addOperation(pending.path, pending.httpMethod, operation);
+        }
+
+        openApiTags.addAll(partial.openApiTags);
+        mergeTags();
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         if (openApiConfiguration != null) {
@@ -368,10 +595,10 @@ public class Reader implements OpenApiReader {
         final List<Parameter> globalParameters = new ArrayList<>();
 
         // look for constructor-level annotated properties
-        globalParameters.addAll(ReaderUtils.collectConstructorParameters(cls, components, classConsumes, null));
+        globalParameters.addAll(ReaderUtils.collectConstructorParameters(cls, components, classConsumes, null, modelConverters));
 
         // look for field-level annotated properties
-        globalParameters.addAll(ReaderUtils.collectFieldParameters(cls, components, classConsumes, null));
+        globalParameters.addAll(ReaderUtils.collectFieldParameters(cls, components, classConsumes, null, modelConverters));
 
         // iterate class methods
         Method methods[] = cls.getMethods();
@@ -465,6 +692,8 @@ public class Reader implements OpenApiReader {
                         classResponses,
                         annotatedMethod);
                 if (operation != null) {
+                    final String parsedOperationId = operation.getOperationId();
+                    final Map<Operation, String> parsedCallbackOperationIds = pendingOperations == null ? null : getCallbackOperationIds(operation);
 
                     List<Parameter> operationParameters = new ArrayList<>();
                     List<Parameter> formParameters = new ArrayList<>();
@@ -580,25 +809,14 @@ public class Reader implements OpenApiReader {
                         extension.decorateOperation(operation, method, chain);
                     }
 
-                    PathItem pathItemObject;
-                    if (openAPI.getPaths() != null && openAPI.getPaths().get(operationPath) != null) {
-                        pathItemObject = openAPI.getPaths().get(operationPath);
-                    } else {
-                        pathItemObject = new PathItem();
-                    }
-
                     if (StringUtils.isBlank(httpMethod)) {
                         continue;
                     }
-                    setPathItemOperation(pathItemObject, httpMethod, operation);
-
-                    paths.addPathItem(operationPath, pathItemObject);
-                    if (openAPI.getPaths() != null) {
-                        this.paths.putAll(openAPI.getPaths());
+                    if (pendingOperations != null) {
+                        pendingOperations.add(new PendingOperation(operationPath, httpMethod, operation, parsedOperationId, parsedCallbackOperationIds));
+                    } else {
+                        addOperation(operationPath, httpMethod, operation);
                     }
-
-                    openAPI.setPaths(this.paths);
-
                 }
             }
         }
@@ -612,6 +830,31 @@ public class Reader implements OpenApiReader {
         AnnotationsUtils
                 .getTags(apiTags, true).ifPresent(tags -> openApiTags.addAll(tags));
 
+        mergeTags();
+
+        return openAPI;
+    }
+
+    private void addOperation(String operationPath, String httpMethod, Operation operation) {
+        PathItem pathItemObject;
+        if (openAPI.getPaths() != null && openAPI.getPaths().get(operationPath) != null) {
+            pathItemObject = openAPI.getPaths().get(operationPath);
+        } else {
+            pathItemObject = new PathItem();
+        }
+        operationIds.beforeUpdate(openAPI.getPaths(), operationPath, pathItemObject);
+        setPathItemOperation(pathItemObject, httpMethod, operation);
+
+        paths.addPathItem(operationPath, pathItemObject);
+        if (openAPI.getPaths() != null) {
+            this.paths.putAll(openAPI.getPaths());
+        }
+
+        openAPI.setPaths(this.paths);
+        operationIds.afterUpdate(openAPI.getPaths(), pathItemObject);
+    }
+
+    private void mergeTags() {
         if (!openApiTags.isEmpty()) {
             Set<Tag> tagsSet = new LinkedHashSet<>();
             if (openAPI.getTags() != null) {
@@ -628,8 +871,6 @@ public class Reader implements OpenApiReader {
             }
             openAPI.setTags(new ArrayList<>(tagsSet));
         }
-
-        return openAPI;
     }
 
     protected Content processContent(Content content, Schema schema, Consumes methodConsumes, Consumes classConsumes) {
@@ -658,7 +899,7 @@ public class Reader implements OpenApiReader {
 
         io.swagger.v3.oas.annotations.parameters.RequestBody requestBodyAnnotation = getRequestBody(Arrays.asList(paramAnnotations));
         if (requestBodyAnnotation != null) {
-            Optional<RequestBody> optionalRequestBody = OperationParser.getRequestBody(requestBodyAnnotation, classConsumes, methodConsumes, components, jsonViewAnnotation);
+            Optional<RequestBody> optionalRequestBody = OperationParser.getRequestBody(requestBodyAnnotation, classConsumes, methodConsumes, components, jsonViewAnnotation, modelConverters);
             if (optionalRequestBody.isPresent()) {
                 RequestBody requestBody = optionalRequestBody.get();
                 if (StringUtils.isBlank(requestBody.get$ref()) &&
@@ -930,7 +1171,7 @@ public class Reader implements OpenApiReader {
 
         // RequestBody in Method
         if (apiRequestBody != null && operation.getRequestBody() == null){
-            OperationParser.getRequestBody(apiRequestBody, classConsumes, methodConsumes, components, jsonViewAnnotation).ifPresent(
+            OperationParser.getRequestBody(apiRequestBody, classConsumes, methodConsumes, components, jsonViewAnnotation, modelConverters).ifPresent(
                     operation::setRequestBody);
         }
 
@@ -946,7 +1187,8 @@ public class Reader implements OpenApiReader {
                     classProduces,
                     methodProduces,
                     components,
-                    jsonViewAnnotation
+                    jsonViewAnnotation,
+                    modelConverters
             ).ifPresent(responses -> {
                 if (operation.getResponses() == null) {
                     operation.setResponses(responses);
@@ -967,7 +1209,8 @@ public class Reader implements OpenApiReader {
                     classProduces,
                     methodProduces,
                     components,
-                    jsonViewAnnotation
+                    jsonViewAnnotation,
+                    modelConverters
             ).ifPresent(responses -> {
                 if (operation.getResponses() == null) {
                     operation.setResponses(responses);
@@ -1017,7 +1260,7 @@ public class Reader implements OpenApiReader {
 
         final Class<?> subResource = getSubResourceWithJaxRsSubresourceLocatorSpecs(method);
         if (!shouldIgnoreClass(returnType.getTypeName()) && !method.getGenericReturnType().equals(subResource)) {
-            ResolvedSchema resolvedSchema = ModelConverters.getInstance().resolveAsResolvedSchema(new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation));
+            ResolvedSchema resolvedSchema = modelConverters.resolveAsResolvedSchema(new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation));
             if (resolvedSchema.schema != null) {
                 Schema returnTypeSchema = resolvedSchema.schema;
                 Content content = new Content();
@@ -1076,7 +1319,7 @@ public class Reader implements OpenApiReader {
         }
         ignore = ignore || rawClassName.startsWith("javax.ws.rs.");
         ignore = ignore || rawClassName.equalsIgnoreCase("void");
-        ignore = ignore || ModelConverters.getInstance().isRegisteredAsSkippedClass(rawClassName);
+        ignore = ignore || modelConverters.isRegisteredAsSkippedClass(rawClassName);
         return ignore;
     }
 
@@ -1181,7 +1424,7 @@ public class Reader implements OpenApiReader {
             AnnotationsUtils.getExternalDocumentation(apiOperation.externalDocs()).ifPresent(operation::setExternalDocs);
         }
 
-        OperationParser.getApiResponses(apiOperation.responses(), classProduces, methodProduces, components, jsonViewAnnotation).ifPresent(responses -> {
+        OperationParser.getApiResponses(apiOperation.responses(), classProduces, methodProduces, components, jsonViewAnnotation, modelConverters).ifPresent(responses -> {
             if (operation.getResponses() == null) {
                 operation.setResponses(responses);
             } else {
@@ -1207,7 +1450,7 @@ public class Reader implements OpenApiReader {
 
         // RequestBody in Operation
         if (apiOperation != null && apiOperation.requestBody() != null && operation.getRequestBody() == null) {
-            OperationParser.getRequestBody(apiOperation.requestBody(), classConsumes, methodConsumes, components, jsonViewAnnotation).ifPresent(
+            OperationParser.getRequestBody(apiOperation.requestBody(), classConsumes, methodConsumes, components, jsonViewAnnotation, modelConverters).ifPresent(
                     requestBodyObject -> operation.setRequestBody(requestBodyObject));
         }
 
@@ -1222,34 +1465,32 @@ public class Reader implements OpenApiReader {
         }
     }
 
-    protected String getOperationId(String operationId) {
-        boolean operationIdUsed = existOperationId(operationId);
-        String operationIdToFind = null;
-        int counter = 0;
-        while (operationIdUsed) {
-            operationIdToFind = String.format("%s_%d", operationId, ++counter);
-            operationIdUsed = existOperationId(operationIdToFind);
-        }
-        if (operationIdToFind != null) {
-            operationId = operationIdToFind;
+    /**
+     * @return the operation ids of the callback operations of the given operation, by operation
+     */
+    private static Map<Operation, String> getCallbackOperationIds(Operation operation) {
+        Map<Operation, String> operationIds = new IdentityHashMap<>();
+        if (operation.getCallbacks() == null) {
+            return operationIds;
+        }
+        for (Callback callback : operation.getCallbacks().values()) {
+            for (PathItem pathItem : callback.values()) {
+                for (Operation callbackOperation : pathItem.readOperations()) {
+                    if (callbackOperation.getOperationId() != null) {
+                        operationIds.put(callbackOperation, callbackOperation.getOperationId());
+                    }
+                }
+            }
         }
-        return operationId;
+        return operationIds;
     }
 
-    private boolean existOperationId(String operationId) {
-        if (openAPI == null) {
-            return false;
-        }
-        if (openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
-            return false;
-        }
-        for (PathItem path : openAPI.getPaths().values()) {
-            Set<String> pathOperationIds = extractOperationIdFromPathItem(path);
-            if (pathOperationIds.contains(operationId)) {
-                return true;
-            }
+    protected String getOperationId(String operationId) {
+        if (pendingOperations != null) {
+            // made unique when merged
+            return operationId;
         }
-        return false;
+        return operationIds.getUniqueOperationId(openAPI.getPaths(), operationId);
     }
 
     protected Optional<List<Parameter>> getParametersListFromAnnotation(io.swagger.v3.oas.annotations.Parameter[] parameters, Consumes classConsumes, Consumes methodConsumes, Operation operation, JsonView jsonViewAnnotation) {
@@ -1279,36 +1520,10 @@ public class Reader implements OpenApiReader {
         final OpenAPIExtension extension = chain.next();
         LOGGER.debug("trying extension {}", extension);
 
-        final ResolvedParameter extractParametersResult = extension.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, true, jsonViewAnnotation, chain);
+        final ResolvedParameter extractParametersResult = extension.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, true, jsonViewAnnotation, modelConverters, chain);
         return extractParametersResult;
     }
 
-    private Set<String> extractOperationIdFromPathItem(PathItem path) {
-        Set<String> ids = new HashSet<>();
-        if (path.getGet() != null && StringUtils.isNotBlank(path.getGet().getOperationId())) {
-            ids.add(path.getGet().getOperationId());
-        }
-        if (path.getPost() != null && StringUtils.isNotBlank(path.getPost().getOperationId())) {
-            ids.add(path.getPost().getOperationId());
-        }
-        if (path.getPut() != null && StringUtils.isNotBlank(path.getPut().getOperationId())) {
-            ids.add(path.getPut().getOperationId());
-        }
-        if (path.getDelete() != null && StringUtils.isNotBlank(path.getDelete().getOperationId())) {
-            ids.add(path.getDelete().getOperationId());
-        }
-        if (path.getOptions() != null && StringUtils.isNotBlank(path.getOptions().getOperationId())) {
-            ids.add(path.getOptions().getOperationId());
-        }
-        if (path.getHead() != null && StringUtils.isNotBlank(path.getHead().getOperationId())) {
-            ids.add(path.getHead().getOperationId());
-        }
-        if (path.getPatch() != null && StringUtils.isNotBlank(path.getPatch().getOperationId())) {
-            ids.add(path.getPatch().getOperationId());
-        }
-        return ids;
-    }
-
     private boolean isEmptyComponents(Components components) {
         if (components == null) {
             return true;
@@ -1436,4 +1651,20 @@ public class Reader implements OpenApiReader {
             return null;
         }
     }
+
+    private static class PendingOperation {
+        private final String path;
+        private final String httpMethod;
+        private final Operation operation;
+        private final String operationId;
+        private final Map<Operation, String> callbackOperationIds;
+
+        PendingOperation(String path, String httpMethod, Operation operation, String operationId, Map<Operation, String> callbackOperationIds) {
+            this.path = path;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.operationId = operationId;
+            this.callbackOperationIds = callbackOperationIds;
+        }
+    }
 }
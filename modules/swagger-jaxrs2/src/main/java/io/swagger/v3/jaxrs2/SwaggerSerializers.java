@@ -1,7 +1,6 @@
 package io.swagger.v3.jaxrs2;
 
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import javax.ws.rs.Produces;
@@ -42,28 +41,17 @@ public class SwaggerSerializers implements MessageBodyWriter<OpenAPI> {
                         MediaType mediaType,
                         MultivaluedMap<String, Object> headers,
                         OutputStream out) throws IOException {
+        // encoded straight to the entity stream rather than to an intermediate byte array
         if (mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
-            if (prettyPrint) {
-                out.write(Json.pretty().writeValueAsBytes(data));
-            } else {
-                out.write(Json.mapper().writeValueAsBytes(data));
-            }
+            SerializedOpenApi.write(data, SerializedOpenApi.TYPE_JSON, prettyPrint, out);
         } else if (mediaType.toString().startsWith("application/yaml")) {
             headers.remove("Content-Type");
             headers.add("Content-Type", "application/yaml");
-            if (prettyPrint) {
-                out.write(Yaml.pretty().writeValueAsBytes(data));
-            } else {
-                out.write(Yaml.mapper().writeValueAsBytes(data));
-            }
+            SerializedOpenApi.write(data, SerializedOpenApi.TYPE_YAML, prettyPrint, out);
         } else if (mediaType.isCompatible(MediaType.APPLICATION_XML_TYPE)) {
             headers.remove("Content-Type");
             headers.add("Content-Type", "application/json");
-            if (prettyPrint) {
-                out.write(Json.pretty().writeValueAsBytes(data));
-            } else {
-                out.write(Json.mapper().writeValueAsBytes(data));
-            }
+            SerializedOpenApi.write(data, SerializedOpenApi.TYPE_JSON, prettyPrint, out);
         }
     }
 }
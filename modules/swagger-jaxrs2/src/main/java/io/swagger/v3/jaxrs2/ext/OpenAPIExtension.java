@@ -1,6 +1,7 @@
 package io.swagger.v3.jaxrs2.ext;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.jaxrs2.ResolvedParameter;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.Operation;
@@ -19,6 +20,19 @@ public interface OpenAPIExtension {
     ResolvedParameter extractParameters(List<Annotation> annotations, Type type, Set<Type> typesToSkip, Components components,
                                         javax.ws.rs.Consumes classConsumes, javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation, Iterator<OpenAPIExtension> chain);
 
+    /**
+     * Extracts the parameters resolving their schemas with the given registry, called by the readers. Defaults to
+     * the variant without registry, which extensions predating it implement; the schemas they resolve themselves, or
+     * through the extensions they delegate to with that variant, use the global registry.
+     *
+     * @since 2.0.11
+     */
+    default ResolvedParameter extractParameters(List<Annotation> annotations, Type type, Set<Type> typesToSkip, Components components,
+                                                javax.ws.rs.Consumes classConsumes, javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation,
+                                                ModelConverters modelConverters, Iterator<OpenAPIExtension> chain) {
+        return extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain);
+    }
+
     /**
      * Decorates operation with additional vendor based extensions.
      *
@@ -0,0 +1,37 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.jaxrs2.integration.api.JaxrsOpenApiScanner;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+
+import javax.ws.rs.core.Application;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scanner returning no class, leaving the finding of the resources to a reader working from the class files, like
+ * {@link io.swagger.v3.jaxrs2.ClassInfoReader}, so that the resource classes are not loaded.
+ *
+ * @since 2.0.11
+ */
+public class DeferredJaxrsScanner implements JaxrsOpenApiScanner {
+
+    @Override
+    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+    }
+
+    @Override
+    public void setApplication(Application application) {
+    }
+
+    @Override
+    public Set<Class<?>> classes() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Map<String, Object> resources() {
+        return new HashMap<>();
+    }
+}
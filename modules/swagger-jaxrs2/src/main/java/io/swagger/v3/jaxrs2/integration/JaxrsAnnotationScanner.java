@@ -5,6 +5,8 @@ import io.github.classgraph.ScanResult;
 import io.swagger.v3.jaxrs2.integration.api.JaxrsOpenApiScanner;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.integration.IgnoredPackages;
+import io.swagger.v3.oas.integration.PackagePrefixes;
+import io.swagger.v3.oas.integration.ScanResultCache;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import org.apache.commons.lang3.StringUtils;
@@ -16,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> implements JaxrsOpenApiScanner {
 
@@ -57,7 +60,6 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             openApiConfiguration = new SwaggerConfiguration();
         }
 
-        ClassGraph graph = new ClassGraph().enableAllInfo();
         Set<String> acceptablePackages = new HashSet<String>();
         Set<Class<?>> output = new HashSet<Class<?>>();
 
@@ -80,7 +82,6 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             for (String pkg : openApiConfiguration.getResourcePackages()) {
                 if (!isIgnored(pkg)) {
                     acceptablePackages.add(pkg);
-                    graph.whitelistPackages(pkg);
                 }
             }
         } else {
@@ -89,26 +90,43 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             }
         }
         final Set<Class<?>> classes;
-        try (ScanResult scanResult = graph.scan()) {
-            classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
-            classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
+        Integer parallelism = openApiConfiguration.getScannerParallelism();
+        ScanResultCache scanResultCache = ScanResultCache.of(openApiConfiguration.getScannerCacheDirectory());
+        if (scanResultCache != null) {
+            classes = scanResultCache.classesWithAnnotations(() -> classGraph(acceptablePackages), scanKey(acceptablePackages), parallelism,
+                    javax.ws.rs.Path.class.getName(), OpenAPIDefinition.class.getName());
+        } else {
+            ClassGraph graph = classGraph(acceptablePackages);
+            try (ScanResult scanResult = parallelism != null && parallelism > 0 ? graph.scan(parallelism) : graph.scan()) {
+                classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
+                classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
+            }
         }
 
+        PackagePrefixes acceptablePrefixes = new PackagePrefixes(acceptablePackages);
         for (Class<?> cls : classes) {
-            if (allowAllPackages) {
+            if (allowAllPackages || acceptablePrefixes.matches(cls.getPackage().getName())) {
                 output.add(cls);
-            } else {
-                for (String pkg : acceptablePackages) {
-                    if (cls.getPackage().getName().startsWith(pkg)) {
-                        output.add(cls);
-                    }
-                }
             }
         }
         LOGGER.trace("classes() - output size {}", output.size());
         return output;
     }
 
+    private ClassGraph classGraph(Set<String> acceptablePackages) {
+        // class annotations are all we look for, ignored packages are not even scanned
+        return new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .blacklistPackages(ignored.toArray(new String[0]))
+                .whitelistPackages(acceptablePackages.toArray(new String[0]));
+    }
+
+    private String scanKey(Set<String> acceptablePackages) {
+        return getClass().getName() + "|" + new TreeSet<>(acceptablePackages) + "|" + new TreeSet<>(ignored);
+    }
+
     protected boolean isIgnored(String classOrPackageName) {
         if (StringUtils.isBlank(classOrPackageName)) {
             return true;
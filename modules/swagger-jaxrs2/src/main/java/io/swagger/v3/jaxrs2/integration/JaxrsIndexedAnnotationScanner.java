@@ -0,0 +1,65 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import io.swagger.v3.jaxrs2.integration.api.JaxrsOpenApiScanner;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.integration.IndexedOpenApiScanner;
+import io.swagger.v3.oas.integration.api.OpenApiScanner;
+
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link IndexedOpenApiScanner} returning the indexed {@link Path} and {@link OpenAPIDefinition} classes along with
+ * the classes and singletons of the {@link Application}, as {@link JaxrsApplicationAndAnnotationScanner} does, which
+ * it falls back to without index resource.
+ *
+ * @since 2.0.11
+ */
+public class JaxrsIndexedAnnotationScanner extends IndexedOpenApiScanner implements JaxrsOpenApiScanner {
+
+    private static final List<String> ANNOTATION_NAMES = Arrays.asList(Path.class.getName(), OpenAPIDefinition.class.getName());
+
+    protected Application application;
+
+    @Override
+    public void setApplication(Application application) {
+        this.application = application;
+    }
+
+    @Override
+    public Set<Class<?>> classes() {
+        Set<Class<?>> classes = super.classes();
+        if (application != null) {
+            Set<Class<?>> clzs = application.getClasses();
+            if (clzs != null) {
+                for (Class<?> clz : clzs) {
+                    if (!isIgnored(clz.getName())) {
+                        classes.add(clz);
+                    }
+                }
+            }
+            Set<Object> singletons = application.getSingletons();
+            if (singletons != null) {
+                for (Object o : singletons) {
+                    if (!isIgnored(o.getClass().getName())) {
+                        classes.add(o.getClass());
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    @Override
+    protected List<String> annotationNames() {
+        return ANNOTATION_NAMES;
+    }
+
+    @Override
+    protected OpenApiScanner fallbackScanner() {
+        return new JaxrsApplicationAndAnnotationScanner().application(application);
+    }
+}
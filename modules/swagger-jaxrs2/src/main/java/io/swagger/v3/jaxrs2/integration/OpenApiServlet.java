@@ -1,20 +1,25 @@
 package io.swagger.v3.jaxrs2.integration;
 
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
-import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getContextIdFromServletConfig;
 
@@ -23,6 +28,8 @@ public class OpenApiServlet extends HttpServlet {
     public static final String APPLICATION_JSON = "application/json";
     public static final String APPLICATION_YAML = "application/yaml";
     public static final String ACCEPT_HEADER = "Accept";
+    public static final String ETAG_HEADER = "ETag";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
 
     @Override
     public void init(ServletConfig config) throws ServletException {
@@ -39,6 +46,13 @@ public class OpenApiServlet extends HttpServlet {
         }
     }
 
+    @Override
+    public void destroy() {
+        // stops the background refreshes of the context, which would otherwise outlive the application
+        OpenApiContextLocator.getInstance().removeOpenApiContext(getContextIdFromServletConfig(getServletConfig()));
+        super.destroy();
+    }
+
     // TODO move to own servlet non jaxrs project and reference from there
     // TODO cleanup and errors
     @Override
@@ -46,7 +60,6 @@ public class OpenApiServlet extends HttpServlet {
 
         String ctxId = getContextIdFromServletConfig(getServletConfig());
         OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId);
-        OpenAPI oas = ctx.read();
 
         String type = "json";
 
@@ -65,19 +78,62 @@ public class OpenApiServlet extends HttpServlet {
             pretty = true;
         }
 
+        SerializedOpenApi serialized;
+        if (ctx.getOpenApiConfiguration() != null && ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            serialized = ctx.readSerialized(type, pretty, getQueryParams(req), getCookies(req), getHeaders(req));
+        } else {
+            serialized = ctx.readSerialized(type, pretty);
+        }
+        if (serialized == null) {
+            resp.setStatus(404);
+            return;
+        }
+
+        if (serialized.getETag() != null) {
+            resp.setHeader(ETAG_HEADER, serialized.getETag());
+        }
+        if (serialized.matches(req.getHeader(IF_NONE_MATCH_HEADER))) {
+            resp.setStatus(304);
+            return;
+        }
+
         resp.setStatus(200);
+        resp.setContentType(type.equalsIgnoreCase("yaml") ? APPLICATION_YAML : APPLICATION_JSON);
+        resp.setCharacterEncoding("UTF-8");
+        if (!serialized.isStreamed()) {
+            resp.setContentLength(serialized.getBytes().length);
+        }
+        try (OutputStream out = resp.getOutputStream()) {
+            serialized.writeTo(out);
+        }
 
-        if (type.equalsIgnoreCase("yaml")) {
-            resp.setContentType(APPLICATION_YAML);
-            PrintWriter pw = resp.getWriter();
-            pw.write(pretty ? Yaml.pretty(oas) : Yaml.mapper().writeValueAsString(oas));
-            pw.close();
-        } else {
-            resp.setContentType(APPLICATION_JSON);
-            PrintWriter pw = resp.getWriter();
-            pw.write(pretty ? Json.pretty(oas) : Json.mapper().writeValueAsString(oas));
-            pw.close();
+    }
+
+    private static Map<String, List<String>> getQueryParams(HttpServletRequest req) {
+        Map<String, List<String>> output = new HashMap<String, List<String>>();
+        for (Map.Entry<String, String[]> param : req.getParameterMap().entrySet()) {
+            output.put(param.getKey(), Arrays.asList(param.getValue()));
+        }
+        return output;
+    }
+
+    private static Map<String, String> getCookies(HttpServletRequest req) {
+        Map<String, String> output = new HashMap<String, String>();
+        if (req.getCookies() != null) {
+            for (Cookie cookie : req.getCookies()) {
+                output.put(cookie.getName(), cookie.getValue());
+            }
         }
+        return output;
+    }
 
+    private static Map<String, List<String>> getHeaders(HttpServletRequest req) {
+        Map<String, List<String>> output = new HashMap<String, List<String>>();
+        Enumeration<String> names = req.getHeaderNames();
+        while (names != null && names.hasMoreElements()) {
+            String name = names.nextElement();
+            output.put(name, Collections.list(req.getHeaders(name)));
+        }
+        return output;
     }
 }
@@ -36,6 +36,41 @@ public class ServletConfigContextUtils {
      */
     public static final String OPENAPI_CONFIGURATION_MODEL_CONVERTERS_KEY = "openApi.configuration.modelConverterClasses";
 
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_CACHE_REFRESH_INTERVAL_KEY = "openApi.configuration.cacheRefreshInterval";
+
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY = "openApi.configuration.readerParallelism";
+
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_SCANNER_PARALLELISM_KEY = "openApi.configuration.scannerParallelism";
+
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_SCANNER_CACHE_DIRECTORY_KEY = "openApi.configuration.scannerCacheDirectory";
+
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_PRECOMPUTED_SPEC_ID_KEY = "openApi.configuration.precomputedSpecId";
+
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_FREEZE_CACHED_SPEC_KEY = "openApi.configuration.freezeCachedSpec";
+
+    /**
+     * @since 2.0.11
+     */
+    public static final String OPENAPI_CONFIGURATION_FILTERED_CACHE_SIZE_KEY = "openApi.configuration.filteredCacheSize";
+
     public static Set<String> resolveResourcePackages(ServletConfig servletConfig) {
         if (!isServletConfigAvailable(servletConfig)) {
             return null;
@@ -128,6 +163,21 @@ public class ServletConfigContextUtils {
         }
     }
 
+    /**
+     * @since 2.0.11
+     */
+    public static Integer getIntInitParam(ServletConfig sc, String paramKey) {
+        String param = getInitParam(sc, paramKey);
+        if (StringUtils.isBlank(param)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(param);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static String getContextIdFromServletConfig(ServletConfig config) {
 
         String ctxId = null;
@@ -14,15 +14,23 @@ import javax.servlet.ServletConfig;
 import java.io.IOException;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_BUILDER_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_CACHE_REFRESH_INTERVAL_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_CACHE_TTL_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_FILTERED_CACHE_SIZE_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_FILTER_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_FREEZE_CACHED_SPEC_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_OBJECT_MAPPER_PROCESSOR_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_PRECOMPUTED_SPEC_ID_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_PRETTYPRINT_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_READALLRESOURCES_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_READER_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCANNER_CACHE_DIRECTORY_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCANNER_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_SCANNER_PARALLELISM_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getBooleanInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getInitParam;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getIntInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getLongInitParam;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveModelConverterClasses;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.resolveResourceClasses;
@@ -57,7 +65,14 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
                     .cacheTTL(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_TTL_KEY))
                     .scannerClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_KEY))
                     .objectMapperProcessorClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_OBJECT_MAPPER_PROCESSOR_KEY))
-                    .modelConverterClasses(resolveModelConverterClasses(servletConfig));
+                    .modelConverterClasses(resolveModelConverterClasses(servletConfig))
+                    .cacheRefreshInterval(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_INTERVAL_KEY))
+                    .readerParallelism(getIntInitParam(servletConfig, OPENAPI_CONFIGURATION_READER_PARALLELISM_KEY))
+                    .scannerParallelism(getIntInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_PARALLELISM_KEY))
+                    .scannerCacheDirectory(getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_CACHE_DIRECTORY_KEY))
+                    .precomputedSpecId(getInitParam(servletConfig, OPENAPI_CONFIGURATION_PRECOMPUTED_SPEC_ID_KEY))
+                    .freezeCachedSpec(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_FREEZE_CACHED_SPEC_KEY))
+                    .filteredCacheSize(getIntInitParam(servletConfig, OPENAPI_CONFIGURATION_FILTERED_CACHE_SIZE_KEY));
 
             return configuration;
 
@@ -122,6 +137,9 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
             if (resolveModelConverterClasses(servletConfig) != null) {
                 return true;
             }
+            if (getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_REFRESH_INTERVAL_KEY) != null) {
+                return true;
+            }
             return false;
         }
         String location = ServletConfigContextUtils.getInitParam(servletConfig, path);
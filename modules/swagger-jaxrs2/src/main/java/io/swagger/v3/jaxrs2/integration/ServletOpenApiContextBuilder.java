@@ -1,10 +1,8 @@
 package io.swagger.v3.jaxrs2.integration;
 
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
-import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.OpenApiContextLocator;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
-import org.apache.commons.lang3.StringUtils;
 
 import javax.servlet.ServletConfig;
 
@@ -13,33 +11,22 @@ public class ServletOpenApiContextBuilder<T extends ServletOpenApiContextBuilder
     protected ServletConfig servletConfig;
 
     @Override
-    public OpenApiContext buildContext(boolean init) throws OpenApiConfigurationException {
-        if (StringUtils.isBlank(ctxId)) {
-            ctxId = OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT;
+    protected OpenApiContext createContext() {
+        OpenApiContext rootCtx = OpenApiContextLocator.getInstance().getOpenApiContext(OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT);
+        OpenApiContext ctx = new XmlWebOpenApiContext()
+                .servletConfig(servletConfig)
+                .openApiConfiguration(openApiConfiguration)
+                .id(ctxId)
+                .parent(rootCtx);
+
+        if (ctx.getConfigLocation() == null && configLocation != null) {
+            ((XmlWebOpenApiContext) ctx).configLocation(configLocation);
         }
-
-        OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(ctxId);
-
-        if (ctx == null) {
-            OpenApiContext rootCtx = OpenApiContextLocator.getInstance().getOpenApiContext(OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT);
-            ctx = new XmlWebOpenApiContext()
-                    .servletConfig(servletConfig)
-                    .openApiConfiguration(openApiConfiguration)
-                    .id(ctxId)
-                    .parent(rootCtx);
-
-            if (ctx.getConfigLocation() == null && configLocation != null) {
-                ((XmlWebOpenApiContext) ctx).configLocation(configLocation);
-            }
-            if (((XmlWebOpenApiContext) ctx).getResourcePackages() == null && resourcePackages != null) {
-                ((XmlWebOpenApiContext) ctx).resourcePackages(resourcePackages);
-            }
-            if (((XmlWebOpenApiContext) ctx).getResourceClasses() == null && resourceClasses != null) {
-                ((XmlWebOpenApiContext) ctx).resourceClasses(resourceClasses);
-            }
-            if (init) {
-                ctx.init(); // includes registering itself with OpenApiContextLocator
-            }
+        if (((XmlWebOpenApiContext) ctx).getResourcePackages() == null && resourcePackages != null) {
+            ((XmlWebOpenApiContext) ctx).resourcePackages(resourcePackages);
+        }
+        if (((XmlWebOpenApiContext) ctx).getResourceClasses() == null && resourceClasses != null) {
+            ((XmlWebOpenApiContext) ctx).resourceClasses(resourceClasses);
         }
         return ctx;
     }
@@ -6,10 +6,12 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.PrecomputedOpenApi;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +38,22 @@ public class SwaggerLoader {
     private String objectMapperProcessorClass;
     private String modelConverterClasses;
 
+    private String embedDirectory;
+
+    /**
+     * @since 2.0.11
+     */
+    public String getEmbedDirectory() {
+        return embedDirectory;
+    }
+
+    /**
+     * @since 2.0.11
+     */
+    public void setEmbedDirectory(String embedDirectory) {
+        this.embedDirectory = embedDirectory;
+    }
+
     /**
      * @since 2.0.6
      */
@@ -193,6 +211,10 @@ public class SwaggerLoader {
             }
         }
 
+        if (StringUtils.isNotBlank(embedDirectory) && StringUtils.isBlank(contextId)) {
+            throw new Exception("contextId is required to embed the API specification");
+        }
+
         SwaggerConfiguration config = new SwaggerConfiguration()
                 .filterClass(filterClass)
                 .ignoredRoutes(ignoredRoutesSet)
@@ -215,6 +237,10 @@ public class SwaggerLoader {
             OpenAPI openAPI = builder
                 .buildContext(true)
                 .read();
+            if (StringUtils.isNotBlank(embedDirectory)) {
+                // embedded unfiltered, as the runtime filter is applied when serving it
+                PrecomputedOpenApi.write(Paths.get(embedDirectory), contextId, openAPI, config);
+            }
             if (StringUtils.isNotBlank(filterClass)) {
                 try {
                     OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) this.getClass().getClassLoader().loadClass(filterClass).newInstance();
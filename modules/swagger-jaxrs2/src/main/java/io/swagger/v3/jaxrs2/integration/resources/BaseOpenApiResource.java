@@ -1,14 +1,9 @@
 package io.swagger.v3.jaxrs2.integration.resources;
 
-import io.swagger.v3.core.filter.OpenAPISpecFilter;
-import io.swagger.v3.core.filter.SpecFilter;
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.oas.integration.SerializedOpenApi;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
-import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,6 +14,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.util.HashMap;
 import java.util.List;
@@ -46,40 +42,37 @@ public abstract class BaseOpenApiResource {
                 .openApiConfiguration(openApiConfiguration)
                 .ctxId(ctxId)
                 .buildContext(true);
-        OpenAPI oas = ctx.read();
         boolean pretty = false;
         if (ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint())) {
             pretty = true;
         }
 
-        if (oas != null) {
-            if (ctx.getOpenApiConfiguration() != null && ctx.getOpenApiConfiguration().getFilterClass() != null) {
-                try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(ctx.getOpenApiConfiguration().getFilterClass()).newInstance();
-                    SpecFilter f = new SpecFilter();
-                    oas = f.filter(oas, filterImpl, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers),
-                            getHeaders(headers));
-                } catch (Exception e) {
-                    LOGGER.error("failed to load filter", e);
-                }
-            }
+        SerializedOpenApi serialized;
+        if (ctx.getOpenApiConfiguration() != null && ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            // filtered documents are cached by the context per filter cache key
+            serialized = ctx.readSerialized(type, pretty, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers),
+                    getHeaders(headers));
+        } else {
+            // unfiltered documents are encoded once per cached spec
+            serialized = ctx.readSerialized(type, pretty);
         }
 
-        if (oas == null) {
+        if (serialized == null) {
             return Response.status(404).build();
         }
 
-        if (StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase("yaml")) {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ? Yaml.pretty(oas) : Yaml.mapper().writeValueAsString(oas))
-                    .type("application/yaml")
-                    .build();
-        } else {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ? Json.pretty(oas) : Json.mapper().writeValueAsString(oas))
-                    .type(MediaType.APPLICATION_JSON_TYPE)
+        String ifNoneMatch = headers == null ? null : headers.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+        if (serialized.matches(ifNoneMatch)) {
+            return Response.status(Response.Status.NOT_MODIFIED)
+                    .header(HttpHeaders.ETAG, serialized.getETag())
                     .build();
         }
+
+        return Response.status(Response.Status.OK)
+                .entity(serialized.isStreamed() ? (StreamingOutput) serialized::writeTo : serialized.getBytes())
+                .type(SerializedOpenApi.isYaml(type) ? "application/yaml" : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, serialized.getETag())
+                .build();
     }
 
     private static Map<String, List<String>> getQueryParams(MultivaluedMap<String, String> params) {
@@ -1,6 +1,7 @@
 package io.swagger.v3.jaxrs2.util;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.ReflectionUtils;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
@@ -44,6 +45,15 @@ public class ReaderUtils {
      * @return the collection of supported parameters
      */
     public static List<Parameter> collectConstructorParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation) {
+        return collectConstructorParameters(cls, components, classConsumes, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * Collects constructor-level parameters from class, resolving their schemas with the given registry.
+     *
+     * @since 2.0.11
+     */
+    public static List<Parameter> collectConstructorParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         if (cls.isLocalClass() || (cls.isMemberClass() && !Modifier.isStatic(cls.getModifiers()))) {
             return Collections.emptyList();
         }
@@ -68,7 +78,7 @@ public class ReaderUtils {
                     paramsCount++;
                 } else {
                     final Type genericParameterType = genericParameterTypes[i];
-                    final List<Parameter> tmpParameters = collectParameters(genericParameterType, tmpAnnotations, components, classConsumes, jsonViewAnnotation);
+                    final List<Parameter> tmpParameters = collectParameters(genericParameterType, tmpAnnotations, components, classConsumes, jsonViewAnnotation, modelConverters);
                     if (tmpParameters.size() >= 1) {
                         for (Parameter tmpParameter : tmpParameters) {
                             Parameter processedParameter = ParameterProcessor.applyAnnotations(
@@ -78,7 +88,8 @@ public class ReaderUtils {
                                     components,
                                     classConsumes == null ? new String[0] : classConsumes.value(),
                                     null,
-                                    jsonViewAnnotation);
+                                    jsonViewAnnotation,
+                                    modelConverters);
                             if (processedParameter != null) {
                                 parameters.add(processedParameter);
                             }
@@ -105,18 +116,27 @@ public class ReaderUtils {
      * @return the collection of supported parameters
      */
     public static List<Parameter> collectFieldParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation) {
+        return collectFieldParameters(cls, components, classConsumes, jsonViewAnnotation, ModelConverters.getInstance());
+    }
+
+    /**
+     * Collects field-level parameters from class, resolving their schemas with the given registry.
+     *
+     * @since 2.0.11
+     */
+    public static List<Parameter> collectFieldParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         final List<Parameter> parameters = new ArrayList<Parameter>();
         for (Field field : ReflectionUtils.getDeclaredFields(cls)) {
             final List<Annotation> annotations = Arrays.asList(field.getAnnotations());
             final Type genericType = field.getGenericType();
-            parameters.addAll(collectParameters(genericType, annotations, components, classConsumes, jsonViewAnnotation));
+            parameters.addAll(collectParameters(genericType, annotations, components, classConsumes, jsonViewAnnotation, modelConverters));
         }
         return parameters;
     }
 
-    private static List<Parameter> collectParameters(Type type, List<Annotation> annotations, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation) {
+    private static List<Parameter> collectParameters(Type type, List<Annotation> annotations, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, ModelConverters modelConverters) {
         final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
-        return chain.hasNext() ? chain.next().extractParameters(annotations, type, new HashSet<>(), components, classConsumes, null, false, jsonViewAnnotation, chain).parameters :
+        return chain.hasNext() ? chain.next().extractParameters(annotations, type, new HashSet<>(), components, classConsumes, null, false, jsonViewAnnotation, modelConverters, chain).parameters :
                 Collections.emptyList();
     }
 
@@ -161,16 +181,27 @@ public class ReaderUtils {
     }
 
     public static String getPath(javax.ws.rs.Path classLevelPath, javax.ws.rs.Path methodLevelPath, String parentPath, boolean isSubresource) {
+        return getPath(classLevelPath == null ? null : classLevelPath.value(),
+                methodLevelPath == null ? null : methodLevelPath.value(), parentPath, isSubresource);
+    }
+
+    /**
+     * Same as {@link #getPath(javax.ws.rs.Path, javax.ws.rs.Path, String, boolean)}, from the values of the
+     * {@link javax.ws.rs.Path} annotations, null when missing.
+     *
+     * @since 2.0.11
+     */
+    public static String getPath(String classLevelPath, String methodLevelPath, String parentPath, boolean isSubresource) {
         if (classLevelPath == null && methodLevelPath == null && StringUtils.isEmpty(parentPath)) {
             return null;
         }
         StringBuilder b = new StringBuilder();
         appendPathComponent(parentPath, b);
         if (classLevelPath != null && !isSubresource) {
-            appendPathComponent(classLevelPath.value(), b);
+            appendPathComponent(classLevelPath, b);
         }
         if (methodLevelPath != null) {
-            appendPathComponent(methodLevelPath.value(), b);
+            appendPathComponent(methodLevelPath, b);
         }
         return b.length() == 0 ? "/" : b.toString();
     }
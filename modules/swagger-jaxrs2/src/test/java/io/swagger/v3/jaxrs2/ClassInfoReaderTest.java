@@ -0,0 +1,153 @@
+package io.swagger.v3.jaxrs2;
+
+import io.swagger.v3.jaxrs2.integration.resources.Inspect;
+import io.swagger.v3.jaxrs2.resources.rs.Restock;
+import io.swagger.v3.jaxrs2.resources.rs.StockApi;
+import io.swagger.v3.oas.annotations.Hidden;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ClassInfoReaderTest {
+
+    static boolean itemResourceInitialized;
+
+    @Test(description = "it should read the operations from the class files without initializing the resources")
+    public void testReadFromClassFiles() {
+        ClassInfoReader reader = new ClassInfoReader();
+        reader.setConfiguration(new SwaggerConfiguration().resourceClasses(Collections.singleton(ItemResource.class.getName())));
+        OpenAPI openAPI = reader.read(Collections.emptySet(), Collections.emptyMap());
+        assertFalse(itemResourceInitialized);
+
+        assertEquals(openAPI.getPaths().keySet(), new HashSet<>(Arrays.asList("/items/{id}", "/items", "/items/names")));
+        io.swagger.v3.oas.models.Operation get = openAPI.getPaths().get("/items/{id}").getGet();
+        assertEquals(get.getOperationId(), "getItem");
+        assertEquals(get.getSummary(), "get item");
+        assertEquals(get.getTags(), Collections.singletonList("items"));
+        assertEquals(get.getParameters().size(), 2);
+        assertEquals(get.getParameters().get(0).getIn(), "path");
+        assertEquals(get.getParameters().get(0).getSchema().getType(), "integer");
+        assertTrue(get.getParameters().get(0).getRequired());
+        assertEquals(get.getParameters().get(1).getDescription(), "details");
+        assertEquals(get.getResponses().get("404").getDescription(), "not found");
+        assertNull(openAPI.getPaths().get("/items/{id}").getDelete());
+
+        PathItem items = openAPI.getPaths().get("/items");
+        assertEquals(items.getPost().getOperationId(), "add");
+        assertEquals(items.getPost().getRequestBody().getContent().get("application/json").getSchema().get$ref(), "#/components/schemas/Item");
+        assertEquals(items.getPost().getResponses().getDefault().getDescription(), "default response");
+        assertEquals(items.getGet().getOperationId(), "get");
+        assertEquals(items.getGet().getResponses().getDefault().getContent().get("application/json").getSchema().getType(), "string");
+        assertTrue(openAPI.getPaths().get("/items/names").getGet().getDeprecated());
+        assertEquals(openAPI.getPaths().get("/items/names").getGet().getOperationId(), "names");
+        assertEquals(openAPI.getComponents().getSchemas().keySet(), Collections.singleton("Item"));
+        assertEquals(openAPI.getTags().get(0).getDescription(), "item operations");
+    }
+
+    @Test(description = "it should leave out the schemas needing reflection when not resolving them")
+    public void testWithoutSchemaResolution() {
+        ClassInfoReader reader = new ClassInfoReader().resolveSchemas(false);
+        reader.setConfiguration(new SwaggerConfiguration().resourceClasses(Collections.singleton(ItemResource.class.getName())));
+        OpenAPI openAPI = reader.read(Collections.emptySet(), Collections.emptyMap());
+        assertNull(openAPI.getPaths().get("/items").getPost().getRequestBody());
+        assertNull(openAPI.getPaths().get("/items/names").getGet().getResponses().getDefault().getContent());
+        assertNull(openAPI.getComponents());
+    }
+
+    @Test(description = "it should read operations of custom HTTP methods and interfaces outside of the resource classes")
+    public void testCustomHttpMethodAndInterface() {
+        ClassInfoReader reader = new ClassInfoReader();
+        reader.setConfiguration(new SwaggerConfiguration().resourceClasses(Collections.singleton(StockResource.class.getName())));
+        OpenAPI openAPI = reader.read(Collections.emptySet(), Collections.emptyMap());
+
+        assertEquals(openAPI.getPaths().keySet(), new HashSet<>(Arrays.asList("/stock", "/stock/count")));
+        assertEquals(openAPI.getPaths().get("/stock").getPatch().getOperationId(), "restock");
+        assertEquals(openAPI.getPaths().get("/stock").getOptions().getOperationId(), "inspect");
+        assertEquals(openAPI.getPaths().get("/stock/count").getGet().getOperationId(), "count");
+        assertEquals(openAPI.getPaths().get("/stock/count").getGet().getResponses().getDefault().getContent().get("*/*").getSchema().getType(), "integer");
+    }
+
+    @Path("/stock")
+    public static class StockResource implements StockApi {
+
+        @Restock
+        public void restock(@QueryParam("amount") int amount) {
+        }
+
+        @Inspect
+        public void inspect() {
+        }
+
+        @Override
+        public int count() {
+            return 0;
+        }
+    }
+
+    @Path("/items")
+    @Tag(name = "items", description = "item operations")
+    @Produces("application/json")
+    public static class ItemResource {
+
+        static {
+            itemResourceInitialized = true;
+        }
+
+        @GET
+        @Path("/{id}")
+        @Operation(summary = "get item", operationId = "getItem", responses = @ApiResponse(responseCode = "404", description = "not found"))
+        public Item get(@PathParam("id") long id, @Parameter(description = "details") @QueryParam("verbose") Boolean verbose) {
+            return null;
+        }
+
+        @GET
+        public String get() {
+            return null;
+        }
+
+        @POST
+        @Consumes("application/json")
+        public void add(Item item) {
+        }
+
+        @DELETE
+        @Path("{id}")
+        @Hidden
+        public void delete(@PathParam("id") long id) {
+        }
+
+        @GET
+        @Path("/names")
+        @Deprecated
+        public List<String> names() {
+            return null;
+        }
+    }
+
+    public static class Item {
+        public String name;
+    }
+}
@@ -1,6 +1,7 @@
 package io.swagger.v3.jaxrs2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.core.converter.AnnotatedType;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverterContextImpl;
@@ -10,6 +11,7 @@ import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.core.model.ApiDescription;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.PrimitiveType;
 import io.swagger.v3.jaxrs2.matchers.SerializationMatchers;
 import io.swagger.v3.jaxrs2.resources.SingleExampleResource;
@@ -19,6 +21,8 @@ import io.swagger.v3.jaxrs2.resources.ClassPathParentResource;
 import io.swagger.v3.jaxrs2.resources.ClassPathSubResource;
 import io.swagger.v3.jaxrs2.resources.CompleteFieldsResource;
 import io.swagger.v3.jaxrs2.resources.DeprecatedFieldsResource;
+import io.swagger.v3.jaxrs2.resources.DuplicatedCallbackOperationIdOtherResource;
+import io.swagger.v3.jaxrs2.resources.DuplicatedCallbackOperationIdResource;
 import io.swagger.v3.jaxrs2.resources.DuplicatedOperationIdResource;
 import io.swagger.v3.jaxrs2.resources.DuplicatedOperationMethodNameResource;
 import io.swagger.v3.jaxrs2.resources.DuplicatedSecurityResource;
@@ -67,6 +71,7 @@ import io.swagger.v3.jaxrs2.resources.extensions.ParameterExtensionsResource;
 import io.swagger.v3.jaxrs2.resources.extensions.RequestBodyExtensionsResource;
 import io.swagger.v3.jaxrs2.resources.rs.ProcessTokenRestService;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -109,7 +114,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -233,6 +242,79 @@ public class ReaderTest {
         assertNotEquals(secondOperation.getOperationId(), thirdOperation.getOperationId());
     }
 
+    @Test(description = "it should read classes in parallel as it reads them one at a time")
+    public void testParallelRead() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(
+                DuplicatedOperationIdResource.class,
+                DuplicatedOperationMethodNameResource.class,
+                ResourceWithSubResource.class,
+                SecurityResource.class,
+                ServersResource.class,
+                SimpleResponsesResource.class,
+                TagsResource.class,
+                Test2607.class,
+                DuplicatedCallbackOperationIdResource.class,
+                DuplicatedCallbackOperationIdOtherResource.class));
+
+        OpenAPI sequential = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI())).read(classes);
+        OpenAPI parallel = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readerParallelism(4)).read(classes);
+
+        assertEquals(Json.pretty(parallel), Json.pretty(sequential));
+        // read after the other resource, both ids are renamed
+        Operation renamed = parallel.getPaths().get("/events").getGet();
+        assertEquals(renamed.getOperationId(), "events_1");
+        assertEquals(renamed.getCallbacks().get("eventCallback").get("http://www.url.com").getPost().getOperationId(), "events_1");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Reader reader = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readerParallelism(2));
+            reader.setExecutor(executor);
+            assertEquals(Json.pretty(reader.read(classes)), Json.pretty(sequential));
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "it should read the classes of a reader subclass one at a time")
+    public void testParallelReadOfSubclass() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(SimpleResponsesResource.class, TagsResource.class));
+        OpenAPI sequential = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI())).read(classes);
+
+        AtomicInteger executed = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Reader reader = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readerParallelism(2)) {
+            };
+            reader.setExecutor(task -> {
+                executed.incrementAndGet();
+                executor.execute(task);
+            });
+            assertEquals(Json.pretty(reader.read(classes)), Json.pretty(sequential));
+            assertEquals(executed.get(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "it should resolve with the registry it is given when reading in parallel")
+    public void testParallelReadUsesRegistry() {
+        ModelConverters registry = new ModelConverters(ModelConverters.getInstance());
+        Set<String> resolved = ConcurrentHashMap.newKeySet();
+        registry.addConverter((type, context, chain) -> {
+            resolved.add(TypeFactory.defaultInstance().constructType(type.getType()).getRawClass().getName());
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        });
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(SimpleResponsesResource.class, ResponsesResource.class));
+
+        Reader reader = new Reader(new SwaggerConfiguration().openAPI(new OpenAPI()).readerParallelism(2));
+        reader.setModelConverters(registry);
+        reader.read(classes);
+        // response content and parameters
+        assertTrue(resolved.contains(ResponsesResource.class.getName() + "$SampleResponseSchema"));
+        assertTrue(resolved.contains(int.class.getName()));
+    }
+
     @Test(description = "Get a Duplicated Operation Id with same id as method name")
     public void testResolveDuplicatedOperationIdMethodName() {
         Reader reader = new Reader(new OpenAPI());
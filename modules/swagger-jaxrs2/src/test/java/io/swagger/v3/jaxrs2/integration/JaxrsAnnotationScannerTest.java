@@ -0,0 +1,33 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import com.my.project.resources.ResourceInPackageA;
+import io.swagger.v3.jaxrs2.integration.resources.OpenApiResource;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class JaxrsAnnotationScannerTest {
+
+    @Test(description = "scan resource packages with a given number of threads")
+    public void shouldScanResourcePackagesInParallel() {
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(new HashSet<>(Arrays.asList("com.my.project.resources", "io.swagger.v3.jaxrs2.integration.resources")))
+                .scannerParallelism(2);
+
+        Set<Class<?>> classes = new JaxrsAnnotationScanner().openApiConfiguration(config).classes();
+        assertEquals(classes, Collections.singleton(ResourceInPackageA.class));
+    }
+
+    @Test(description = "not scan ignored packages when scanning the whole classpath")
+    public void shouldNotScanIgnoredPackages() {
+        Set<Class<?>> classes = new JaxrsAnnotationScanner().openApiConfiguration(new SwaggerConfiguration()).classes();
+        assertFalse(classes.contains(OpenApiResource.class));
+    }
+}
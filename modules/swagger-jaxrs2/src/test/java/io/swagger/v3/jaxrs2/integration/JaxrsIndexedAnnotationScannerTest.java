@@ -0,0 +1,74 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import com.my.project.resources.ResourceInPackageA;
+import io.swagger.v3.oas.integration.AnnotationIndex;
+import org.my.project.resources.ResourceInPackageB;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class JaxrsIndexedAnnotationScannerTest {
+
+    @Path("/app")
+    public static class ResourceInApplication {
+        @GET
+        public void getTest() {
+        }
+    }
+
+    @Path("/singleton")
+    public static class SingletonInApplication {
+        @GET
+        public void getTest() {
+        }
+    }
+
+    @Test(description = "scan the indexed classes and the Application classes and singletons")
+    public void shouldScanIndexedClassesAndApplication() throws Exception {
+        java.nio.file.Path directory = Files.createTempDirectory("annotation-index");
+        java.nio.file.Path index = directory.resolve(AnnotationIndex.RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, (Path.class.getName() + "=" + ResourceInPackageA.class.getName() + "\n").getBytes(StandardCharsets.ISO_8859_1));
+
+        JaxrsIndexedAnnotationScanner scanner = new JaxrsIndexedAnnotationScanner();
+        scanner.setApplication(new Application() {
+            @Override
+            public Set<Class<?>> getClasses() {
+                return Collections.singleton(ResourceInApplication.class);
+            }
+
+            @Override
+            public Set<Object> getSingletons() {
+                return Collections.singleton(new SingletonInApplication());
+            }
+        });
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader()));
+        try {
+            assertEquals(scanner.classes(), new HashSet<>(Arrays.asList(
+                    ResourceInPackageA.class, ResourceInApplication.class, SingletonInApplication.class)));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        // without index the Application classes are added to the scanned ones as well
+        Set<Class<?>> scanned = scanner.classes();
+        assertTrue(scanned.contains(ResourceInPackageB.class));
+        assertTrue(scanned.containsAll(Arrays.asList(ResourceInApplication.class, SingletonInApplication.class)));
+    }
+}
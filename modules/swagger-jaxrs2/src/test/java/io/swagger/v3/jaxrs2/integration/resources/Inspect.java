@@ -0,0 +1,16 @@
+package io.swagger.v3.jaxrs2.integration.resources;
+
+import javax.ws.rs.HttpMethod;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * HTTP method annotation of an ignored package, which is not scanned.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@HttpMethod("OPTIONS")
+public @interface Inspect {
+}
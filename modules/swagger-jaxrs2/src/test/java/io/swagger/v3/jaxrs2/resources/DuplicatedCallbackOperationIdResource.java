@@ -0,0 +1,30 @@
+package io.swagger.v3.jaxrs2.resources;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.callbacks.Callback;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+@Path("/events")
+public class DuplicatedCallbackOperationIdResource {
+    @Callback(
+            name = "eventCallback",
+            operation = @Operation(
+                    operationId = "events",
+                    method = "post",
+                    responses = @ApiResponse(
+                            responseCode = "200",
+                            description = "received")),
+            callbackUrlExpression = "http://www.url.com")
+    @Operation(
+            operationId = "events",
+            responses = @ApiResponse(
+                    responseCode = "200",
+                    description = "events"))
+    @GET
+    public String getEvents() {
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package io.swagger.v3.jaxrs2.resources.rs;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+public interface StockApi {
+
+    @GET
+    @Path("/count")
+    int count();
+}
@@ -0,0 +1,57 @@
+package io.swagger.v3.plugin.maven;
+
+import io.swagger.v3.oas.integration.AnnotationIndex;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates the annotation index read at runtime by the IndexedOpenApiScanner, so that it does not need to scan
+ * the classpath.
+ *
+ * @since 2.0.11
+ */
+@Mojo(
+    name = "index",
+    defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+    threadSafe = true
+)
+public class IndexMojo extends AbstractMojo {
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info( "Skipping annotation index generation" );
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info( "No classes directory " + classesDirectory + ", skipping annotation index generation" );
+            return;
+        }
+        List<String> annotationNames = annotations == null || annotations.isEmpty() ? AnnotationIndex.DEFAULT_ANNOTATIONS : annotations;
+        File file = new File(classesDirectory, AnnotationIndex.RESOURCE);
+        getLog().info( "Generating annotation index " + file );
+        try {
+            AnnotationIndex.build(Collections.singletonList(classesDirectory), annotationNames).write(file.toPath());
+        } catch (IOException e) {
+            getLog().error( "Error writing annotation index" , e);
+            throw new MojoExecutionException("Failed to write annotation index", e);
+        }
+    }
+
+    @Parameter( property = "index.classesDirectory", defaultValue = "${project.build.outputDirectory}")
+    private File classesDirectory;
+
+    @Parameter( property = "index.annotations" )
+    private List<String> annotations;
+
+    @Parameter( property = "index.skip" )
+    private Boolean skip = Boolean.FALSE;
+}
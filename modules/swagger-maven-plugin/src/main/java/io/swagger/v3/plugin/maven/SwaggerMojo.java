@@ -7,6 +7,7 @@ import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.PrecomputedOpenApi;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.maven.plugin.AbstractMojo;
@@ -72,6 +73,10 @@ public class SwaggerMojo extends AbstractMojo {
 
         setDefaultsIfMissing(config);
 
+        if (Boolean.TRUE.equals(embedSpec) && StringUtils.isBlank(contextId)) {
+            throw new MojoFailureException("contextId is required to embed the API specification");
+        }
+
         try {
             GenericOpenApiContextBuilder builder = new GenericOpenApiContextBuilder()
                     .openApiConfiguration(config);
@@ -82,6 +87,11 @@ public class SwaggerMojo extends AbstractMojo {
                     .buildContext(true)
                     .read();
 
+            if (Boolean.TRUE.equals(embedSpec)) {
+                // embedded unfiltered, as the runtime filter is applied when serving it
+                PrecomputedOpenApi.write(embedDirectory.toPath(), contextId, openAPI, config);
+            }
+
             if (StringUtils.isNotBlank(filterClass)) {
                 try {
                     OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) this.getClass().getClassLoader().loadClass(filterClass).newInstance();
@@ -343,6 +353,21 @@ public class SwaggerMojo extends AbstractMojo {
     @Parameter(property = "resolve.contextId", defaultValue = "${project.artifactId}")
     private String contextId;
 
+    /**
+     * Embeds the unfiltered spec as META-INF/openapi/&lt;contextId&gt;.json in embedDirectory, to be served at runtime
+     * by contexts configured with precomputedSpecId contextId.
+     *
+     * @since 2.0.11
+     */
+    @Parameter( property = "resolve.embedSpec" )
+    private Boolean embedSpec = Boolean.FALSE;
+
+    /**
+     * @since 2.0.11
+     */
+    @Parameter( property = "resolve.embedDirectory", defaultValue = "${project.build.outputDirectory}")
+    private File embedDirectory;
+
     @Parameter( property = "resolve.skip" )
     private Boolean skip = Boolean.FALSE;
 
@@ -0,0 +1,141 @@
+package io.swagger.v3.oas.models;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * LinkedHashMap backing the map based models (e.g. {@link Paths}), which can be frozen to reject any further
+ * modification of its entries.
+ *
+ * @since 2.0.11
+ */
+public class FreezableLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
+
+    // volatile so that the freeze is seen by the threads the map is then shared with
+    private volatile boolean frozen;
+
+    /**
+     * Makes this map unmodifiable; the entries are not frozen.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    protected void checkFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen");
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        checkFrozen();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        checkFrozen();
+        super.putAll(m);
+    }
+
+    @Override
+    public V remove(Object key) {
+        checkFrozen();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        checkFrozen();
+        super.clear();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        checkFrozen();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        checkFrozen();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        checkFrozen();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        checkFrozen();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        checkFrozen();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        checkFrozen();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        checkFrozen();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        checkFrozen();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        checkFrozen();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return frozen ? Collections.unmodifiableSet(super.keySet()) : super.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return frozen ? Collections.unmodifiableCollection(super.values()) : super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (!frozen) {
+            return super.entrySet();
+        }
+        // unmodifiable entries as well, Collections.unmodifiableMap(this) would call back this method
+        return Collections.unmodifiableMap(new AbstractMap<K, V>() {
+            @Override
+            public Set<Map.Entry<K, V>> entrySet() {
+                return FreezableLinkedHashMap.super.entrySet();
+            }
+        }).entrySet();
+    }
+}
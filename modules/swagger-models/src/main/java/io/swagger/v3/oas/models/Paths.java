@@ -16,7 +16,6 @@
 
 package io.swagger.v3.oas.models;
 
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -25,7 +24,7 @@ import java.util.Objects;
  * @see "https://github.com/OAI/OpenAPI-Specification/blob/3.0.1/versions/3.0.1.md#pathsObject"
  */
 
-public class Paths extends LinkedHashMap<String, PathItem> {
+public class Paths extends FreezableLinkedHashMap<String, PathItem> {
     public Paths() {
     }
 
@@ -16,9 +16,9 @@
 
 package io.swagger.v3.oas.models.callbacks;
 
+import io.swagger.v3.oas.models.FreezableLinkedHashMap;
 import io.swagger.v3.oas.models.PathItem;
 
-import java.util.LinkedHashMap;
 import java.util.Objects;
 
 /**
@@ -27,7 +27,7 @@ import java.util.Objects;
  * @see "https://github.com/OAI/OpenAPI-Specification/blob/3.0.1/versions/3.0.1.md#callbackObject"
  */
 
-public class Callback extends LinkedHashMap<String, PathItem> {
+public class Callback extends FreezableLinkedHashMap<String, PathItem> {
     public Callback() {
     }
 
@@ -16,6 +16,7 @@
 
 package io.swagger.v3.oas.models.media;
 
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -53,6 +54,14 @@ public class ArraySchema extends Schema<Object> {
         return this;
     }
 
+    @Override
+    protected void copyTo(Schema target, Map<Schema, Schema> copies) {
+        super.copyTo(target, copies);
+        if (target instanceof ArraySchema) {
+            ((ArraySchema) target).items = copy(items, copies);
+        }
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -18,6 +18,7 @@ package io.swagger.v3.oas.models.media;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -110,6 +111,16 @@ public class ComposedSchema extends Schema<Object> {
         return this;
     }
 
+    @Override
+    protected void copyTo(Schema target, Map<Schema, Schema> copies) {
+        super.copyTo(target, copies);
+        if (target instanceof ComposedSchema) {
+            ((ComposedSchema) target).allOf = copy(allOf, copies);
+            ((ComposedSchema) target).anyOf = copy(anyOf, copies);
+            ((ComposedSchema) target).oneOf = copy(oneOf, copies);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
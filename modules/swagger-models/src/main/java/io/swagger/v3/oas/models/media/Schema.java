@@ -22,6 +22,7 @@ import io.swagger.v3.oas.models.ExternalDocumentation;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -752,6 +753,130 @@ public class Schema<T> {
         return this;
     }
 
+    /**
+     * returns a deep copy of this Schema instance, of the same class. Nested schemas are copied as well, keeping
+     * shared and recursive references. Values such as example, default, enum items and extensions are shared.
+     *
+     * @return Schema copy
+     * @since 2.0.11
+     **/
+    public Schema<T> copy() {
+        return copy(this, new IdentityHashMap<>());
+    }
+
+    /**
+     * returns a deep copy of this Schema instance like {@link #copy()}, reusing the copies recorded in the given
+     * identity map, so that schemas copied with the same map keep referencing each other.
+     *
+     * @return Schema copy
+     * @since 2.0.11
+     **/
+    public Schema<T> copy(Map<Schema, Schema> copies) {
+        return copy(this, copies);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <S extends Schema> S copy(S schema, Map<Schema, Schema> copies) {
+        if (schema == null) {
+            return null;
+        }
+        Schema copy = copies.get(schema);
+        if (copy == null) {
+            copy = schema.newInstance();
+            copies.put(schema, copy);
+            schema.copyTo(copy, copies);
+        }
+        return (S) copy;
+    }
+
+    protected static List<Schema> copy(List<Schema> schemas, Map<Schema, Schema> copies) {
+        if (schemas == null) {
+            return null;
+        }
+        List<Schema> copy = new ArrayList<>(schemas.size());
+        for (Schema schema : schemas) {
+            copy.add(copy(schema, copies));
+        }
+        return copy;
+    }
+
+    /**
+     * creates an empty instance of the same class, to be filled by {@link #copyTo(Schema, Map)}; subclasses without
+     * an accessible no-arg constructor override this.
+     **/
+    protected Schema newInstance() {
+        try {
+            return getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot copy schema of " + getClass().getName()
+                    + ", it needs an accessible no-arg constructor or to override newInstance()", e);
+        }
+    }
+
+    /**
+     * copies the state of this Schema instance into the given one; subclasses holding further schemas override this.
+     **/
+    @SuppressWarnings("unchecked")
+    protected void copyTo(Schema target, Map<Schema, Schema> copies) {
+        target._default = _default;
+        target.name = name;
+        target.title = title;
+        target.multipleOf = multipleOf;
+        target.maximum = maximum;
+        target.exclusiveMaximum = exclusiveMaximum;
+        target.minimum = minimum;
+        target.exclusiveMinimum = exclusiveMinimum;
+        target.maxLength = maxLength;
+        target.minLength = minLength;
+        target.pattern = pattern;
+        target.maxItems = maxItems;
+        target.minItems = minItems;
+        target.uniqueItems = uniqueItems;
+        target.maxProperties = maxProperties;
+        target.minProperties = minProperties;
+        target.required = required == null ? null : new ArrayList<>(required);
+        target.type = type;
+        target.not = copy(not, copies);
+        if (properties != null) {
+            Map<String, Schema> copiedProperties = new LinkedHashMap<>();
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                copiedProperties.put(property.getKey(), copy(property.getValue(), copies));
+            }
+            target.properties = copiedProperties;
+        } else {
+            target.properties = null;
+        }
+        target.additionalProperties = additionalProperties instanceof Schema ? copy((Schema) additionalProperties, copies) : additionalProperties;
+        target.description = description;
+        target.format = format;
+        target.$ref = $ref;
+        target.nullable = nullable;
+        target.readOnly = readOnly;
+        target.writeOnly = writeOnly;
+        target.example = example;
+        target.externalDocs = externalDocs == null ? null : new ExternalDocumentation()
+                .description(externalDocs.getDescription())
+                .url(externalDocs.getUrl())
+                .extensions(copyExtensions(externalDocs.getExtensions()));
+        target.deprecated = deprecated;
+        target.xml = xml == null ? null : new XML()
+                .name(xml.getName())
+                .namespace(xml.getNamespace())
+                .prefix(xml.getPrefix())
+                .attribute(xml.getAttribute())
+                .wrapped(xml.getWrapped())
+                .extensions(copyExtensions(xml.getExtensions()));
+        target.extensions = copyExtensions(extensions);
+        target._enum = _enum == null ? null : new ArrayList<>(_enum);
+        target.discriminator = discriminator == null ? null : new Discriminator()
+                .propertyName(discriminator.getPropertyName())
+                .mapping(discriminator.getMapping() == null ? null : new LinkedHashMap<>(discriminator.getMapping()));
+    }
+
+    private static Map<String, Object> copyExtensions(Map<String, Object> extensions) {
+        return extensions == null ? null : new LinkedHashMap<>(extensions);
+    }
+
     @Override
     public boolean equals(java.lang.Object o) {
         if (this == o) {
@@ -16,7 +16,8 @@
 
 package io.swagger.v3.oas.models.responses;
 
-import java.util.LinkedHashMap;
+import io.swagger.v3.oas.models.FreezableLinkedHashMap;
+
 import java.util.Objects;
 
 /**
@@ -25,7 +26,7 @@ import java.util.Objects;
  * @see "https://github.com/OAI/OpenAPI-Specification/blob/3.0.1/versions/3.0.1.md#responsesObject"
  */
 
-public class ApiResponses extends LinkedHashMap<String, ApiResponse> {
+public class ApiResponses extends FreezableLinkedHashMap<String, ApiResponse> {
 
     public static final String DEFAULT = "default";
 
@@ -16,9 +16,10 @@
 
 package io.swagger.v3.oas.models.security;
 
+import io.swagger.v3.oas.models.FreezableLinkedHashMap;
+
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -28,7 +29,7 @@ import java.util.Objects;
  * @see "https://github.com/OAI/OpenAPI-Specification/blob/3.0.1/versions/3.0.1.md#securityRequirementObject"
  */
 
-public class SecurityRequirement extends LinkedHashMap<String, List<String>> {
+public class SecurityRequirement extends FreezableLinkedHashMap<String, List<String>> {
     public SecurityRequirement() {
     }
 
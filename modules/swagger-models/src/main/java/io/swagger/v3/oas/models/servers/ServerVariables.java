@@ -16,7 +16,8 @@
 
 package io.swagger.v3.oas.models.servers;
 
-import java.util.LinkedHashMap;
+import io.swagger.v3.oas.models.FreezableLinkedHashMap;
+
 import java.util.Objects;
 
 /**
@@ -25,7 +26,7 @@ import java.util.Objects;
  * @see "https://github.com/OAI/OpenAPI-Specification/blob/3.0.1/versions/3.0.1.md#serverVariablesObject"
  */
 
-public class ServerVariables extends LinkedHashMap<String, ServerVariable> {
+public class ServerVariables extends FreezableLinkedHashMap<String, ServerVariable> {
     public ServerVariables() {
     }
 
@@ -0,0 +1,39 @@
+package io.swagger.test;
+
+import io.swagger.v3.oas.models.FreezableLinkedHashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+public class FreezableLinkedHashMapTest {
+
+    @Test
+    public void frozenMapRejectsChangesThroughItsEntries() {
+        FreezableLinkedHashMap<String, String> map = new FreezableLinkedHashMap<>();
+        map.put("a", "1");
+        map.put("b", "2");
+        map.entrySet().iterator().next().setValue("0");
+        Assert.assertEquals(map.get("a"), "0");
+
+        map.freeze();
+        Map.Entry<String, String> entry = map.entrySet().iterator().next();
+        Assert.assertEquals(entry.getKey(), "a");
+        Assert.assertEquals(entry.getValue(), "0");
+        try {
+            entry.setValue("1");
+            Assert.fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            map.entrySet().clear();
+            Assert.fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals(map.get("a"), "0");
+        Assert.assertEquals(map.size(), 2);
+        Assert.assertEquals(map.entrySet().size(), 2);
+    }
+}
@@ -1,8 +1,13 @@
 package io.swagger.test;
 
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.XML;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -53,4 +58,82 @@ public class SchemaTests {
             
         }
     }
+
+    @Test
+    public void CopySchema() {
+        StringSchema shared = new StringSchema();
+        shared.setEnum(java.util.Arrays.asList("a", "b"));
+        ObjectSchema original = new ObjectSchema();
+        original.name("Pet")
+                .addProperties("name", shared)
+                .addProperties("nick", shared)
+                .addProperties("tags", new ArraySchema().items(new StringSchema().xml(new XML().name("tag"))))
+                .addProperties("owner", new ComposedSchema().addAllOfItem(new Schema().$ref("#/components/schemas/Person")))
+                .additionalProperties(new IntegerSchema())
+                .discriminator(new Discriminator().propertyName("type").mapping("dog", "#/components/schemas/Dog"))
+                .addRequiredItem("name")
+                .addExtension("x-test", "value");
+
+        Schema copy = original.copy();
+
+        Assert.assertEquals(copy, original);
+        Assert.assertNotSame(copy, original);
+        Assert.assertEquals(copy.getClass(), ObjectSchema.class);
+        Assert.assertEquals(copy.getName(), "Pet");
+        Assert.assertEquals(copy.getProperties().get("tags").getClass(), ArraySchema.class);
+        Assert.assertNotSame(((ArraySchema) copy.getProperties().get("tags")).getItems(), ((ArraySchema) original.getProperties().get("tags")).getItems());
+        Assert.assertNotSame(((ComposedSchema) copy.getProperties().get("owner")).getAllOf().get(0), ((ComposedSchema) original.getProperties().get("owner")).getAllOf().get(0));
+        Assert.assertNotSame(copy.getAdditionalProperties(), original.getAdditionalProperties());
+        Assert.assertSame(copy.getProperties().get("name"), copy.getProperties().get("nick"));
+
+        copy.getRequired().add("tags");
+        copy.getDiscriminator().mapping("cat", "#/components/schemas/Cat");
+        ((Schema) copy.getProperties().get("name")).setDescription("changed");
+        Assert.assertEquals(original.getRequired().size(), 1);
+        Assert.assertEquals(original.getDiscriminator().getMapping().size(), 1);
+        Assert.assertNull(shared.getDescription());
+    }
+
+    @Test
+    public void CopyRecursiveSchema() {
+        Schema node = new ObjectSchema();
+        node.addProperties("next", node);
+
+        Schema copy = node.copy();
+
+        Assert.assertNotSame(copy, node);
+        Assert.assertSame(copy.getProperties().get("next"), copy);
+    }
+
+    @Test
+    public void CopySchemaWithoutNoArgConstructor() {
+        Schema schema = new CustomSchema("custom");
+        try {
+            schema.copy();
+            Assert.fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains(CustomSchema.class.getName()));
+        }
+
+        Schema copy = new CopyableCustomSchema("custom").description("copied").copy();
+        Assert.assertEquals(copy.getClass(), CopyableCustomSchema.class);
+        Assert.assertEquals(copy.getDescription(), "copied");
+    }
+
+    static class CustomSchema extends Schema<Object> {
+        CustomSchema(String type) {
+            super(type, null);
+        }
+    }
+
+    static class CopyableCustomSchema extends CustomSchema {
+        CopyableCustomSchema(String type) {
+            super(type);
+        }
+
+        @Override
+        protected Schema newInstance() {
+            return new CopyableCustomSchema(getType());
+        }
+    }
 }